@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.benchmark;
+
+import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import jakarta.persistence.Entity;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The sample entity of the benchmarks; the annotation processor generates its DTO and codecs.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Getter
+@Setter
+@Entity
+@HyperResource(path = "/api/products", repositoryPackage = "repositories")
+public class Product extends HyperEntity {
+
+  /**
+   * The display name.
+   */
+  private String name;
+
+  /**
+   * The unit price.
+   */
+  private BigDecimal price;
+
+  /**
+   * The units in stock.
+   */
+  private int stock;
+
+  /**
+   * Whether the product can be ordered.
+   */
+  private boolean active;
+
+  /**
+   * The stock keeping unit.
+   */
+  private UUID sku;
+
+  /**
+   * The day the product was released.
+   */
+  private LocalDate releasedOn;
+}
@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import com.eorghe.hyperapi.benchmark.dto.ProductDTO;
+import com.eorghe.hyperapi.benchmark.dto.ProductDTOJsonCodec;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the generated {@link ProductDTOJsonCodec} with JSON-B, writing and reading the same
+ * page of DTOs.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate ({@code gc.alloc.rate.norm}) next
+ * to the throughput:
+ * <pre>
+ * java -jar hyperapi-benchmarks/target/benchmarks.jar JsonCodecBenchmark -prof gc
+ * </pre>
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+  /**
+   * The generic type of a page, as the resource methods declare it.
+   */
+  private static final Type PAGE = new ArrayList<ProductDTO>() { }.getClass().getGenericSuperclass();
+
+  /**
+   * The number of DTOs per request body: a single entity and a page.
+   */
+  @Param({"1", "100"})
+  int size;
+
+  /**
+   * JSON-B, the path without a codec.
+   */
+  private Jsonb jsonb;
+
+  /**
+   * The reader and writer registered by the extension, backed by the generated codec.
+   */
+  private JsonCodecProvider provider;
+
+  /**
+   * The DTOs to write.
+   */
+  private List<ProductDTO> page;
+
+  /**
+   * The encoded page to read.
+   */
+  private byte[] json;
+
+  /**
+   * Builds the page and both serializers.
+   */
+  @Setup
+  public void setUp() {
+    jsonb = JsonbBuilder.create();
+    provider = new JsonCodecProvider();
+    provider.codecs = JsonCodecs.of(jsonb, new ProductDTOJsonCodec());
+
+    page = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ProductDTO dto = new ProductDTO();
+      dto.setId((long) i);
+      dto.setCreatedBy("benchmark");
+      dto.setCreatedOn(new Date(1_700_000_000_000L + i));
+      dto.setName("Product " + i);
+      dto.setPrice(BigDecimal.valueOf(1999 + i, 2));
+      dto.setStock(i);
+      dto.setActive(i % 2 == 0);
+      dto.setSku(new UUID(i, i));
+      dto.setReleasedOn(LocalDate.of(2024, 1, 1).plusDays(i));
+      page.add(dto);
+    }
+    json = jsonb.toJson(page).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Closes JSON-B.
+   *
+   * @throws Exception if JSON-B cannot be closed
+   */
+  @TearDown
+  public void tearDown() throws Exception {
+    jsonb.close();
+  }
+
+  /**
+   * Writes the page with JSON-B.
+   *
+   * @return the encoded page
+   */
+  @Benchmark
+  public byte[] writeJsonb() {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    jsonb.toJson(page, PAGE, stream);
+    return stream.toByteArray();
+  }
+
+  /**
+   * Writes the page with the generated codec.
+   *
+   * @return the encoded page
+   * @throws IOException never, the stream is in memory
+   */
+  @Benchmark
+  public byte[] writeCodec() throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    provider.writeTo(page, List.class, PAGE, null, MediaType.APPLICATION_JSON_TYPE, null, stream);
+    return stream.toByteArray();
+  }
+
+  /**
+   * Reads the page with JSON-B.
+   *
+   * @return the decoded page
+   */
+  @Benchmark
+  public List<ProductDTO> readJsonb() {
+    return jsonb.fromJson(new ByteArrayInputStream(json), PAGE);
+  }
+
+  /**
+   * Reads the page with the generated codec.
+   *
+   * @return the decoded page
+   * @throws IOException never, the stream is in memory
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Object readCodec() throws IOException {
+    return provider.readFrom((Class<Object>) (Class<?>) List.class, PAGE, null,
+        MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(json));
+  }
+}
@@ -23,11 +23,38 @@
  */
 package com.eorghe.hyperapi.deployment;
 
+import com.eorghe.hyperapi.HyperApiRecorder;
 import com.eorghe.hyperapi.controller.RestController;
+import com.eorghe.hyperapi.events.EntityEmitter;
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
 import com.eorghe.hyperapi.registry.EntityRegistry;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
 
 /**
  * HyperApiProcessor is a build step processor for the HyperAPI extension.
@@ -46,6 +73,44 @@ public final class HyperApiProcessor {
    */
   private static final String FEATURE_NAME = "hyperapi";
 
+  /**
+   * The name of the event emitter interface.
+   */
+  private static final DotName ENTITY_EMITTER = DotName.createSimple(EntityEmitter.class);
+
+  /**
+   * The name of the annotation running an endpoint on a virtual thread.
+   */
+  private static final DotName RUN_ON_VIRTUAL_THREAD = DotName.createSimple(RunOnVirtualThread.class);
+
+  /**
+   * The name of the annotation exposing an entity.
+   */
+  private static final DotName HYPER_RESOURCE = DotName.createSimple(HyperResource.class);
+
+  /**
+   * The name of the Hibernate annotation declaring the cache of an entity or collection.
+   */
+  private static final DotName HIBERNATE_CACHE = DotName.createSimple("org.hibernate.annotations.Cache");
+
+  /**
+   * The readiness check of the cache warm-up, which needs SmallRye Health.
+   */
+  private static final String WARM_UP_READINESS = "com.eorghe.hyperapi.warmup.WarmUpReadiness";
+
+  /**
+   * The name of the application scope annotation.
+   */
+  private static final DotName APPLICATION_SCOPED = DotName.createSimple(ApplicationScoped.class);
+
+  /**
+   * The names of the annotations mapping a collection.
+   */
+  private static final List<DotName> COLLECTIONS = List.of(
+      DotName.createSimple("jakarta.persistence.OneToMany"),
+      DotName.createSimple("jakarta.persistence.ManyToMany"),
+      DotName.createSimple("jakarta.persistence.ElementCollection"));
+
   /**
    * Registers the HyperAPI feature with Quarkus.
    *
@@ -76,4 +141,138 @@ public final class HyperApiProcessor {
         .setUnremovable()
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Registers the readiness check of the cache warm-up when SmallRye Health is present.
+   *
+   * <p>The health extension is optional, so the check is referenced by name and is not a bean
+   * unless this step adds it.
+   *
+   * @param capabilities the capabilities of the application
+   * @param beans the producer of the additional beans
+   */
+  @BuildStep
+  void healthChecks(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> beans) {
+    if (!capabilities.isPresent(Capability.SMALLRYE_HEALTH)) {
+      return;
+    }
+    beans.produce(AdditionalBeanBuildItem.builder()
+        .addBeanClasses(WARM_UP_READINESS)
+        .setDefaultScope(APPLICATION_SCOPED)
+        .setUnremovable()
+        .build());
+  }
+
+  /**
+   * Reports at startup the emitter code paths that may pin virtual threads.
+   *
+   * <p>Only runs when at least one endpoint is annotated with `@RunOnVirtualThread`. Every
+   * `EntityEmitter` implementation is scanned for synchronized methods and blocks, since events
+   * are emitted on the request thread.
+   *
+   * @param recorder the recorder replaying the report at runtime
+   * @param combinedIndex the index of the application classes
+   */
+  @BuildStep
+  @Record(ExecutionTime.RUNTIME_INIT)
+  void reportPinning(HyperApiRecorder recorder, CombinedIndexBuildItem combinedIndex) {
+    IndexView index = combinedIndex.getIndex();
+    if (index.getAnnotations(RUN_ON_VIRTUAL_THREAD).isEmpty()) {
+      return;
+    }
+
+    List<String> sections = new ArrayList<>();
+    for (ClassInfo emitter : index.getAllKnownImplementors(ENTITY_EMITTER)) {
+      sections.addAll(PinningScanner.scan(emitter));
+    }
+    if (!sections.isEmpty()) {
+      recorder.reportPinning(sections);
+    }
+  }
+
+  /**
+   * Caches the entities annotated with `@Cache(secondLevel = true)` in the Hibernate second-level
+   * cache.
+   *
+   * <p>Each entity and its collection fields are marked as cached `READ_WRITE` in the Hibernate
+   * mapping once it is built, and their regions are bounded by `@Cache(maximumSize)` and expire
+   * entries idle for `@Cache(ttlSeconds)`. The query cache is turned on when an entity sets
+   * `@Cache(queryCache)`. The settings apply to the default persistence unit.
+   *
+   * <p>The mapping is changed rather than the entity classes, since the ORM extension reads the
+   * annotations from the Jandex index, which would not see annotations added to the bytecode.
+   *
+   * @param recorder the recorder creating the Hibernate integration listener
+   * @param combinedIndex the index of the application classes
+   * @param integrations the producer of the Hibernate integration
+   */
+  @BuildStep
+  @Record(ExecutionTime.STATIC_INIT)
+  void secondLevelCache(HyperApiRecorder recorder, CombinedIndexBuildItem combinedIndex,
+      BuildProducer<HibernateOrmIntegrationStaticConfiguredBuildItem> integrations) {
+    Map<String, String> settings = new TreeMap<>();
+    List<String> entities = new ArrayList<>();
+    List<String> collections = new ArrayList<>();
+    for (AnnotationInstance resource : combinedIndex.getIndex().getAnnotations(HYPER_RESOURCE)) {
+      AnnotationValue cacheValue = resource.value("cache");
+      if (resource.target().kind() != AnnotationTarget.Kind.CLASS || cacheValue == null) {
+        continue;
+      }
+      AnnotationInstance cache = cacheValue.asNested();
+      if (!(Boolean) cacheAttribute(cache, "secondLevel")) {
+        continue;
+      }
+
+      ClassInfo entity = resource.target().asClass();
+      String entityName = entity.name().toString();
+      Set<String> regions = new HashSet<>();
+      regions.add(entityName);
+      for (FieldInfo field : entity.fields()) {
+        if (COLLECTIONS.stream().anyMatch(field::hasAnnotation)) {
+          String role = entityName + "." + field.name();
+          regions.add(role);
+          if (!field.hasAnnotation(HIBERNATE_CACHE)) {
+            collections.add(role);
+          }
+        }
+      }
+      if (!entity.hasDeclaredAnnotation(HIBERNATE_CACHE)) {
+        entities.add(entityName);
+      }
+
+      String maximumSize = cacheAttribute(cache, "maximumSize").toString();
+      String ttlSeconds = cacheAttribute(cache, "ttlSeconds").toString();
+      for (String region : regions) {
+        settings.put("hibernate.cache." + region + ".memory.object-count", maximumSize);
+        settings.put("hibernate.cache." + region + ".expiration.max-idle", ttlSeconds);
+      }
+      if ((Boolean) cacheAttribute(cache, "queryCache")) {
+        settings.put("hibernate.cache.use_query_cache", "true");
+      }
+    }
+    if (!settings.isEmpty()) {
+      integrations.produce(new HibernateOrmIntegrationStaticConfiguredBuildItem(FEATURE_NAME,
+          PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME)
+          .setInitListener(recorder.secondLevelCache(settings, entities, collections)));
+    }
+  }
+
+  /**
+   * Reads an attribute of a `@Cache` instance, falling back to its declared default.
+   *
+   * @param cache the annotation instance
+   * @param name the name of the attribute
+   * @return the value of the attribute
+   */
+  private static Object cacheAttribute(AnnotationInstance cache, String name) {
+    AnnotationValue value = cache.value(name);
+    if (value != null) {
+      return value.value();
+    }
+    try {
+      return Cache.class.getMethod(name).getDefaultValue();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Unknown @Cache attribute " + name, e);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * PinningScanner finds the synchronized sections of a class that may pin virtual threads.
+ *
+ * <p>Synchronized methods are read from the Jandex index, synchronized blocks from the
+ * `monitorenter` instructions of the class bytecode.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class PinningScanner {
+
+  private PinningScanner() {
+  }
+
+  /**
+   * Scans the given class for synchronized methods and blocks.
+   *
+   * @param classInfo the class to scan
+   * @return the synchronized sections, formatted as `Class#method (kind)`
+   */
+  static List<String> scan(ClassInfo classInfo) {
+    String className = classInfo.name().toString();
+    List<String> sections = new ArrayList<>();
+
+    for (MethodInfo method : classInfo.methods()) {
+      if (Modifier.isSynchronized(method.flags())) {
+        sections.add(className + "#" + method.name() + " (synchronized method)");
+      }
+    }
+
+    String resource = className.replace('.', '/') + ".class";
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    try (InputStream in = classLoader.getResourceAsStream(resource)) {
+      if (in != null) {
+        new ClassReader(in).accept(new MonitorVisitor(className, sections), ClassReader.SKIP_DEBUG);
+      }
+    } catch (IOException e) {
+      // The bytecode is not readable, only synchronized methods are reported
+    }
+    return sections;
+  }
+
+  /**
+   * Collects the methods containing a `monitorenter` instruction.
+   */
+  private static final class MonitorVisitor extends ClassVisitor {
+
+    private final String className;
+    private final List<String> sections;
+
+    MonitorVisitor(String className, List<String> sections) {
+      super(Opcodes.ASM9);
+      this.className = className;
+      this.sections = sections;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(
+        int access, String name, String descriptor, String signature, String[] exceptions) {
+      return new MethodVisitor(Opcodes.ASM9) {
+        private boolean reported;
+
+        @Override
+        public void visitInsn(int opcode) {
+          if (opcode == Opcodes.MONITORENTER && !reported) {
+            reported = true;
+            sections.add(className + "#" + name + " (synchronized block)");
+          }
+        }
+      };
+    }
+  }
+}
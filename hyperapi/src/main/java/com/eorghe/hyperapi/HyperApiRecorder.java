@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi;
+
+import com.eorghe.hyperapi.cache.SecondLevelCacheListener;
+import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
+import io.quarkus.runtime.annotations.Recorder;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HyperApiRecorder replays at application startup the findings and settings of the HyperAPI build
+ * steps.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Recorder
+public class HyperApiRecorder {
+
+  /**
+   * Logger instance for logging the startup reports.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(HyperApiRecorder.class);
+
+  /**
+   * Reports the synchronized sections of event emitters invoked from virtual threads.
+   *
+   * <p>A virtual thread holding a monitor stays pinned to its carrier thread, so a blocking call
+   * inside such a section blocks the carrier as well.
+   *
+   * @param sections the synchronized sections, formatted as `Class#method (kind)`
+   */
+  public void reportPinning(List<String> sections) {
+    LOG.warn("HyperAPI resources run on virtual threads, but {} emitter section(s) may pin them:",
+        sections.size());
+    sections.forEach(section -> LOG.warn("  {}", section));
+  }
+
+  /**
+   * Creates the listener contributing the second-level cache settings to Hibernate.
+   *
+   * @param settings    the Hibernate settings, keyed by property name
+   * @param entities    the names of the entities to cache
+   * @param collections the roles of the collections to cache
+   * @return the listener
+   */
+  public HibernateOrmIntegrationStaticInitListener secondLevelCache(Map<String, String> settings,
+      List<String> entities, List<String> collections) {
+    return new SecondLevelCacheListener(settings, entities, collections);
+  }
+}
@@ -23,8 +23,10 @@
  */
 package com.eorghe.hyperapi;
 
+import com.eorghe.hyperapi.cache.HotKeysRoute;
 import com.eorghe.hyperapi.llm.LLMDocsRoute;
 import com.eorghe.hyperapi.registry.EntityRegistry;
+import com.eorghe.hyperapi.warmup.CacheWarmUp;
 import io.quarkus.runtime.StartupEvent;
 import io.vertx.ext.web.Router;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -42,6 +44,8 @@ import org.slf4j.LoggerFactory;
  *   <li>Logging the startup of the HyperAPI extension.</li>
  *   <li>Registering entities discovered by the `EntityRegistry`.</li>
  *   <li>Registering routes for the LLM documentation service.</li>
+ *   <li>Registering the hot keys admin route.</li>
+ *   <li>Starting the cache warm-up of the registered entities.</li>
  * </ul>
  *
  * @author Dorin Brage
@@ -68,12 +72,24 @@ public class HyperApiStartupHandler {
   @Inject
   LLMDocsRoute llmDocsRoute;
 
+  /**
+   * The admin route listing the hottest ids of each entity.
+   */
+  @Inject
+  HotKeysRoute hotKeysRoute;
+
   /**
    * The registry for managing discovered JPA entities.
    */
   @Inject
   EntityRegistry entityRegistry;
 
+  /**
+   * The warm-up filling the caches of the registered entities.
+   */
+  @Inject
+  CacheWarmUp cacheWarmUp;
+
   /**
    * Handles the application startup event.
    *
@@ -83,6 +99,8 @@ public class HyperApiStartupHandler {
    *   <li>Logs the successful startup of the HyperAPI extension.</li>
    *   <li>Iterates through all registered entities and logs their names.</li>
    *   <li>Registers the LLM documentation route with the application's router.</li>
+   *   <li>Registers the hot keys admin route, if enabled.</li>
+   *   <li>Starts the cache warm-up, which keeps the node not ready until it is done.</li>
    * </ul>
    *
    * @param ev the startup event observed by the application
@@ -101,5 +119,8 @@ public class HyperApiStartupHandler {
             });
 
     llmDocsRoute.register(router);
+    hotKeysRoute.register(router);
+
+    cacheWarmUp.start(entityRegistry.all());
   }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.codec.JsonCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.IllegalReferenceCountException;
+import jakarta.ws.rs.core.EntityTag;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * EncodedResponse holds the serialized body of a cached GET response.
+ *
+ * <p>The body is written to the response as is, without mapping or serializing the DTOs again,
+ * and its entity tag is computed once when the response is cached.
+ *
+ * <p>The body is a reference counted buffer. The {@link ResponseCache} holds one reference and
+ * releases it when the entry is removed, and a request writing the body holds another one
+ * between {@link #retain()} and {@link #release()}, so an evicted off-heap body is freed as soon
+ * as the last response using it is written.
+ *
+ * @param body       the JSON body
+ * @param etag       the strong entity tag of the body
+ * @param nextCursor the cursor of the next page in keyset mode, or null
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record EncodedResponse(ByteBuf body, EntityTag etag, String nextCursor) {
+
+  /**
+   * The number of digest bytes kept in the entity tag.
+   */
+  private static final int ETAG_BYTES = 16;
+
+  /**
+   * Allocates the off-heap bodies. Direct buffers keep their cleaner, so a body that was never
+   * cached, and thus never released, is still freed by the garbage collector.
+   */
+  private static final ByteBufAllocator DIRECT = new UnpooledByteBufAllocator(true, true, false);
+
+  /**
+   * Allocates the heap bodies.
+   */
+  private static final ByteBufAllocator HEAP = UnpooledByteBufAllocator.DEFAULT;
+
+  /**
+   * Serializes a value and computes its entity tag.
+   *
+   * <p>The JSON is written straight into the buffer, off heap without an intermediate copy on the
+   * heap.
+   *
+   * @param codecs     the JSON codecs
+   * @param value      the DTO, list of DTOs or other value to serialize
+   * @param nextCursor the cursor of the next page in keyset mode, or null
+   * @param offHeap    whether the body is kept in direct memory
+   * @return the encoded response
+   */
+  public static EncodedResponse encode(JsonCodecs codecs, Object value, String nextCursor,
+      boolean offHeap) {
+    ByteBuf body = offHeap ? DIRECT.directBuffer() : HEAP.heapBuffer();
+    try (OutputStream stream = new ByteBufOutputStream(body)) {
+      codecs.toJson(value, stream);
+    } catch (IOException e) {
+      body.release();
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException | Error e) {
+      body.release();
+      throw e;
+    }
+    if (offHeap && body.capacity() > body.readableBytes()) {
+      // Give back the slack left by the buffer growing while the body was written
+      body.capacity(body.readableBytes());
+    }
+    return new EncodedResponse(body, new EntityTag(digest(body)), nextCursor);
+  }
+
+  /**
+   * Returns the size of the body in bytes.
+   *
+   * @return the body size
+   */
+  public int size() {
+    return body.readableBytes();
+  }
+
+  /**
+   * Takes a reference on the body before writing it.
+   *
+   * @return true if the body is still available, false if it was evicted and released
+   */
+  public boolean retain() {
+    try {
+      body.retain();
+      return true;
+    } catch (IllegalReferenceCountException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gives back a reference taken by {@link #retain()}, or the reference of the cache.
+   */
+  public void release() {
+    body.release();
+  }
+
+  /**
+   * Copies the body to a stream, leaving the buffer untouched for the other requests.
+   *
+   * @param stream the stream
+   * @throws IOException if the stream cannot be written
+   */
+  public void writeTo(OutputStream stream) throws IOException {
+    body.getBytes(body.readerIndex(), stream, body.readableBytes());
+  }
+
+  private static String digest(ByteBuf body) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      sha256.update(body.nioBuffer());
+      return HexFormat.of().formatHex(sha256.digest(), 0, ETAG_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * EntityCache keeps the DTOs read by id for the resources annotated with `@Cache(enabled = true)`.
+ *
+ * <p>Each entity class gets its own Caffeine cache, bounded by `@Cache(maximumSize)` and expiring
+ * entries `@Cache(ttlSeconds)` after they were loaded. Caffeine evicts with W-TinyLFU, so entities
+ * read often survive a scan over many entities read once. With `@Cache(pinHot)`, the hottest ids
+ * ranked by the {@link HotKeyTracker} do not expire.
+ *
+ * <p>Entries are dropped when the entity is written, and dropped again once the transaction
+ * completes, so a concurrent request cannot cache the row from before the commit.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class EntityCache {
+
+  /**
+   * The registry used to drop entries after the current transaction completes.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * Coalesces the concurrent misses of an id into a single load.
+   */
+  @Inject
+  SingleFlight singleFlight;
+
+  /**
+   * Ranks the hot ids, which `@Cache(pinHot)` keeps past their TTL.
+   */
+  @Inject
+  HotKeyTracker hotKeys;
+
+  /**
+   * The caches, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, AsyncCache<Long, Object>> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached DTO of an entity, loading it on a miss.
+   *
+   * <p>Concurrent misses on the same id wait for a single load, see {@link SingleFlight}. A null
+   * result is not cached, and neither is the result of an id not yet admitted by
+   * `@Cache(admitAfter)`.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param id          the ID of the entity
+   * @param admit       whether a loaded DTO may be cached
+   * @param loader      loads the DTO of the entity, returning null if it does not exist
+   * @param <T>         the DTO type
+   * @return the DTO, or null if the entity does not exist
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Class<?> entityClass, Cache config, Long id, boolean admit, Supplier<T> loader) {
+    return (T) singleFlight.get(cache(entityClass, config), id, loader::get, admit);
+  }
+
+  /**
+   * Drops the cached DTOs of entities, again after the current transaction if one is active.
+   *
+   * <p>The cache is created if needed, so a first read racing with the write is dropped as well.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param ids         the IDs of the entities
+   */
+  public void invalidate(Class<?> entityClass, Cache config, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    AsyncCache<Long, Object> cache = cache(entityClass, config);
+    List<Long> written = List.copyOf(ids);
+    AfterCompletion.invalidate(transactionRegistry, () -> cache.synchronous().invalidateAll(written));
+  }
+
+  /**
+   * Drops every cached DTO of an entity class.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidateAll(Class<?> entityClass) {
+    AsyncCache<Long, Object> cache = caches.get(entityClass);
+    if (cache != null) {
+      cache.synchronous().invalidateAll();
+    }
+  }
+
+  /**
+   * Returns the ids of an entity class read most often, as ranked by the eviction policy.
+   *
+   * @param entityClass the entity class
+   * @param limit       the maximum number of ids
+   * @return the ids, hottest first
+   */
+  public List<Long> hottest(Class<?> entityClass, int limit) {
+    AsyncCache<Long, Object> cache = caches.get(entityClass);
+    if (cache == null) {
+      return List.of();
+    }
+    return cache.synchronous().policy().eviction()
+        .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+        .orElse(List.of());
+  }
+
+  private AsyncCache<Long, Object> cache(Class<?> entityClass, Cache config) {
+    return caches.computeIfAbsent(entityClass, type -> build(type, config));
+  }
+
+  private AsyncCache<Long, Object> build(Class<?> entityClass, Cache config) {
+    return Caffeine.newBuilder()
+        .maximumSize(config.maximumSize())
+        .expireAfter(hotKeys.<Long, Object>expiry(entityClass, config))
+        .buildAsync();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FrequencySketch estimates how often each id was read, with a count-min sketch.
+ *
+ * <p>The sketch holds {@link #DEPTH} rows of counters, and an id increments one counter per row,
+ * picked by a different hash. Its estimate is the smallest of those counters, which can only
+ * over-count when every row collides. Counters are updated with atomic increments, without
+ * locks or allocations.
+ *
+ * <p>Once the sketch has recorded ten times as many reads as it has counters per row, every
+ * counter is halved, so ids that were hot long ago fade away.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class FrequencySketch {
+
+  /**
+   * The number of rows, each indexed by its own hash.
+   */
+  static final int DEPTH = 4;
+
+  /**
+   * The seeds of the row hashes.
+   */
+  private static final long[] SEEDS = {
+      0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+  /**
+   * The counters, row after row.
+   */
+  private final AtomicIntegerArray counters;
+
+  /**
+   * The mask of a counter index within a row.
+   */
+  private final int mask;
+
+  /**
+   * The number of reads after which the counters are halved.
+   */
+  private final long sampleSize;
+
+  /**
+   * The number of reads recorded since the counters were last halved.
+   */
+  private final AtomicLong reads = new AtomicLong();
+
+  /**
+   * Runs after the counters were halved.
+   */
+  private final Runnable onHalve;
+
+  /**
+   * Creates a sketch.
+   *
+   * @param width   the number of counters per row, rounded up to a power of two
+   * @param onHalve runs after the counters were halved
+   */
+  FrequencySketch(int width, Runnable onHalve) {
+    int rowWidth = width <= 16 ? 16 : Integer.highestOneBit(width - 1) << 1;
+    this.counters = new AtomicIntegerArray(DEPTH * rowWidth);
+    this.mask = rowWidth - 1;
+    this.sampleSize = 10L * rowWidth;
+    this.onHalve = onHalve;
+  }
+
+  /**
+   * Records a read of an id.
+   *
+   * @param id the id
+   * @return the estimated number of reads of the id, including this one
+   */
+  long increment(long id) {
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters.incrementAndGet(index(id, row)));
+    }
+    if (reads.incrementAndGet() % sampleSize == 0) {
+      halve();
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the estimated number of reads of an id.
+   *
+   * @param id the id
+   * @return the estimated number of reads
+   */
+  long estimate(long id) {
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters.get(index(id, row)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Halves every counter. Increments racing with the halving may be lost, which only lowers the
+   * estimates slightly.
+   */
+  private void halve() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.set(i, counters.get(i) >>> 1);
+    }
+    onHalve.run();
+  }
+
+  /**
+   * Computes the index of the counter of an id in a row.
+   *
+   * @param id  the id
+   * @param row the row
+   * @return the index in the counters array
+   */
+  private int index(long id, int row) {
+    long hash = (id + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+    hash ^= hash >>> 29;
+    return row * (mask + 1) + ((int) (hash ^ (hash >>> 32)) & mask);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * HotKeyTracker estimates which ids of each entity class are read the most.
+ *
+ * <p>Every get by id is recorded in a {@link FrequencySketch} of its entity class, and ids whose
+ * estimate is among the `hyperapi.hot-keys.top` highest are kept in a {@link TopK} heap. Recording
+ * a read neither locks nor allocates, so it stays on the request path of every resource.
+ *
+ * <p>The estimates drive `@Cache(admitAfter)`, which keeps ids read once out of the caches, and
+ * `@Cache(pinHot)`, which keeps the hottest ids cached past their TTL.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class HotKeyTracker {
+
+  /**
+   * The lifetime in nanoseconds of a pinned entry, which Caffeine caps to never.
+   */
+  private static final long PINNED = Long.MAX_VALUE;
+
+  /**
+   * The number of hottest ids kept per entity class.
+   */
+  @ConfigProperty(name = "hyperapi.hot-keys.top", defaultValue = "100")
+  int top;
+
+  /**
+   * The number of counters per row of the sketch of each entity class.
+   */
+  @ConfigProperty(name = "hyperapi.hot-keys.width", defaultValue = "4096")
+  int width;
+
+  /**
+   * The sketches and heaps, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, Region> regions = new ConcurrentHashMap<>();
+
+  /**
+   * The sketch and heap of an entity class.
+   */
+  private static final class Region {
+
+    /**
+     * The hottest ids.
+     */
+    private final TopK hottest;
+
+    /**
+     * The read estimates.
+     */
+    private final FrequencySketch sketch;
+
+    private Region(int top, int width) {
+      this.hottest = new TopK(top);
+      this.sketch = new FrequencySketch(width, hottest::halve);
+    }
+  }
+
+  /**
+   * Records a read of an entity.
+   *
+   * @param entityClass the entity class
+   * @param id          the ID of the entity
+   * @return the estimated number of recent reads of the entity, including this one
+   */
+  public long record(Class<?> entityClass, Long id) {
+    Region region = regions.get(entityClass);
+    if (region == null) {
+      region = regions.computeIfAbsent(entityClass, type -> new Region(top, width));
+    }
+    long reads = region.sketch.increment(id);
+    region.hottest.offer(id, reads);
+    return reads;
+  }
+
+  /**
+   * Checks whether an entity is among the hottest of its class.
+   *
+   * @param entityClass the entity class
+   * @param id          the ID of the entity
+   * @return true if the entity is among the `hyperapi.hot-keys.top` most read
+   */
+  public boolean isHot(Class<?> entityClass, Long id) {
+    Region region = regions.get(entityClass);
+    return region != null && region.hottest.contains(id);
+  }
+
+  /**
+   * Returns the expiry of the cached entries of an entity class.
+   *
+   * <p>Entries expire `@Cache(ttlSeconds)` after they were loaded. With `@Cache(pinHot)`, the
+   * entries of the ids that are among the hottest when they are loaded never expire, and are only
+   * dropped when written or evicted by size.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param <K>         the key type, an id or another key that is never pinned
+   * @param <V>         the value type
+   * @return the expiry
+   */
+  public <K, V> Expiry<K, V> expiry(Class<?> entityClass, Cache config) {
+    long ttl = TimeUnit.SECONDS.toNanos(config.ttlSeconds());
+    return new Expiry<>() {
+      @Override
+      public long expireAfterCreate(K key, V value, long currentTime) {
+        return config.pinHot() && key instanceof Long id && isHot(entityClass, id) ? PINNED : ttl;
+      }
+
+      @Override
+      public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+      }
+
+      @Override
+      public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+      }
+    };
+  }
+
+  /**
+   * Returns the hottest ids of an entity class.
+   *
+   * @param entityClass the entity class
+   * @return the ids with their estimates, hottest first
+   */
+  public List<HotKey> hottest(Class<?> entityClass) {
+    Region region = regions.get(entityClass);
+    return region != null ? region.hottest.snapshot() : List.of();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.registry.EntityRegistry;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HotKeysRoute registers the `/hyperapi/hot-keys` admin route, listing the hottest ids of each
+ * entity as ranked by the {@link HotKeyTracker}.
+ *
+ * <p>`GET /hyperapi/hot-keys` returns every entity, and `GET /hyperapi/hot-keys/{entity}` the
+ * entity with the given simple name, e.g.
+ * `{"Product": [{"id": 17, "reads": 532}, {"id": 4, "reads": 210}]}`.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class HotKeysRoute {
+
+  /**
+   * Logger instance for logging messages related to the route.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(HotKeysRoute.class);
+
+  /**
+   * The path of the route.
+   */
+  static final String PATH = "/hyperapi/hot-keys";
+
+  /**
+   * Whether the route is registered. The route is not secured, and is disabled by default.
+   */
+  @ConfigProperty(name = "hyperapi.admin.hot-keys.enabled", defaultValue = "false")
+  boolean enabled;
+
+  /**
+   * The read estimates.
+   */
+  @Inject
+  HotKeyTracker hotKeys;
+
+  /**
+   * Registry containing all entities in the system.
+   */
+  @Inject
+  EntityRegistry registry;
+
+  /**
+   * Registers the route with the provided Vert.x router, if enabled.
+   *
+   * @param router the Vert.x router to register the route with
+   */
+  public void register(Router router) {
+    if (!enabled) {
+      return;
+    }
+    router.get(PATH).handler(this::all);
+    router.get(PATH + "/:entity").handler(this::one);
+    LOG.info("Hot keys route registered at {}", PATH);
+  }
+
+  /**
+   * Lists the hottest ids of every entity.
+   *
+   * @param ctx the routing context for the HTTP request
+   */
+  private void all(RoutingContext ctx) {
+    JsonObject body = new JsonObject();
+    registry.all().forEach(entityClass -> body.put(entityClass.getSimpleName(), hottest(entityClass)));
+    ctx.json(body);
+  }
+
+  /**
+   * Lists the hottest ids of the entity named in the path.
+   *
+   * @param ctx the routing context for the HTTP request
+   */
+  private void one(RoutingContext ctx) {
+    Optional<Class<?>> entityClass = registry.bySimpleName(ctx.pathParam("entity"));
+    if (entityClass.isEmpty()) {
+      ctx.response().setStatusCode(404).end();
+      return;
+    }
+    ctx.json(new JsonObject().put(entityClass.get().getSimpleName(), hottest(entityClass.get())));
+  }
+
+  private JsonArray hottest(Class<?> entityClass) {
+    JsonArray ids = new JsonArray();
+    hotKeys.hottest(entityClass)
+        .forEach(hot -> ids.add(new JsonObject().put("id", hot.id()).put("reads", hot.reads())));
+    return ids;
+  }
+}
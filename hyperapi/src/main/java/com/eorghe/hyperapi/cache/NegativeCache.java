@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * NegativeCache remembers the ids that were not found, for the resources annotated with
+ * `@Cache(maximumMissing)`.
+ *
+ * <p>Missing ids are kept apart from the found entities, in a cache of their own bounded by
+ * `@Cache(maximumMissing)` and expiring after `@Cache(missingTtlSeconds)`. Requesting many
+ * unknown ids therefore cannot evict the entities of the positive caches.
+ *
+ * <p>Writing an id, including creating it, drops it from the cache. Every write also bumps a
+ * generation, so a lookup that started before the write cannot record the id as missing after it.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class NegativeCache {
+
+  /**
+   * The missing ids of an entity class and its write generation.
+   */
+  private record Region(com.github.benmanes.caffeine.cache.Cache<Long, Boolean> missing,
+                        AtomicLong generation) {
+
+  }
+
+  /**
+   * The registry used to drop ids after the current transaction completes.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * The regions, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, Region> regions = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the value of an id, or null right away if the id is known to be missing.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param id          the ID of the entity
+   * @param loader      loads the value, returning null if the entity does not exist
+   * @param <T>         the value type
+   * @return the value, or null if the entity does not exist
+   */
+  public <T> T get(Class<?> entityClass, Cache config, Long id, Supplier<T> loader) {
+    Region region = regions.computeIfAbsent(entityClass, type -> build(config));
+    if (region.missing().getIfPresent(id) != null) {
+      return null;
+    }
+    long generation = region.generation().get();
+    T value = loader.get();
+    if (value == null) {
+      region.missing().put(id, Boolean.TRUE);
+      // A write since the lookup started may have created the id, drop what was just recorded
+      if (region.generation().get() != generation) {
+        region.missing().invalidate(id);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Drops written ids, again after the current transaction if one is active.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param ids         the IDs of the written entities
+   */
+  public void invalidate(Class<?> entityClass, Cache config, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    Region region = regions.computeIfAbsent(entityClass, type -> build(config));
+    List<Long> written = List.copyOf(ids);
+    AfterCompletion.invalidate(transactionRegistry, () -> {
+      region.generation().incrementAndGet();
+      region.missing().invalidateAll(written);
+    });
+  }
+
+  /**
+   * Drops every id of an entity class remembered as missing.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidateAll(Class<?> entityClass) {
+    Region region = regions.get(entityClass);
+    if (region != null) {
+      region.generation().incrementAndGet();
+      region.missing().invalidateAll();
+    }
+  }
+
+  private static Region build(Cache config) {
+    return new Region(Caffeine.newBuilder()
+        .maximumSize(config.maximumMissing())
+        .expireAfterWrite(Duration.ofSeconds(config.missingTtlSeconds()))
+        .build(), new AtomicLong());
+  }
+}
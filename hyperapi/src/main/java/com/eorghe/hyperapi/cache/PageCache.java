@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * PageCache keeps the list pages of the resources annotated with `@Cache(maximumPages)`.
+ *
+ * <p>Every entity class has a generation counter, and pages are cached under the generation they
+ * were read at. A write bumps the generation, so the pages read before it are never matched
+ * again and simply age out of the cache; nothing has to be scanned or evicted on a write.
+ *
+ * <p>The generation is bumped when the write starts and again once its transaction completes,
+ * so a page read while the transaction commits cannot outlive it.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class PageCache {
+
+  /**
+   * A page cached under the generation of its entity class.
+   */
+  private record Key(long generation, PageKey page) {
+
+  }
+
+  /**
+   * The registry used to bump generations after the current transaction completes.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * Coalesces the concurrent misses of a page into a single load.
+   */
+  @Inject
+  SingleFlight singleFlight;
+
+  /**
+   * The write generations, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  /**
+   * The caches, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, AsyncCache<Key, Object>> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached page, loading it on a miss.
+   *
+   * <p>Concurrent misses on the same page wait for a single load, see {@link SingleFlight}.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param page        the key of the page
+   * @param loader      loads the page
+   * @param <T>         the page type
+   * @return the page
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Class<?> entityClass, Cache config, PageKey page, Supplier<T> loader) {
+    Key key = new Key(generationOf(entityClass), page);
+    return (T) singleFlight.get(caches.computeIfAbsent(entityClass, type -> build(config)), key, loader::get);
+  }
+
+  /**
+   * Bumps the generation of an entity class, again after the current transaction if one is
+   * active.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidate(Class<?> entityClass) {
+    AfterCompletion.invalidate(transactionRegistry, generation(entityClass)::incrementAndGet);
+  }
+
+  /**
+   * Returns the current write generation of an entity class.
+   *
+   * @param entityClass the entity class
+   * @return the generation, starting at 0
+   */
+  public long generationOf(Class<?> entityClass) {
+    return generation(entityClass).get();
+  }
+
+  private AtomicLong generation(Class<?> entityClass) {
+    return generations.computeIfAbsent(entityClass, type -> new AtomicLong());
+  }
+
+  private static AsyncCache<Key, Object> build(Cache config) {
+    return Caffeine.newBuilder()
+        .maximumSize(config.maximumPages())
+        .expireAfterWrite(Duration.ofSeconds(config.ttlSeconds()))
+        .buildAsync();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.query.QuerySpec;
+
+/**
+ * PageKey identifies a list page in the {@link PageCache}.
+ *
+ * @param offset the starting index of the page, 0 in keyset mode
+ * @param cursor the cursor of the page in keyset mode, or null
+ * @param limit  the maximum number of items in the page
+ * @param seek   the seek column in keyset mode, or null
+ * @param fields the requested sparse fieldset, or null for full DTOs
+ * @param spec   the filter and sort of the request
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record PageKey(int offset, String cursor, int limit, String seek, String fields, QuerySpec spec) {
+
+  /**
+   * Creates the key of an offset page.
+   *
+   * @param offset the starting index of the page
+   * @param limit  the maximum number of items in the page
+   * @param fields the requested sparse fieldset, or null for full DTOs
+   * @param spec   the filter and sort of the request
+   * @return the key
+   */
+  public static PageKey offset(int offset, int limit, String fields, QuerySpec spec) {
+    return new PageKey(offset, null, limit, null, fields, spec);
+  }
+
+  /**
+   * Creates the key of a keyset page.
+   *
+   * @param cursor the cursor of the page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the seek column
+   * @param fields the requested sparse fieldset, or null for full DTOs
+   * @param spec   the filter of the request
+   * @return the key
+   */
+  public static PageKey keyset(String cursor, int limit, String seek, String fields, QuerySpec spec) {
+    return new PageKey(0, cursor, limit, seek, fields, spec);
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.codec.JsonCodecs;
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * ResponseCache keeps the serialized GET responses of the resources annotated with
+ * `@Cache(serialized = true)`.
+ *
+ * <p>With `@Cache(offHeapBytes)` the bodies are kept in direct memory and the cache is bounded by
+ * their total size in bytes, so the heap stays flat however large the cached working set grows.
+ * Removed entries release their body, which is freed once the responses writing it are done.
+ *
+ * <p>Responses by id are invalidated like the {@link EntityCache}, and pages are cached under the
+ * write generation of the {@link PageCache}, so both follow the same write hooks as the DTO
+ * caches.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class ResponseCache {
+
+  /**
+   * A page cached under the generation of its entity class.
+   */
+  private record PageEntry(long generation, PageKey page) {
+
+  }
+
+  /**
+   * The registry used to drop responses after the current transaction completes.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * The page cache owning the write generations.
+   */
+  @Inject
+  PageCache pageCache;
+
+  /**
+   * Coalesces the concurrent misses of a response into a single load.
+   */
+  @Inject
+  SingleFlight singleFlight;
+
+  /**
+   * Ranks the hot ids, which `@Cache(pinHot)` keeps past their TTL.
+   */
+  @Inject
+  HotKeyTracker hotKeys;
+
+  /**
+   * The caches, keyed by entity class, holding responses by id and by page entry.
+   */
+  private final ConcurrentMap<Class<?>, AsyncCache<Object, EncodedResponse>> caches =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached response of an entity, encoding it on a miss.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param id          the ID of the entity
+   * @param admit       whether a loaded response may be cached, see `@Cache(admitAfter)`
+   * @param loader      encodes the entity, returning null if it does not exist
+   * @return the response, or null if the entity does not exist
+   */
+  public EncodedResponse get(Class<?> entityClass, Cache config, Long id, boolean admit,
+      Supplier<EncodedResponse> loader) {
+    return singleFlight.get(cache(entityClass, config), id, loader, admit);
+  }
+
+  /**
+   * Returns the cached response of a page, encoding it on a miss.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param page        the key of the page
+   * @param loader      encodes the page
+   * @return the response
+   */
+  public EncodedResponse get(Class<?> entityClass, Cache config, PageKey page,
+      Supplier<EncodedResponse> loader) {
+    PageEntry entry = new PageEntry(pageCache.generationOf(entityClass), page);
+    return singleFlight.get(cache(entityClass, config), entry, loader);
+  }
+
+  /**
+   * Drops the cached responses of entities, again after the current transaction if one is
+   * active.
+   *
+   * @param entityClass the entity class
+   * @param config      the cache configuration of the entity
+   * @param ids         the IDs of the entities
+   */
+  public void invalidate(Class<?> entityClass, Cache config, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    AsyncCache<Object, EncodedResponse> cache = cache(entityClass, config);
+    List<Long> written = List.copyOf(ids);
+    AfterCompletion.invalidate(transactionRegistry, () -> cache.synchronous().invalidateAll(written));
+  }
+
+  /**
+   * Drops every cached response of an entity class, by id and by page.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidateAll(Class<?> entityClass) {
+    AsyncCache<Object, EncodedResponse> cache = caches.get(entityClass);
+    if (cache != null) {
+      cache.synchronous().invalidateAll();
+    }
+  }
+
+  /**
+   * Returns the ids of an entity class whose responses are read most often, as ranked by the
+   * eviction policy. Cached pages are skipped.
+   *
+   * @param entityClass the entity class
+   * @param limit       the maximum number of ids
+   * @return the ids, hottest first
+   */
+  public List<Long> hottest(Class<?> entityClass, int limit) {
+    AsyncCache<Object, EncodedResponse> cache = caches.get(entityClass);
+    if (cache == null) {
+      return List.of();
+    }
+    return cache.synchronous().policy().eviction()
+        .map(eviction -> eviction.hottest(entries -> entries
+            .map(Map.Entry::getKey)
+            .filter(Long.class::isInstance)
+            .map(Long.class::cast)
+            .limit(limit)
+            .toList()))
+        .orElse(List.of());
+  }
+
+  /**
+   * Serializes a response body on the heap, or off heap when `@Cache(offHeapBytes)` is set.
+   *
+   * @param config     the cache configuration of the entity, or null if caching is disabled
+   * @param codecs     the JSON codecs
+   * @param value      the DTO or list of DTOs
+   * @param nextCursor the cursor of the next page in keyset mode, or null
+   * @return the encoded response
+   */
+  public static EncodedResponse encode(Cache config, JsonCodecs codecs, Object value,
+      String nextCursor) {
+    return EncodedResponse.encode(codecs, value, nextCursor,
+        config != null && config.offHeapBytes() > 0);
+  }
+
+  private AsyncCache<Object, EncodedResponse> cache(Class<?> entityClass, Cache config) {
+    return caches.computeIfAbsent(entityClass, type -> build(type, config));
+  }
+
+  private AsyncCache<Object, EncodedResponse> build(Class<?> entityClass, Cache config) {
+    Caffeine<Object, EncodedResponse> builder = Caffeine.newBuilder()
+        .expireAfter(hotKeys.<Object, EncodedResponse>expiry(entityClass, config))
+        // Drops the reference of the cache, the body is freed once no response is writing it
+        .removalListener((Object key, EncodedResponse response, RemovalCause cause) -> {
+          if (response != null) {
+            response.release();
+          }
+        });
+    if (config.offHeapBytes() > 0) {
+      // Bounded by the bytes held in direct memory rather than by the number of entries
+      return builder.maximumWeight(config.offHeapBytes())
+          .<Object, EncodedResponse>weigher((key, response) -> response.size())
+          .buildAsync();
+    }
+    return builder.maximumSize(config.maximumSize() + config.maximumPages()).buildAsync();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.RootClass;
+
+/**
+ * SecondLevelCacheListener caches the entities annotated with `@Cache(secondLevel = true)` in the
+ * second-level cache of the default persistence unit.
+ *
+ * <p>The entities and collections are marked as cached `READ_WRITE` in the Hibernate mapping once
+ * it is built, as `@Cacheable` and `@org.hibernate.annotations.Cache` would. The settings are
+ * computed at build time by the deployment module, one bound and one idle expiration per region,
+ * and replayed when Hibernate boots.
+ *
+ * <p>The `hibernate.classcache` and `hibernate.collectioncache` properties cannot be used for
+ * this: Quarkus reads them before the integration listeners contribute their properties.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public class SecondLevelCacheListener implements HibernateOrmIntegrationStaticInitListener {
+
+  /**
+   * The Hibernate settings, keyed by property name.
+   */
+  private final Map<String, String> settings;
+
+  /**
+   * The names of the entities to cache.
+   */
+  private final List<String> entities;
+
+  /**
+   * The roles of the collections to cache, e.g. `com.acme.Product.reviews`.
+   */
+  private final List<String> collections;
+
+  /**
+   * Creates a listener caching the given entities and collections.
+   *
+   * @param settings    the Hibernate settings, keyed by property name
+   * @param entities    the names of the entities to cache
+   * @param collections the roles of the collections to cache
+   */
+  public SecondLevelCacheListener(Map<String, String> settings, List<String> entities,
+      List<String> collections) {
+    this.settings = Map.copyOf(settings);
+    this.entities = List.copyOf(entities);
+    this.collections = List.copyOf(collections);
+  }
+
+  @Override
+  public void contributeBootProperties(BiConsumer<String, Object> propertyCollector) {
+    settings.forEach(propertyCollector);
+  }
+
+  @Override
+  public void onMetadataInitialized(Metadata metadata, BootstrapContext bootstrapContext,
+      BiConsumer<String, Object> propertyCollector) {
+    String readWrite = AccessType.READ_WRITE.getExternalName();
+    for (String entityName : entities) {
+      PersistentClass entity = metadata.getEntityBinding(entityName);
+      if (entity == null) {
+        continue;
+      }
+      RootClass root = entity.getRootClass();
+      // An entity of a hierarchy shares the cache settings of its root
+      if (root.getCacheConcurrencyStrategy() == null) {
+        root.setCacheConcurrencyStrategy(readWrite);
+        root.setCacheRegionName(root.getEntityName());
+      }
+      entity.setCached(true);
+    }
+    for (String role : collections) {
+      Collection collection = metadata.getCollectionBinding(role);
+      if (collection != null && collection.getCacheConcurrencyStrategy() == null) {
+        collection.setCacheConcurrencyStrategy(readWrite);
+        collection.setCacheRegionName(role);
+      }
+    }
+  }
+}
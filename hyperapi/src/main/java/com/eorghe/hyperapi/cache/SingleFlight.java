@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * SingleFlight coalesces the concurrent misses of a cache key into a single load.
+ *
+ * <p>The first request missing a key registers a pending future in the cache and runs the load on
+ * its own thread, inside its own request context and session. Concurrent requests for the same
+ * key wait on that future instead of querying the database. The caches do not hold any lock
+ * while a load runs, so a slow load never blocks other keys.
+ *
+ * <p>A waiter gives up after `hyperapi.cache.load-timeout`, or when the load fails, and then
+ * loads the key itself without caching it. An invalidation removes the pending future, so a load
+ * that started before a write is never cached after it.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class SingleFlight {
+
+  /**
+   * The time a request waits for the load of another request.
+   */
+  @ConfigProperty(name = "hyperapi.cache.load-timeout", defaultValue = "5s")
+  Duration loadTimeout;
+
+  /**
+   * Returns the cached value of a key, loading it once for all concurrent misses.
+   *
+   * @param cache  the cache
+   * @param key    the key
+   * @param loader loads the value, returning null if it does not exist
+   * @param <K>    the key type
+   * @param <V>    the value type
+   * @return the value, or null if it does not exist
+   */
+  public <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+    CompletableFuture<V> pending = new CompletableFuture<>();
+    CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, pending);
+    if (existing == null) {
+      return load(pending, loader);
+    }
+    return await(existing, loader);
+  }
+
+  /**
+   * Returns the cached value of a key, or loads it without caching it unless it is admitted.
+   *
+   * <p>A key that is not admitted still waits for a value cached or loading under it.
+   *
+   * @param cache  the cache
+   * @param key    the key
+   * @param loader loads the value, returning null if it does not exist
+   * @param admit  whether a loaded value may be cached
+   * @param <K>    the key type
+   * @param <V>    the value type
+   * @return the value, or null if it does not exist
+   */
+  public <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader, boolean admit) {
+    if (admit) {
+      return get(cache, key, loader);
+    }
+    CompletableFuture<V> existing = cache.getIfPresent(key);
+    return existing == null ? loader.get() : await(existing, loader);
+  }
+
+  /**
+   * Waits for the value loading under a key, or loads it without caching it if the wait fails.
+   *
+   * @param existing the future registered in the cache
+   * @param loader   loads the value
+   * @param <V>      the value type
+   * @return the value, or null if it does not exist
+   */
+  private <V> V await(CompletableFuture<V> existing, Supplier<V> loader) {
+    try {
+      return existing.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return loader.get();
+    } catch (ExecutionException | TimeoutException e) {
+      return loader.get();
+    }
+  }
+
+  /**
+   * Runs the load of the first request and shares its result with the waiters.
+   *
+   * <p>A null or failed result completes the future, and Caffeine then removes the entry.
+   *
+   * @param pending the future registered in the cache
+   * @param loader  loads the value
+   * @param <V>     the value type
+   * @return the value, or null if it does not exist
+   */
+  private static <V> V load(CompletableFuture<V> pending, Supplier<V> loader) {
+    try {
+      V value = loader.get();
+      pending.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      pending.completeExceptionally(e);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TopK keeps the ids with the highest read estimates in a bounded min-heap.
+ *
+ * <p>The heap is stored in two arrays, so offering an id does not allocate. An offer below the
+ * smallest estimate of a full heap returns without locking, and an offer finding the heap locked
+ * by another thread is dropped rather than waiting: a hot id is offered again on its next read.
+ *
+ * <p>Membership checks, which run inside Caffeine's expiry callbacks, never lock: every change of
+ * the ids in the heap publishes a new sorted copy of them, searched without synchronization.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class TopK {
+
+  /**
+   * The ids, ordered as a min-heap on their estimates.
+   */
+  private final long[] ids;
+
+  /**
+   * The estimates of the ids, at the same positions.
+   */
+  private final long[] reads;
+
+  /**
+   * Guards the heap.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * The ids of the heap, sorted. Replaced, never modified, whenever an id enters or leaves.
+   */
+  private volatile long[] members = new long[0];
+
+  /**
+   * The number of ids in the heap.
+   */
+  private int size;
+
+  /**
+   * The smallest estimate of the heap once full, 0 before.
+   */
+  private volatile long floor;
+
+  /**
+   * Creates an empty heap.
+   *
+   * @param capacity the maximum number of ids
+   */
+  TopK(int capacity) {
+    this.ids = new long[capacity];
+    this.reads = new long[capacity];
+  }
+
+  /**
+   * Offers an id with its current estimate.
+   *
+   * @param id       the id
+   * @param estimate the estimated number of reads of the id
+   */
+  void offer(long id, long estimate) {
+    if (estimate <= floor || !lock.tryLock()) {
+      return;
+    }
+    try {
+      int at = indexOf(id);
+      if (at >= 0) {
+        if (estimate > reads[at]) {
+          reads[at] = estimate;
+          siftDown(at);
+        }
+      } else if (size < ids.length) {
+        ids[size] = id;
+        reads[size] = estimate;
+        siftUp(size++);
+        publish();
+      } else if (estimate > reads[0]) {
+        ids[0] = id;
+        reads[0] = estimate;
+        siftDown(0);
+        publish();
+      }
+      floor = size == ids.length ? reads[0] : 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Checks whether an id is in the heap.
+   *
+   * @param id the id
+   * @return true if the id is among the hottest
+   */
+  boolean contains(long id) {
+    return Arrays.binarySearch(members, id) >= 0;
+  }
+
+  /**
+   * Halves the estimates, following the counters of the sketch.
+   */
+  void halve() {
+    lock.lock();
+    try {
+      for (int i = 0; i < size; i++) {
+        reads[i] >>>= 1;
+      }
+      floor = size == ids.length ? reads[0] : 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the ids of the heap.
+   *
+   * @return the ids, hottest first
+   */
+  List<HotKey> snapshot() {
+    List<HotKey> hot;
+    lock.lock();
+    try {
+      hot = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        hot.add(new HotKey(ids[i], reads[i]));
+      }
+    } finally {
+      lock.unlock();
+    }
+    hot.sort(Comparator.comparingLong(HotKey::reads).reversed());
+    return hot;
+  }
+
+  /**
+   * Publishes the current ids of the heap for {@link #contains(long)}. Called with the lock held.
+   */
+  private void publish() {
+    long[] sorted = Arrays.copyOf(ids, size);
+    Arrays.sort(sorted);
+    members = sorted;
+  }
+
+  private int indexOf(long id) {
+    for (int i = 0; i < size; i++) {
+      if (ids[i] == id) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void siftUp(int at) {
+    while (at > 0) {
+      int parent = (at - 1) >>> 1;
+      if (reads[parent] <= reads[at]) {
+        return;
+      }
+      swap(at, parent);
+      at = parent;
+    }
+  }
+
+  private void siftDown(int at) {
+    while (true) {
+      int smallest = at;
+      int left = 2 * at + 1;
+      int right = left + 1;
+      if (left < size && reads[left] < reads[smallest]) {
+        smallest = left;
+      }
+      if (right < size && reads[right] < reads[smallest]) {
+        smallest = right;
+      }
+      if (smallest == at) {
+        return;
+      }
+      swap(at, smallest);
+      at = smallest;
+    }
+  }
+
+  private void swap(int i, int j) {
+    long id = ids[i];
+    ids[i] = ids[j];
+    ids[j] = id;
+    long count = reads[i];
+    reads[i] = reads[j];
+    reads[j] = count;
+  }
+}
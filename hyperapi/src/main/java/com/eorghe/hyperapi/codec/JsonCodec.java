@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+/**
+ * JsonCodec writes and reads a DTO as JSON without reflection.
+ *
+ * <p>The annotation processor generates one codec per generated DTO, calling its getters and
+ * setters directly. Codecs are CDI beans collected by {@link JsonCodecs}.
+ *
+ * @param <T> the type of the DTO
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public interface JsonCodec<T> {
+
+  /**
+   * Returns the DTO class handled by this codec.
+   *
+   * @return the DTO class
+   */
+  Class<T> type();
+
+  /**
+   * Writes a DTO as a JSON object.
+   *
+   * @param value the DTO, never null
+   * @param out   the output to write to
+   */
+  void write(T value, JsonOutput out);
+
+  /**
+   * Reads the fields of a JSON object into a new DTO.
+   *
+   * <p>The start of the object has already been consumed; the codec reads up to and including its
+   * end.
+   *
+   * @param in the input to read from
+   * @return the DTO
+   */
+  T read(JsonInput in);
+
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import jakarta.inject.Inject;
+import jakarta.json.JsonException;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * JsonCodecProvider writes and reads JSON bodies with the generated {@link JsonCodec}s.
+ *
+ * <p>It handles DTOs with a codec and collections of them, declared with their generic type (see
+ * `RestController#dtoList`). Other bodies are left to the JSON-B provider.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class JsonCodecProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+  /**
+   * The registry of the codecs.
+   */
+  @Inject
+  JsonCodecs codecs;
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType) {
+    return codecFor(type, genericType) != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType, MultivaluedMap<String, Object> headers, OutputStream stream)
+      throws IOException {
+    JsonOutput out = JsonOutput.acquire(codecs);
+    codecs.write(value, (JsonCodec<Object>) codecFor(type, genericType), out);
+    out.writeTo(stream);
+  }
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType) {
+    return codecFor(type, genericType) != null;
+  }
+
+  @Override
+  public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType, MultivaluedMap<String, String> headers, InputStream stream)
+      throws IOException {
+    JsonCodec<?> codec = codecFor(type, genericType);
+    JsonInput in = JsonInput.of(stream, codecs);
+    try {
+      if (!Collection.class.isAssignableFrom(type)) {
+        return readObject(codec, in, in.next());
+      }
+      Collection<Object> items = Set.class.isAssignableFrom(type)
+          ? new LinkedHashSet<>()
+          : new ArrayList<>();
+      in.beginArray();
+      for (Event event = in.next(); event != Event.END_ARRAY; event = in.next()) {
+        items.add(readObject(codec, in, event));
+      }
+      return items;
+    } catch (JsonException | JsonbException | IllegalArgumentException | ArithmeticException
+             | DateTimeException e) {
+      throw new BadRequestException("Malformed JSON body: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads an object whose first event was just consumed.
+   *
+   * @param codec the codec of the object
+   * @param in    the input
+   * @param event the first event of the value
+   * @return the DTO, or null for a JSON `null`
+   */
+  private static Object readObject(JsonCodec<?> codec, JsonInput in, Event event) {
+    if (event == Event.VALUE_NULL) {
+      return null;
+    }
+    if (event != Event.START_OBJECT) {
+      throw new IllegalArgumentException("Expected an object but found " + event);
+    }
+    return codec.read(in);
+  }
+
+  /**
+   * Finds the codec of a body type, a DTO class or a collection of a DTO class.
+   *
+   * @param type        the raw type of the body
+   * @param genericType the generic type of the body
+   * @return the codec, or null if the body has none
+   */
+  private JsonCodec<?> codecFor(Class<?> type, Type genericType) {
+    if (Collection.class.isAssignableFrom(type)) {
+      return codecs.findElement(genericType);
+    }
+    return codecs.find(type);
+  }
+
+}
@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.json.JsonObject;
+import jakarta.json.bind.Jsonb;
+import jakarta.ws.rs.core.GenericEntity;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * JsonCodecs is the registry of the generated {@link JsonCodec}s.
+ *
+ * <p>DTOs and lists of DTOs with a codec are written and read without JSON-B; everything else
+ * falls back to JSON-B. Setting `hyperapi.json.codecs.enabled=false` sends everything to JSON-B.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class JsonCodecs {
+
+  /**
+   * Times at which the date format of JSON-B is compared to {@link JsonOutput#DATES}.
+   */
+  private static final long[] DATE_PROBES = {0L, 1_700_000_000_123L};
+
+  /**
+   * Whether the generated codecs are used.
+   */
+  @ConfigProperty(name = "hyperapi.json.codecs.enabled", defaultValue = "true")
+  boolean enabled;
+
+  /**
+   * The generated codecs.
+   */
+  @Inject
+  @Any
+  Instance<JsonCodec<?>> instances;
+
+  /**
+   * The JSON-B instance used for everything without a codec.
+   */
+  @Inject
+  Jsonb jsonb;
+
+  /**
+   * The codecs by DTO class.
+   */
+  private Map<Class<?>, JsonCodec<?>> codecs = Map.of();
+
+  /**
+   * The date classes JSON-B writes in the format of {@link JsonOutput#DATES}.
+   */
+  private Set<Class<?>> isoDates = Set.of();
+
+  /**
+   * Collects the codecs, unless they are disabled.
+   */
+  @PostConstruct
+  void init() {
+    if (enabled) {
+      register(instances);
+    }
+  }
+
+  /**
+   * Creates a registry outside of CDI, e.g. for benchmarks.
+   *
+   * @param jsonb  the JSON-B instance used for everything without a codec
+   * @param codecs the codecs
+   * @return the registry
+   */
+  static JsonCodecs of(Jsonb jsonb, JsonCodec<?>... codecs) {
+    JsonCodecs registry = new JsonCodecs();
+    registry.jsonb = jsonb;
+    registry.register(List.of(codecs));
+    return registry;
+  }
+
+  /**
+   * Indexes the codecs by DTO class and checks which date classes can be formatted without JSON-B.
+   *
+   * @param instances the codecs
+   */
+  private void register(Iterable<? extends JsonCodec<?>> instances) {
+    Map<Class<?>, JsonCodec<?>> found = new HashMap<>();
+    for (JsonCodec<?> codec : instances) {
+      found.put(codec.type(), codec);
+    }
+    codecs = Map.copyOf(found);
+
+    Set<Class<?>> dates = new HashSet<>();
+    if (formatsIso(Date::new)) {
+      dates.add(Date.class);
+    }
+    if (formatsIso(Timestamp::new)) {
+      dates.add(Timestamp.class);
+    }
+    isoDates = Set.copyOf(dates);
+  }
+
+  /**
+   * Returns the codec of a DTO class.
+   *
+   * @param type the DTO class
+   * @param <T>  the type of the DTO
+   * @return the codec, or null if the class has none
+   */
+  @SuppressWarnings("unchecked")
+  public <T> JsonCodec<T> find(Class<T> type) {
+    return (JsonCodec<T>) codecs.get(type);
+  }
+
+  /**
+   * Returns the codec of the elements of a collection type, e.g. `List<ProductDTO>`.
+   *
+   * @param genericType the generic type of the collection
+   * @return the codec, or null if the elements have none
+   */
+  public JsonCodec<?> findElement(Type genericType) {
+    if (genericType instanceof ParameterizedType parameterized
+        && parameterized.getActualTypeArguments().length == 1
+        && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+      return codecs.get(element);
+    }
+    return null;
+  }
+
+  /**
+   * Serializes a DTO, a list of DTOs or any other value.
+   *
+   * @param value the value
+   * @return the JSON
+   */
+  public String toJson(Object value) {
+    JsonCodec<Object> codec = codecOf(value);
+    if (codec == null) {
+      return jsonb.toJson(value);
+    }
+    JsonOutput out = JsonOutput.acquire(this);
+    write(unwrap(value), codec, out);
+    return out.toJson();
+  }
+
+  /**
+   * Serializes a DTO, a list of DTOs or any other value to a stream.
+   *
+   * @param value  the value
+   * @param stream the stream
+   * @throws IOException if the stream cannot be written
+   */
+  public void toJson(Object value, OutputStream stream) throws IOException {
+    JsonCodec<Object> codec = codecOf(value);
+    if (codec == null) {
+      stream.write(jsonb.toJson(value).getBytes(StandardCharsets.UTF_8));
+      return;
+    }
+    JsonOutput out = JsonOutput.acquire(this);
+    write(unwrap(value), codec, out);
+    out.writeTo(stream);
+  }
+
+  /**
+   * Converts a JSON object into a DTO.
+   *
+   * @param json the JSON object
+   * @param type the DTO class
+   * @param <T>  the type of the DTO
+   * @return the DTO
+   */
+  public <T> T fromJson(JsonObject json, Class<T> type) {
+    JsonCodec<T> codec = find(type);
+    if (codec == null) {
+      return jsonb.fromJson(json.toString(), type);
+    }
+    JsonInput in = JsonInput.of(new StringReader(json.toString()), this);
+    in.beginObject();
+    return codec.read(in);
+  }
+
+  /**
+   * Writes a DTO or a collection of DTOs.
+   *
+   * @param value the DTO or the collection
+   * @param codec the codec of the DTO
+   * @param out   the output
+   */
+  void write(Object value, JsonCodec<Object> codec, JsonOutput out) {
+    if (value instanceof Collection<?> items) {
+      out.beginArray();
+      for (Object item : items) {
+        out.element();
+        if (item == null) {
+          out.writeNull();
+        } else {
+          codec.write(item, out);
+        }
+      }
+      out.endArray();
+    } else {
+      codec.write(value, out);
+    }
+  }
+
+  /**
+   * Checks whether a date can be formatted without JSON-B.
+   *
+   * @param date the date
+   * @return true if JSON-B formats its class as {@link JsonOutput#DATES}
+   */
+  boolean isIsoDate(Date date) {
+    return isoDates.contains(date.getClass());
+  }
+
+  /**
+   * Checks whether dates can be parsed without JSON-B.
+   *
+   * @return true if JSON-B formats {@link Date} as {@link JsonOutput#DATES}
+   */
+  boolean readsIsoDates() {
+    return isoDates.contains(Date.class);
+  }
+
+  /**
+   * Returns the JSON-B instance used for everything without a codec.
+   *
+   * @return the JSON-B instance
+   */
+  Jsonb jsonb() {
+    return jsonb;
+  }
+
+  /**
+   * Finds the codec of a DTO or of the elements of a non-empty collection of DTOs.
+   *
+   * @param value the value
+   * @return the codec, or null if the value has none
+   */
+  @SuppressWarnings("unchecked")
+  private JsonCodec<Object> codecOf(Object value) {
+    Object target = unwrap(value);
+    if (target instanceof Collection<?> items) {
+      target = items.isEmpty() ? null : items.iterator().next();
+    }
+    return target == null ? null : (JsonCodec<Object>) codecs.get(target.getClass());
+  }
+
+  /**
+   * Unwraps the entity of a {@link GenericEntity}.
+   *
+   * @param value the value
+   * @return the entity, or the value itself
+   */
+  private static Object unwrap(Object value) {
+    return value instanceof GenericEntity<?> generic ? generic.getEntity() : value;
+  }
+
+  /**
+   * Compares the format JSON-B writes a date class with to {@link JsonOutput#DATES}.
+   *
+   * @param factory creates an instance of the date class at a given time
+   * @return true if both formats agree
+   */
+  private boolean formatsIso(LongFunction<? extends Date> factory) {
+    try {
+      for (long millis : DATE_PROBES) {
+        String expected = '"' + JsonOutput.DATES.format(Instant.ofEpochMilli(millis)) + '"';
+        if (!expected.equals(jsonb.toJson(factory.apply(millis)))) {
+          return false;
+        }
+      }
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+}
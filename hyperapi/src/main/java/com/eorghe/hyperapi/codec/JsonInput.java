@@ -0,0 +1,528 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JsonInput is the streaming parser generated codecs read JSON from.
+ *
+ * <p>Codecs iterate the fields of an object with {@link #nextField()} and read each value with the
+ * method matching the type of their setter. Values without a dedicated method go through JSON-B
+ * with {@link #readValue(Type)}.
+ *
+ * <p>Malformed or mistyped input fails with an {@link IllegalArgumentException}, numbers that do
+ * not fit the type of their field with an {@link ArithmeticException}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class JsonInput {
+
+  /**
+   * The factory of the parsers, created once.
+   */
+  private static final JsonParserFactory PARSERS = Json.createParserFactory(Map.of());
+
+  /**
+   * The parser of the document.
+   */
+  private final JsonParser parser;
+
+  /**
+   * The registry giving access to JSON-B and the date formats.
+   */
+  private final JsonCodecs codecs;
+
+  private JsonInput(JsonParser parser, JsonCodecs codecs) {
+    this.parser = parser;
+    this.codecs = codecs;
+  }
+
+  /**
+   * Reads a document from a stream.
+   *
+   * @param stream the stream, in any of the encodings allowed by JSON
+   * @param codecs the registry giving access to JSON-B
+   * @return the input
+   */
+  static JsonInput of(InputStream stream, JsonCodecs codecs) {
+    return new JsonInput(PARSERS.createParser(stream), codecs);
+  }
+
+  /**
+   * Reads a document from a reader.
+   *
+   * @param reader the reader
+   * @param codecs the registry giving access to JSON-B
+   * @return the input
+   */
+  static JsonInput of(Reader reader, JsonCodecs codecs) {
+    return new JsonInput(PARSERS.createParser(reader), codecs);
+  }
+
+  /**
+   * Returns the generic type of a DTO field, for the fields read with {@link #readValue(Type)}.
+   *
+   * <p>Generated codecs call this once, when they are initialized.
+   *
+   * @param owner the DTO class
+   * @param field the name of the field, declared by the class or one of its superclasses
+   * @return the generic type of the field
+   */
+  public static Type fieldType(Class<?> owner, String field) {
+    for (Class<?> type = owner; type != null; type = type.getSuperclass()) {
+      try {
+        return type.getDeclaredField(field).getGenericType();
+      } catch (NoSuchFieldException e) {
+        // declared by a superclass
+      }
+    }
+    throw new IllegalStateException("No field " + field + " in " + owner.getName());
+  }
+
+  /**
+   * Advances to the next event.
+   *
+   * @return the event
+   */
+  Event next() {
+    return parser.next();
+  }
+
+  /**
+   * Consumes the start of an object.
+   */
+  void beginObject() {
+    expect(Event.START_OBJECT);
+  }
+
+  /**
+   * Consumes the start of an array.
+   */
+  void beginArray() {
+    expect(Event.START_ARRAY);
+  }
+
+  /**
+   * Advances to the next field of the current object.
+   *
+   * @return true if positioned on a field name, false at the end of the object
+   */
+  public boolean nextField() {
+    Event event = parser.next();
+    if (event == Event.END_OBJECT) {
+      return false;
+    }
+    if (event != Event.KEY_NAME) {
+      throw unexpected(event);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the name of the current field.
+   *
+   * @return the name
+   */
+  public String name() {
+    return parser.getString();
+  }
+
+  /**
+   * Skips the value of an unknown field.
+   */
+  public void skipValue() {
+    Event event = parser.next();
+    if (event == Event.START_OBJECT) {
+      parser.skipObject();
+    } else if (event == Event.START_ARRAY) {
+      parser.skipArray();
+    }
+  }
+
+  /**
+   * Reads a string.
+   *
+   * @return the value, or null
+   */
+  public String readString() {
+    Event event = parser.next();
+    return switch (event) {
+      case VALUE_NULL -> null;
+      case VALUE_STRING -> parser.getString();
+      default -> throw unexpected(event);
+    };
+  }
+
+  /**
+   * Reads an integral number.
+   *
+   * <p>Unlike JSON-B, a number beyond the range of a long or with a fraction is rejected rather
+   * than wrapped or truncated.
+   *
+   * @return the value, or null
+   * @throws ArithmeticException if the number is not an integer within the range of a long
+   */
+  public Long readLong() {
+    Event event = parser.next();
+    return switch (event) {
+      case VALUE_NULL -> null;
+      // getLong() would wrap a number beyond the range of a long
+      case VALUE_NUMBER -> parser.getBigDecimal().longValueExact();
+      default -> throw unexpected(event);
+    };
+  }
+
+  /**
+   * Reads an integral number into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public long readLongValue() {
+    Long value = readLong();
+    return value == null ? 0L : value;
+  }
+
+  /**
+   * Reads an integral number that fits in an int.
+   *
+   * @return the value, or null
+   */
+  public Integer readInt() {
+    Long value = readLong();
+    return value == null ? null : Math.toIntExact(value);
+  }
+
+  /**
+   * Reads an integral number that fits in an int into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public int readIntValue() {
+    return Math.toIntExact(readLongValue());
+  }
+
+  /**
+   * Reads an integral number that fits in a short.
+   *
+   * @return the value, or null
+   */
+  public Short readShort() {
+    Long value = readLong();
+    return value == null ? null : (short) exact(value, Short.MIN_VALUE, Short.MAX_VALUE);
+  }
+
+  /**
+   * Reads an integral number that fits in a short into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public short readShortValue() {
+    return (short) exact(readLongValue(), Short.MIN_VALUE, Short.MAX_VALUE);
+  }
+
+  /**
+   * Reads an integral number that fits in a byte.
+   *
+   * @return the value, or null
+   */
+  public Byte readByte() {
+    Long value = readLong();
+    return value == null ? null : (byte) exact(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+  }
+
+  /**
+   * Reads an integral number that fits in a byte into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public byte readByteValue() {
+    return (byte) exact(readLongValue(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+  }
+
+  /**
+   * Reads an integral number of any size.
+   *
+   * @return the value, or null
+   */
+  public BigInteger readBigInteger() {
+    BigDecimal value = readBigDecimal();
+    return value == null ? null : value.toBigIntegerExact();
+  }
+
+  /**
+   * Reads a floating-point number.
+   *
+   * @return the value, or null
+   */
+  public Double readDouble() {
+    BigDecimal value = readBigDecimal();
+    return value == null ? null : value.doubleValue();
+  }
+
+  /**
+   * Reads a floating-point number into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public double readDoubleValue() {
+    Double value = readDouble();
+    return value == null ? 0d : value;
+  }
+
+  /**
+   * Reads a single-precision floating-point number.
+   *
+   * @return the value, or null
+   */
+  public Float readFloat() {
+    BigDecimal value = readBigDecimal();
+    return value == null ? null : value.floatValue();
+  }
+
+  /**
+   * Reads a single-precision floating-point number into a primitive.
+   *
+   * @return the value, or 0 for null
+   */
+  public float readFloatValue() {
+    Float value = readFloat();
+    return value == null ? 0f : value;
+  }
+
+  /**
+   * Reads an arbitrary-precision number.
+   *
+   * @return the value, or null
+   */
+  public BigDecimal readBigDecimal() {
+    Event event = parser.next();
+    return switch (event) {
+      case VALUE_NULL -> null;
+      case VALUE_NUMBER -> parser.getBigDecimal();
+      default -> throw unexpected(event);
+    };
+  }
+
+  /**
+   * Reads a boolean.
+   *
+   * @return the value, or null
+   */
+  public Boolean readBoolean() {
+    Event event = parser.next();
+    return switch (event) {
+      case VALUE_NULL -> null;
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      default -> throw unexpected(event);
+    };
+  }
+
+  /**
+   * Reads a boolean into a primitive.
+   *
+   * @return the value, or false for null
+   */
+  public boolean readBooleanValue() {
+    return Boolean.TRUE.equals(readBoolean());
+  }
+
+  /**
+   * Reads a character from a string of length one.
+   *
+   * @return the value, or null
+   */
+  public Character readChar() {
+    String value = readString();
+    if (value == null) {
+      return null;
+    }
+    if (value.length() != 1) {
+      throw new IllegalArgumentException("Expected a single character at " + parser.getLocation());
+    }
+    return value.charAt(0);
+  }
+
+  /**
+   * Reads a character from a string of length one into a primitive.
+   *
+   * @return the value, or `\0` for null
+   */
+  public char readCharValue() {
+    Character value = readChar();
+    return value == null ? '\0' : value;
+  }
+
+  /**
+   * Reads a UUID from its string form.
+   *
+   * @return the value, or null
+   */
+  public UUID readUuid() {
+    String value = readString();
+    return value == null ? null : UUID.fromString(value);
+  }
+
+  /**
+   * Reads an ISO-8601 date.
+   *
+   * @return the value, or null
+   */
+  public LocalDate readLocalDate() {
+    String value = readString();
+    return value == null ? null : LocalDate.parse(value);
+  }
+
+  /**
+   * Reads an ISO-8601 date-time without offset.
+   *
+   * @return the value, or null
+   */
+  public LocalDateTime readLocalDateTime() {
+    String value = readString();
+    return value == null ? null : LocalDateTime.parse(value);
+  }
+
+  /**
+   * Reads an ISO-8601 instant.
+   *
+   * @return the value, or null
+   */
+  public Instant readInstant() {
+    String value = readString();
+    return value == null ? null : Instant.parse(value);
+  }
+
+  /**
+   * Reads an ISO-8601 date-time with offset.
+   *
+   * @return the value, or null
+   */
+  public OffsetDateTime readOffsetDateTime() {
+    String value = readString();
+    return value == null ? null : OffsetDateTime.parse(value);
+  }
+
+  /**
+   * Reads a date, parsed without JSON-B when its format was verified to match.
+   *
+   * @return the value, or null
+   */
+  public Date readDate() {
+    String value = readString();
+    if (value == null) {
+      return null;
+    }
+    if (codecs.readsIsoDates()) {
+      return Date.from(JsonOutput.DATES.parse(value, Instant::from));
+    }
+    return codecs.jsonb().fromJson(Json.createValue(value).toString(), Date.class);
+  }
+
+  /**
+   * Reads an enum constant from its name.
+   *
+   * @param type the enum class
+   * @param <E>  the enum type
+   * @return the value, or null
+   */
+  public <E extends Enum<E>> E readEnum(Class<E> type) {
+    String value = readString();
+    return value == null ? null : Enum.valueOf(type, value);
+  }
+
+  /**
+   * Reads any value through JSON-B.
+   *
+   * @param type the type of the value
+   * @param <T>  the type of the value
+   * @return the value, or null
+   */
+  public <T> T readValue(Type type) {
+    parser.next();
+    JsonValue value = parser.getValue();
+    return value.getValueType() == JsonValue.ValueType.NULL
+        ? null
+        : codecs.jsonb().fromJson(value.toString(), type);
+  }
+
+  /**
+   * Checks that an integral number fits in a narrower type.
+   *
+   * @param value the value
+   * @param min   the smallest value of the type
+   * @param max   the largest value of the type
+   * @return the value
+   * @throws ArithmeticException if the value does not fit
+   */
+  private static long exact(long value, long min, long max) {
+    if (value < min || value > max) {
+      throw new ArithmeticException(value + " is out of range");
+    }
+    return value;
+  }
+
+  /**
+   * Consumes an event of the given kind.
+   *
+   * @param expected the expected event
+   */
+  private void expect(Event expected) {
+    Event event = parser.next();
+    if (event != expected) {
+      throw unexpected(event);
+    }
+  }
+
+  /**
+   * Builds the error for an event the codec did not expect.
+   *
+   * @param event the event
+   * @return the exception to throw
+   */
+  private IllegalArgumentException unexpected(Event event) {
+    return new IllegalArgumentException(
+        "Unexpected JSON " + event + " at " + parser.getLocation());
+  }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * JsonOutput is the byte buffer generated codecs write JSON into.
+ *
+ * <p>Field names are encoded once per codec with {@link #name(String)}, strings are escaped
+ * straight to UTF-8 and numbers are written digit by digit, so writing a DTO allocates nothing but
+ * the buffer. The buffer is reused by the next response of the same thread, unless it grew beyond
+ * {@link #MAX_RETAINED} bytes.
+ *
+ * <p>Values without a dedicated method go through JSON-B with {@link #writeValue(Object)}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class JsonOutput {
+
+  /**
+   * Buffers larger than this are dropped after use instead of being kept for the thread.
+   */
+  static final int MAX_RETAINED = 256 * 1024;
+
+  /**
+   * The buffer of each thread.
+   */
+  private static final ThreadLocal<JsonOutput> BUFFERS = ThreadLocal.withInitial(JsonOutput::new);
+
+  /**
+   * Hexadecimal digits of the escaped control characters.
+   */
+  private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * The format JSON-B writes dates with, used when {@link JsonCodecs} verified it matches.
+   */
+  static final DateTimeFormatter DATES = DateTimeFormatter.ISO_DATE_TIME.withZone(ZoneOffset.UTC);
+
+  /**
+   * The written bytes.
+   */
+  private byte[] buffer = new byte[1024];
+
+  /**
+   * The number of written bytes.
+   */
+  private int count;
+
+  /**
+   * Whether the next field or element is the first of its object or array.
+   */
+  private boolean first = true;
+
+  /**
+   * The registry giving access to JSON-B and the date formats.
+   */
+  private JsonCodecs codecs;
+
+  private JsonOutput() {
+  }
+
+  /**
+   * Encodes a field name with its quotes and colon.
+   *
+   * @param name the name of the field, a Java identifier
+   * @return the encoded name
+   */
+  public static byte[] name(String name) {
+    return ('"' + name + "\":").getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the empty buffer of the current thread.
+   *
+   * @param codecs the registry giving access to JSON-B
+   * @return the buffer
+   */
+  static JsonOutput acquire(JsonCodecs codecs) {
+    JsonOutput out = BUFFERS.get();
+    out.count = 0;
+    out.first = true;
+    out.codecs = codecs;
+    return out;
+  }
+
+  /**
+   * Starts a JSON object.
+   */
+  public void beginObject() {
+    writeByte('{');
+    first = true;
+  }
+
+  /**
+   * Ends a JSON object.
+   */
+  public void endObject() {
+    writeByte('}');
+    first = false;
+  }
+
+  /**
+   * Starts a JSON array.
+   */
+  public void beginArray() {
+    writeByte('[');
+    first = true;
+  }
+
+  /**
+   * Ends a JSON array.
+   */
+  public void endArray() {
+    writeByte(']');
+    first = false;
+  }
+
+  /**
+   * Separates the next array element from the previous one.
+   */
+  public void element() {
+    if (!first) {
+      writeByte(',');
+    }
+    first = false;
+  }
+
+  /**
+   * Writes the name of the next field.
+   *
+   * @param name the name encoded with {@link #name(String)}
+   */
+  public void field(byte[] name) {
+    ensureCapacity(name.length + 1);
+    if (!first) {
+      buffer[count++] = ',';
+    }
+    first = false;
+    System.arraycopy(name, 0, buffer, count, name.length);
+    count += name.length;
+  }
+
+  /**
+   * Writes `null`.
+   */
+  public void writeNull() {
+    writeAscii("null");
+  }
+
+  /**
+   * Writes a boolean.
+   *
+   * @param value the value
+   */
+  public void writeBoolean(boolean value) {
+    writeAscii(value ? "true" : "false");
+  }
+
+  /**
+   * Writes an integral number.
+   *
+   * @param value the value
+   */
+  public void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii("-9223372036854775808");
+      return;
+    }
+    ensureCapacity(20);
+    if (value < 0) {
+      buffer[count++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    int end = count + digits;
+    for (int i = end - 1; i >= count; i--) {
+      buffer[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    count = end;
+  }
+
+  /**
+   * Writes a floating-point number the way JSON-B does.
+   *
+   * @param value the value
+   * @throws NumberFormatException if the value is NaN or infinite, which JSON cannot represent
+   */
+  public void writeDouble(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new NumberFormatException("JSON cannot represent " + value);
+    }
+    writeAscii(Double.toString(value));
+  }
+
+  /**
+   * Writes an arbitrary-precision number, e.g. a {@link BigDecimal}.
+   *
+   * @param value the value
+   */
+  public void writeNumber(Number value) {
+    writeAscii(value.toString());
+  }
+
+  /**
+   * Writes a string, escaping it as JSON-B does.
+   *
+   * @param value the value
+   */
+  public void writeString(String value) {
+    int length = value.length();
+    ensureCapacity(length * 6 + 2);
+    byte[] buf = buffer;
+    int pos = count;
+    buf[pos++] = '"';
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        if (c >= 0x20 && c != '"' && c != '\\') {
+          buf[pos++] = (byte) c;
+          continue;
+        }
+        buf[pos++] = '\\';
+        switch (c) {
+          case '"', '\\' -> buf[pos++] = (byte) c;
+          case '\b' -> buf[pos++] = 'b';
+          case '\f' -> buf[pos++] = 'f';
+          case '\n' -> buf[pos++] = 'n';
+          case '\r' -> buf[pos++] = 'r';
+          case '\t' -> buf[pos++] = 't';
+          default -> {
+            buf[pos++] = 'u';
+            buf[pos++] = '0';
+            buf[pos++] = '0';
+            buf[pos++] = HEX[c >> 4];
+            buf[pos++] = HEX[c & 0xF];
+          }
+        }
+      } else if (c < 0x800) {
+        buf[pos++] = (byte) (0xC0 | c >> 6);
+        buf[pos++] = (byte) (0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buf[pos++] = (byte) (0xF0 | codePoint >> 18);
+        buf[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buf[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buf[pos++] = (byte) (0x80 | codePoint & 0x3F);
+      } else if (Character.isSurrogate(c)) {
+        buf[pos++] = '?';
+      } else {
+        buf[pos++] = (byte) (0xE0 | c >> 12);
+        buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+        buf[pos++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    buf[pos++] = '"';
+    count = pos;
+  }
+
+  /**
+   * Writes a date, formatted without JSON-B when its format was verified to match.
+   *
+   * @param value the value
+   */
+  public void writeDate(Date value) {
+    if (codecs.isIsoDate(value)) {
+      writeString(DATES.format(Instant.ofEpochMilli(value.getTime())));
+    } else {
+      writeValue(value);
+    }
+  }
+
+  /**
+   * Writes any value through JSON-B.
+   *
+   * @param value the value
+   */
+  public void writeValue(Object value) {
+    byte[] json = codecs.jsonb().toJson(value).getBytes(StandardCharsets.UTF_8);
+    ensureCapacity(json.length);
+    System.arraycopy(json, 0, buffer, count, json.length);
+    count += json.length;
+  }
+
+  /**
+   * Copies the written bytes to a stream and releases the buffer.
+   *
+   * @param stream the stream
+   * @throws IOException if the stream cannot be written
+   */
+  void writeTo(OutputStream stream) throws IOException {
+    try {
+      stream.write(buffer, 0, count);
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Returns the written JSON and releases the buffer.
+   *
+   * @return the JSON
+   */
+  String toJson() {
+    String json = new String(buffer, 0, count, StandardCharsets.UTF_8);
+    release();
+    return json;
+  }
+
+  /**
+   * Drops an oversized buffer so that one large response does not pin its memory.
+   */
+  private void release() {
+    codecs = null;
+    if (buffer.length > MAX_RETAINED) {
+      buffer = new byte[1024];
+    }
+  }
+
+  /**
+   * Writes an ASCII string without quotes.
+   *
+   * @param value the value
+   */
+  private void writeAscii(String value) {
+    int length = value.length();
+    ensureCapacity(length);
+    for (int i = 0; i < length; i++) {
+      buffer[count++] = (byte) value.charAt(i);
+    }
+  }
+
+  /**
+   * Writes a single byte.
+   *
+   * @param b the byte
+   */
+  private void writeByte(int b) {
+    ensureCapacity(1);
+    buffer[count++] = (byte) b;
+  }
+
+  /**
+   * Grows the buffer to hold at least the given number of additional bytes.
+   *
+   * @param additional the number of bytes about to be written
+   */
+  private void ensureCapacity(int additional) {
+    if (count + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + additional));
+    }
+  }
+
+}
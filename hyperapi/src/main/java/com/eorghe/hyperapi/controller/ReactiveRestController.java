@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.controller;
+
+import com.eorghe.hyperapi.dto.HyperDto;
+import com.eorghe.hyperapi.mapper.AbstractMapper;
+import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.paging.KeysetPage;
+import com.eorghe.hyperapi.service.ReactiveBaseEntityService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.PATCH;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+/**
+ * ReactiveRestController is the non-blocking counterpart of {@link RestController}.
+ *
+ * <p>Every endpoint returns a `Uni` or a `Multi`, so requests are served on the Vert.x event loop.
+ * Controllers of resources annotated with `@HyperResource(reactive = true)` extend this class.
+ *
+ * @param <DTO>    the type of the Data Transfer Object
+ * @param <MAPPER> the type of the mapper used to convert between DTO and entity
+ * @param <ENTITY> the type of the entity
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public abstract class ReactiveRestController<
+    DTO extends HyperDto,
+    MAPPER extends AbstractMapper<DTO, ENTITY>,
+    ENTITY extends HyperEntity> {
+
+  /**
+   * Abstract method to retrieve the service responsible for entity operations.
+   *
+   * @return the service instance
+   */
+  protected abstract ReactiveBaseEntityService<ENTITY, DTO, MAPPER> getService();
+
+  /**
+   * Retrieves a paginated list of all entities.
+   *
+   * @param offset the starting index for pagination (default is 0)
+   * @param limit  the maximum number of entities to retrieve (default is 20)
+   * @param cursor the opaque cursor of the page to retrieve, used in keyset mode
+   * @return a Uni emitting the Response containing the list of DTOs
+   */
+  @GET
+  public Uni<Response> getAll(@QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("20") int limit,
+      @QueryParam("cursor") String cursor) {
+    return getService().findAll(offset, limit).map(list -> Response.ok(list).build());
+  }
+
+  /**
+   * Streams all entities as newline-delimited JSON.
+   *
+   * @return a Multi emitting every DTO
+   */
+  @GET
+  @Path("/stream")
+  @Produces(RestController.APPLICATION_NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  public Multi<DTO> stream() {
+    return getService().streamAll();
+  }
+
+  /**
+   * Retrieves an entity by its ID.
+   *
+   * @param id the ID of the entity
+   * @return a Uni emitting the DTO, or failing with NotFoundException
+   */
+  @GET
+  @Path("/{id}")
+  public Uni<DTO> getById(@PathParam("id") Long id) {
+    return getService().findById(id)
+        .onItem().ifNull().failWith(() -> new NotFoundException("Entity not found"));
+  }
+
+  /**
+   * Creates a new entity.
+   *
+   * @param dto the DTO representing the entity to create
+   * @return a Uni emitting the Response containing the created entity
+   */
+  @POST
+  public Uni<Response> create(DTO dto) {
+    return getService().create(dto)
+        .map(created -> Response.status(Response.Status.CREATED).entity(created).build());
+  }
+
+  /**
+   * Updates an existing entity.
+   *
+   * @param id  the ID of the entity to update
+   * @param dto the DTO containing updated data for the entity
+   * @return a Uni emitting the updated entity
+   */
+  @PUT
+  @Path("/{id}")
+  public Uni<DTO> update(@PathParam("id") Long id, DTO dto) {
+    dto.setId(id);
+    return getService().update(dto);
+  }
+
+  /**
+   * Partially updates an entity using a JSON merge patch.
+   *
+   * @param id        the ID of the entity to patch
+   * @param patchJson the JSON object containing the patch data
+   * @return a Uni emitting the patched entity
+   */
+  @PATCH
+  @Path("/{id}")
+  @Consumes("application/merge-patch+json")
+  public Uni<DTO> patch(@PathParam("id") Long id, JsonObject patchJson) {
+    return getService().patch(id, patchJson);
+  }
+
+  /**
+   * Deletes an entity by its ID.
+   *
+   * @param id the ID of the entity to delete
+   * @return a Uni emitting a Response indicating successful deletion
+   */
+  @DELETE
+  @Path("/{id}")
+  public Uni<Response> delete(@PathParam("id") Long id) {
+    return getService().delete(id).map(ignored -> Response.noContent().build());
+  }
+
+  /**
+   * Builds the response for a keyset page, exposing the next cursor as a header.
+   *
+   * @param page the page returned by the service
+   * @return a Response containing the items of the page
+   */
+  protected Response keysetResponse(KeysetPage<DTO> page) {
+    Response.ResponseBuilder rb = Response.ok(page.items());
+    if (page.nextCursor() != null) {
+      rb.header(RestController.NEXT_CURSOR_HEADER, page.nextCursor());
+    }
+    return rb.build();
+  }
+}
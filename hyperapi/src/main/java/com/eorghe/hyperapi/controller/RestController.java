@@ -23,10 +23,18 @@
  */
 package com.eorghe.hyperapi.controller;
 
+import com.eorghe.hyperapi.cache.EncodedResponse;
+import com.eorghe.hyperapi.cache.PageKey;
+import com.eorghe.hyperapi.cache.ResponseCache;
+import com.eorghe.hyperapi.codec.JsonCodecs;
 import com.eorghe.hyperapi.dto.HyperDto;
 import com.eorghe.hyperapi.mapper.AbstractMapper;
 import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.paging.KeysetPage;
+import com.eorghe.hyperapi.proto.ProtoCodecProvider;
+import com.eorghe.hyperapi.query.QuerySpec;
 import com.eorghe.hyperapi.service.BaseEntityService;
+import jakarta.inject.Inject;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -40,9 +48,19 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * RestController is an abstract base class for RESTful API controllers.
@@ -50,6 +68,8 @@ import java.util.List;
  * <p>It provides common CRUD operations for entities, including methods for
  * retrieving, creating, updating, patching, and deleting entities.
  *
+ * <p>Bodies are JSON unless the client sends or accepts `application/x-protobuf`.
+ *
  * @param <DTO>    the type of the Data Transfer Object
  * @param <MAPPER> the type of the mapper used to convert between DTO and entity
  * @param <ENTITY> the type of the entity
@@ -57,13 +77,51 @@ import java.util.List;
  * @version 0.1.0
  * @since 0.1.0
  */
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, ProtoCodecProvider.APPLICATION_PROTOBUF})
+@Consumes({MediaType.APPLICATION_JSON, ProtoCodecProvider.APPLICATION_PROTOBUF})
 public abstract class RestController<
     DTO extends HyperDto,
     MAPPER extends AbstractMapper<DTO, ENTITY>,
     ENTITY extends HyperEntity> {
 
+  /**
+   * Response header carrying the cursor of the next page in keyset pagination mode.
+   */
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  /**
+   * Media type of newline-delimited JSON, one document per line.
+   */
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /**
+   * Response header carrying the total number of entities.
+   */
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+  /**
+   * The JSON codecs used to serialize streamed and cached DTOs.
+   */
+  @Inject
+  JsonCodecs jsonCodecs;
+
+  /**
+   * The generic type of the DTO lists, `List<DTO>`, created on first use.
+   */
+  private volatile Type dtoListType;
+
+  /**
+   * The current request, used to evaluate `If-None-Match` against cached responses.
+   */
+  @Inject
+  Request request;
+
+  /**
+   * The headers of the current request, used to negotiate Protocol Buffers bodies.
+   */
+  @Inject
+  HttpHeaders headers;
+
   /**
    * Abstract method to retrieve the service responsible for entity operations.
    *
@@ -74,27 +132,81 @@ public abstract class RestController<
   /**
    * Retrieves a paginated list of all entities.
    *
+   * <p>The base implementation pages by offset. Generated controllers of resources configured
+   * with `@Pageable(mode = KEYSET)` page by `cursor` instead and ignore the offset.
+   *
    * @param offset the starting index for pagination (default is 0)
    * @param limit  the maximum number of entities to retrieve (default is 20)
-   * @return a list of DTOs representing the entities
+   * @param cursor the opaque cursor of the page to retrieve, used in keyset mode
+   * @param fields the comma-separated fields to return, or null for the full DTOs
+   * @param filter the `;`-separated conditions, e.g. `status==OPEN;total>100`, or null
+   * @param sort   the comma-separated sort fields, `-` prefixed for descending, or null
+   * @return a Response containing the list of DTOs representing the entities
    */
   @GET
-  public List<DTO> getAll(@QueryParam("offset") @DefaultValue("0") int offset,
-      @QueryParam("limit") @DefaultValue("20") int limit) {
-    return getService().findAll(offset, limit);
+  public Response getAll(@QueryParam("offset") @DefaultValue("0") int offset,
+      @QueryParam("limit") @DefaultValue("20") int limit,
+      @QueryParam("cursor") String cursor,
+      @QueryParam("fields") String fields,
+      @QueryParam("filter") String filter,
+      @QueryParam("sort") String sort) {
+    QuerySpec spec = new QuerySpec(filter, sort);
+    if (isSparse(fields)) {
+      return Response.ok(getService().findAll(offset, limit, fields, spec)).build();
+    }
+    return Response.ok(dtoList(getService().findAll(offset, limit, spec))).build();
+  }
+
+  /**
+   * Deletes the entities with the given IDs in JDBC batches.
+   *
+   * @param ids the IDs of the entities to delete
+   * @return a Response indicating successful deletion
+   */
+  @POST
+  @Path("/batch/delete")
+  public Response deleteAll(List<Long> ids) {
+    getService().deleteAll(ids);
+    return Response.noContent().build();
+  }
+
+  /**
+   * Streams all entities as newline-delimited JSON.
+   *
+   * <p>Each entity is serialized and written as soon as it is read from the database, so the
+   * export runs in constant memory regardless of the table size.
+   *
+   * @return the streaming output writing one DTO per line
+   */
+  @GET
+  @Path("/stream")
+  @Produces(APPLICATION_NDJSON)
+  public StreamingOutput stream() {
+    return output -> {
+      try {
+        getService().streamAll(dto -> writeLine(output, dto));
+        output.flush();
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
   }
 
   /**
    * Retrieves an entity by its ID.
    *
-   * @param id the ID of the entity
+   * @param id     the ID of the entity
+   * @param fields the comma-separated fields to return, or null for the full DTO
    * @return a Response containing the DTO of the entity
    * @throws NotFoundException if the entity is not found
    */
   @GET
   @Path("/{id}")
-  public Response getById(@PathParam("id") Long id) {
-    DTO dto = getService().findById(id);
+  public Response getById(@PathParam("id") Long id, @QueryParam("fields") String fields) {
+    if (!isSparse(fields) && getService().isCachingResponses() && !acceptsProtobuf()) {
+      return encodedResponse(() -> getService().findEncodedById(id));
+    }
+    Object dto = isSparse(fields) ? getService().findById(id, fields) : getService().findById(id);
     if (dto == null) {
       throw new NotFoundException("Entity not found");
     }
@@ -112,6 +224,19 @@ public abstract class RestController<
     return Response.status(Response.Status.CREATED).entity(getService().create(dto)).build();
   }
 
+  /**
+   * Creates new entities in JDBC batches.
+   *
+   * @param dtos the DTOs representing the entities to create
+   * @return a Response containing the created entities
+   */
+  @POST
+  @Path("/batch")
+  public Response createAll(List<DTO> dtos) {
+    return Response.status(Response.Status.CREATED).entity(dtoList(getService().createAll(dtos)))
+        .build();
+  }
+
   /**
    * Updates an existing entity.
    *
@@ -126,6 +251,18 @@ public abstract class RestController<
     return Response.ok(getService().update(dto)).build();
   }
 
+  /**
+   * Updates existing entities in JDBC batches.
+   *
+   * @param dtos the DTOs containing updated data, each carrying its id
+   * @return a Response containing the updated entities
+   */
+  @PUT
+  @Path("/batch")
+  public Response updateAll(List<DTO> dtos) {
+    return Response.ok(dtoList(getService().updateAll(dtos))).build();
+  }
+
   /**
    * Partially updates an entity using a JSON merge patch.
    *
@@ -154,4 +291,169 @@ public abstract class RestController<
     return Response.noContent().build();
   }
 
+  /**
+   * Writes a DTO as a single NDJSON line.
+   *
+   * @param output the response output stream
+   * @param dto    the DTO to write
+   */
+  private void writeLine(OutputStream output, DTO dto) {
+    try {
+      jsonCodecs.toJson(dto, output);
+      output.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Builds the response for a keyset page, exposing the next cursor as a header.
+   *
+   * @param page the page returned by the service
+   * @return a Response containing the items of the page
+   */
+  protected Response keysetResponse(KeysetPage<?> page) {
+    Response.ResponseBuilder rb = Response.ok(dtoList(page.items()));
+    if (page.nextCursor() != null) {
+      rb.header(NEXT_CURSOR_HEADER, page.nextCursor());
+    }
+    return rb.build();
+  }
+
+  /**
+   * Declares the generic type of a list of DTOs, so that the generated JSON codec of the DTO writes
+   * it instead of JSON-B.
+   *
+   * @param items the items of a list response, DTOs or sparse fieldsets
+   * @return the DTOs wrapped with their generic type, or the items themselves
+   */
+  protected Object dtoList(List<?> items) {
+    if (items.isEmpty() || !(items.get(0) instanceof HyperDto)) {
+      return items;
+    }
+    Type type = dtoListType;
+    if (type == null) {
+      type = new DtoListType(getService().getDtoClass());
+      dtoListType = type;
+    }
+    return new GenericEntity<>(items, type);
+  }
+
+  /**
+   * Serves a list page from the serialized response cache.
+   *
+   * <p>Generated controllers of resources configured with `@Cache(serialized = true)` wrap their
+   * page responses with this method. On a miss the page is read and serialized once, keeping its
+   * next cursor header. Protocol Buffers requests bypass the cache.
+   *
+   * @param page   the key of the page
+   * @param loader reads the page response
+   * @return the response writing the serialized page, or `304 Not Modified`
+   */
+  protected Response encodedPage(PageKey page, Supplier<Response> loader) {
+    if (acceptsProtobuf()) {
+      return loader.get();
+    }
+    return encodedResponse(() -> getService().findEncodedPage(page, cache -> {
+      Response response = loader.get();
+      String nextCursor = response.getHeaderString(NEXT_CURSOR_HEADER);
+      return ResponseCache.encode(cache, jsonCodecs, response.getEntity(), nextCursor);
+    }));
+  }
+
+  /**
+   * Writes a serialized response with its entity tag.
+   *
+   * <p>The body is retained until it is written, so an eviction meanwhile does not free it. A
+   * body released between the lookup and the retain is looked up again.
+   *
+   * @param lookup finds the serialized response, returning null if the entity does not exist
+   * @return the response, or `304 Not Modified` if the client already holds this version
+   * @throws NotFoundException if the entity is not found
+   */
+  private Response encodedResponse(Supplier<EncodedResponse> lookup) {
+    EncodedResponse encoded;
+    do {
+      encoded = lookup.get();
+      if (encoded == null) {
+        throw new NotFoundException("Entity not found");
+      }
+    } while (!encoded.retain());
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(encoded.etag());
+    if (notModified != null) {
+      encoded.release();
+      return notModified.build();
+    }
+    EncodedResponse body = encoded;
+    StreamingOutput output = stream -> {
+      try {
+        body.writeTo(stream);
+      } finally {
+        body.release();
+      }
+    };
+    Response.ResponseBuilder rb = Response.ok(output, MediaType.APPLICATION_JSON_TYPE)
+        .tag(encoded.etag());
+    if (encoded.nextCursor() != null) {
+      rb.header(NEXT_CURSOR_HEADER, encoded.nextCursor());
+    }
+    return rb.build();
+  }
+
+  /**
+   * Checks whether the client prefers Protocol Buffers, which the serialized JSON caches cannot
+   * serve.
+   *
+   * @return true if the most preferred accepted media type is `application/x-protobuf`
+   */
+  protected boolean acceptsProtobuf() {
+    List<MediaType> accepted = headers.getAcceptableMediaTypes();
+    return !accepted.isEmpty() && !accepted.get(0).isWildcardType()
+        && accepted.get(0).isCompatible(ProtoCodecProvider.APPLICATION_PROTOBUF_TYPE);
+  }
+
+  /**
+   * Checks whether the client requested a sparse fieldset.
+   *
+   * @param fields the value of the `fields` query parameter
+   * @return true if specific fields are requested
+   */
+  protected static boolean isSparse(String fields) {
+    return fields != null && !fields.isBlank();
+  }
+
+  /**
+   * Adds the total number of entities to a list response.
+   *
+   * @param response the list response
+   * @param total    the total number of entities
+   * @return a copy of the response with the `X-Total-Count` header
+   */
+  protected Response totalCount(Response response, long total) {
+    return Response.fromResponse(response).header(TOTAL_COUNT_HEADER, total).build();
+  }
+
+  /**
+   * The generic type `List<DTO>` of a DTO class.
+   *
+   * @param element the DTO class
+   */
+  private record DtoListType(Class<?> element) implements ParameterizedType {
+
+    @Override
+    public Type[] getActualTypeArguments() {
+      return new Type[]{element};
+    }
+
+    @Override
+    public Type getRawType() {
+      return List.class;
+    }
+
+    @Override
+    public Type getOwnerType() {
+      return null;
+    }
+  }
+
 }
\ No newline at end of file
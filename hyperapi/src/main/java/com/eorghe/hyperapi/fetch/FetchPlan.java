@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.fetch;
+
+import com.eorghe.hyperapi.model.HyperEntity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * FetchPlan is the compiled form of the association paths declared with
+ * `@HyperResource(fetch = {...})`.
+ *
+ * <p>Paths made only of to-one associations are loaded with the page itself, through an
+ * {@link EntityGraph} passed as load graph. Paths that reach a collection are loaded afterwards
+ * with one `JOIN FETCH` query per top-level association, restricted to the ids of the page.
+ * Collections are never fetched by the page query, since Hibernate would then apply the limit
+ * in memory and join every collection into one cartesian product.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class FetchPlan {
+
+  /**
+   * The query hint carrying the load graph.
+   */
+  public static final String LOAD_GRAPH = "jakarta.persistence.loadgraph";
+
+  /**
+   * The plan fetching nothing beyond the entity mapping.
+   */
+  public static final FetchPlan NONE = new FetchPlan(null, List.of());
+
+  /**
+   * The load graph of the to-one paths, or null if there is none.
+   */
+  private final EntityGraph<?> graph;
+
+  /**
+   * The `JOIN FETCH` queries of the collection paths, each taking the page ids as parameter.
+   */
+  private final List<String> collectionQueries;
+
+  private FetchPlan(EntityGraph<?> graph, List<String> collectionQueries) {
+    this.graph = graph;
+    this.collectionQueries = collectionQueries;
+  }
+
+  /**
+   * Compiles the given association paths.
+   *
+   * @param em          the entity manager, used to create the graph and read the metamodel
+   * @param entityClass the root entity class
+   * @param entityName  the JPQL name of the root entity
+   * @param paths       the association paths, e.g. `customer` or `items.product`
+   * @return the fetch plan, or {@link #NONE} if no path is given
+   */
+  public static FetchPlan compile(EntityManager em, Class<?> entityClass, String entityName, String[] paths) {
+    if (paths == null || paths.length == 0) {
+      return NONE;
+    }
+
+    Node root = new Node(null);
+    for (String path : paths) {
+      Node node = root;
+      for (String part : path.trim().split("\\.")) {
+        node = node.children.computeIfAbsent(part, Node::new);
+      }
+    }
+
+    Metamodel metamodel = em.getMetamodel();
+    EntityGraph<?> graph = null;
+    List<String> collectionQueries = new ArrayList<>();
+    for (Node node : root.children.values()) {
+      ManagedType<?> type = metamodel.managedType(entityClass);
+      if (reachesCollection(metamodel, type, node)) {
+        StringBuilder jpql = new StringBuilder("select e from ").append(entityName).append(" e");
+        appendJoins(jpql, "e", node, new int[]{0});
+        collectionQueries.add(jpql.append(" where e.id in ?1").toString());
+      } else {
+        if (graph == null) {
+          graph = em.createEntityGraph(entityClass);
+        }
+        addToGraph(graph, node);
+      }
+    }
+    return new FetchPlan(graph, List.copyOf(collectionQueries));
+  }
+
+  /**
+   * Checks whether the plan fetches anything.
+   *
+   * @return true if no association is fetched
+   */
+  public boolean isEmpty() {
+    return graph == null && collectionQueries.isEmpty();
+  }
+
+  /**
+   * Returns the load graph of the to-one paths.
+   *
+   * @return the graph to pass as {@link #LOAD_GRAPH} hint, or null if there is none
+   */
+  public EntityGraph<?> graph() {
+    return graph;
+  }
+
+  /**
+   * Initializes the collections of the plan on already loaded entities.
+   *
+   * <p>Each query loads the collections of the whole page at once, and Hibernate attaches them to
+   * the managed entities of the persistence context. Like the page, the elements are loaded
+   * read-only.
+   *
+   * @param em       the entity manager that loaded the entities
+   * @param entities the loaded entities
+   */
+  public void fetchCollections(EntityManager em, List<? extends HyperEntity> entities) {
+    if (collectionQueries.isEmpty() || entities.isEmpty()) {
+      return;
+    }
+    List<Long> ids = entities.stream().map(entity -> entity.id).toList();
+    for (String jpql : collectionQueries) {
+      em.createQuery(jpql)
+          .setParameter(1, ids)
+          .setHint(HibernateHints.HINT_READ_ONLY, true)
+          .getResultList();
+    }
+  }
+
+  /**
+   * Checks whether the subtree of a node navigates through a collection.
+   */
+  private static boolean reachesCollection(Metamodel metamodel, ManagedType<?> owner, Node node) {
+    Attribute<?, ?> attribute = owner.getAttribute(node.name);
+    if (attribute.isCollection()) {
+      return true;
+    }
+    if (node.children.isEmpty()) {
+      return false;
+    }
+    ManagedType<?> target = metamodel.managedType(attribute.getJavaType());
+    return node.children.values().stream().anyMatch(child -> reachesCollection(metamodel, target, child));
+  }
+
+  /**
+   * Appends the `left join fetch` clauses of a node and its subtree.
+   */
+  private static void appendJoins(StringBuilder jpql, String owner, Node node, int[] aliases) {
+    String alias = "j" + (++aliases[0]);
+    jpql.append(" left join fetch ").append(owner).append('.').append(node.name).append(' ').append(alias);
+    for (Node child : node.children.values()) {
+      appendJoins(jpql, alias, child, aliases);
+    }
+  }
+
+  private static void addToGraph(EntityGraph<?> graph, Node node) {
+    if (node.children.isEmpty()) {
+      graph.addAttributeNodes(node.name);
+      return;
+    }
+    Subgraph<?> subgraph = graph.addSubgraph(node.name);
+    node.children.values().forEach(child -> addToGraph(subgraph, child));
+  }
+
+  private static void addToGraph(Subgraph<?> graph, Node node) {
+    if (node.children.isEmpty()) {
+      graph.addAttributeNodes(node.name);
+      return;
+    }
+    Subgraph<?> subgraph = graph.addSubgraph(node.name);
+    node.children.values().forEach(child -> addToGraph(subgraph, child));
+  }
+
+  /**
+   * A segment of the association path tree.
+   */
+  private static final class Node {
+
+    private final String name;
+    private final Map<String, Node> children = new LinkedHashMap<>();
+
+    private Node(String name) {
+      this.name = name;
+    }
+  }
+}
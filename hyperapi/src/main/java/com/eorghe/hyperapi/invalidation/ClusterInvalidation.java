@@ -0,0 +1,315 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.invalidation;
+
+import com.eorghe.hyperapi.cache.EntityCache;
+import com.eorghe.hyperapi.cache.NegativeCache;
+import com.eorghe.hyperapi.cache.PageCache;
+import com.eorghe.hyperapi.cache.ResponseCache;
+import com.eorghe.hyperapi.paging.CountCache;
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import com.eorghe.hyperapi.registry.EntityRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ClusterInvalidation publishes the writes of this node to the other nodes, and applies theirs to
+ * the local caches.
+ *
+ * <p>With `hyperapi.cache.bus` naming an {@link InvalidationBus}, the generated services publish
+ * the written ids of every committed write. Writes are not sent one by one: they are coalesced
+ * per entity type and flushed every `hyperapi.cache.bus.flush-interval`, so a burst of writes
+ * becomes one message per entity type. When more than {@link #MAX_IDS} ids of a type pile up,
+ * every cached entity of that type is dropped instead.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class ClusterInvalidation {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ClusterInvalidation.class);
+
+  /**
+   * The number of pending ids of an entity type above which all of its entities are dropped.
+   */
+  static final int MAX_IDS = 1_000;
+
+  /**
+   * The name of the invalidation bus, or empty to keep the caches local to each node.
+   */
+  @ConfigProperty(name = "hyperapi.cache.bus")
+  Optional<String> busName;
+
+  /**
+   * The time writes are coalesced before they are sent.
+   */
+  @ConfigProperty(name = "hyperapi.cache.bus.flush-interval", defaultValue = "20ms")
+  Duration flushInterval;
+
+  /**
+   * The available invalidation buses.
+   */
+  @Inject
+  @Any
+  Instance<InvalidationBus> buses;
+
+  /**
+   * The registry used to publish after the current transaction commits.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * The registry resolving received entity names.
+   */
+  @Inject
+  EntityRegistry entityRegistry;
+
+  /**
+   * The local cache of the DTOs read by id.
+   */
+  @Inject
+  EntityCache entityCache;
+
+  /**
+   * The local cache of the list pages, owning the write generations.
+   */
+  @Inject
+  PageCache pageCache;
+
+  /**
+   * The local cache of the serialized responses.
+   */
+  @Inject
+  ResponseCache responseCache;
+
+  /**
+   * The local cache of the ids not found.
+   */
+  @Inject
+  NegativeCache negativeCache;
+
+  /**
+   * The local cache of the exact counts.
+   */
+  @Inject
+  CountCache countCache;
+
+  /**
+   * The writes waiting for the next flush, keyed by entity class name.
+   */
+  private final ConcurrentMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+  /**
+   * The selected bus, or null when the caches are local.
+   */
+  private volatile InvalidationBus bus;
+
+  /**
+   * The thread flushing the pending writes.
+   */
+  private ScheduledExecutorService flusher;
+
+  /**
+   * The writes of an entity type waiting for the next flush.
+   */
+  private static final class Pending {
+
+    /**
+     * The written ids.
+     */
+    private final Set<Long> ids = new HashSet<>();
+
+    /**
+     * Whether every cached entity of the type must be dropped.
+     */
+    private boolean all;
+  }
+
+  /**
+   * Selects the bus and starts listening and flushing at startup.
+   *
+   * @param ev the startup event
+   */
+  void onStart(@Observes StartupEvent ev) {
+    if (busName.isEmpty()) {
+      return;
+    }
+    Instance<InvalidationBus> selected = buses.select(NamedLiteral.of(busName.get()));
+    if (!selected.isResolvable()) {
+      throw new IllegalStateException("No InvalidationBus named " + busName.get());
+    }
+    InvalidationBus resolved = selected.get();
+    resolved.listen(this::apply);
+    flusher = Executors.newSingleThreadScheduledExecutor(
+        runnable -> Thread.ofPlatform().daemon().name("hyperapi-invalidation-flusher").unstarted(runnable));
+    flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    bus = resolved;
+    LOG.info("HyperAPI caches are invalidated across nodes through the {} bus", busName.get());
+  }
+
+  /**
+   * Stops flushing, sending the writes still pending.
+   */
+  @PreDestroy
+  void stop() {
+    if (flusher != null) {
+      flusher.shutdown();
+      flush();
+    }
+  }
+
+  /**
+   * Publishes a write to the other nodes once the current transaction commits.
+   *
+   * @param entityClass the entity class
+   * @param ids         the IDs of the written entities, empty when only pages are stale
+   */
+  public void publish(Class<?> entityClass, Collection<Long> ids) {
+    if (bus == null) {
+      return;
+    }
+    List<Long> written = List.copyOf(ids);
+    if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+      enqueue(entityClass.getName(), written);
+      return;
+    }
+    transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+      @Override
+      public void beforeCompletion() {
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        if (status == Status.STATUS_COMMITTED) {
+          enqueue(entityClass.getName(), written);
+        }
+      }
+    });
+  }
+
+  private void enqueue(String entity, List<Long> ids) {
+    pending.compute(entity, (name, writes) -> {
+      Pending merged = writes != null ? writes : new Pending();
+      if (!merged.all) {
+        merged.ids.addAll(ids);
+        if (merged.ids.size() > MAX_IDS) {
+          merged.all = true;
+          merged.ids.clear();
+        }
+      }
+      return merged;
+    });
+  }
+
+  /**
+   * Sends the pending writes as one batch.
+   */
+  private void flush() {
+    List<Invalidation> batch = new ArrayList<>();
+    for (String entity : pending.keySet()) {
+      Pending writes = pending.remove(entity);
+      if (writes != null) {
+        batch.add(writes.all
+            ? Invalidation.all(entity)
+            : new Invalidation(entity, Set.copyOf(writes.ids), false));
+      }
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      bus.send(batch);
+    } catch (RuntimeException e) {
+      LOG.warn("Cannot send {} cache invalidation(s): {}", batch.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * Applies the invalidations received from another node to the local caches.
+   *
+   * @param batch the invalidations
+   */
+  void apply(List<Invalidation> batch) {
+    Map<String, Class<?>> entities = entityRegistry.all().stream()
+        .collect(Collectors.toMap(Class::getName, Function.identity()));
+    for (Invalidation invalidation : batch) {
+      Class<?> entityClass = entities.get(invalidation.entity());
+      if (entityClass == null) {
+        continue;
+      }
+      countCache.invalidate(entityClass);
+      pageCache.invalidate(entityClass);
+      HyperResource resource = entityClass.getAnnotation(HyperResource.class);
+      Cache cache = resource.cache();
+      if (!cache.enabled()) {
+        continue;
+      }
+      if (invalidation.all()) {
+        entityCache.invalidateAll(entityClass);
+        responseCache.invalidateAll(entityClass);
+        negativeCache.invalidateAll(entityClass);
+      } else if (!invalidation.ids().isEmpty()) {
+        entityCache.invalidate(entityClass, cache, invalidation.ids());
+        if (cache.serialized()) {
+          responseCache.invalidate(entityClass, cache, invalidation.ids());
+        }
+        if (cache.maximumMissing() > 0) {
+          negativeCache.invalidate(entityClass, cache, invalidation.ids());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.invalidation;
+
+import java.util.Set;
+
+/**
+ * Invalidation describes the cached data of an entity type made stale by writes on another node.
+ *
+ * <p>Every invalidation bumps the page generation of the entity type and drops its cached count.
+ * The cached entities are dropped by id, or all of them when too many ids were written to be
+ * listed.
+ *
+ * @param entity the fully qualified name of the entity class
+ * @param ids    the IDs of the written entities, empty when only pages are stale
+ * @param all    true if every cached entity of the type must be dropped
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record Invalidation(String entity, Set<Long> ids, boolean all) {
+
+  /**
+   * Creates an invalidation of every cached entity of a type.
+   *
+   * @param entity the fully qualified name of the entity class
+   * @return the invalidation
+   */
+  public static Invalidation all(String entity) {
+    return new Invalidation(entity, Set.of(), true);
+  }
+}
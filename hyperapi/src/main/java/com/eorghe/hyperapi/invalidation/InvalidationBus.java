@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.invalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * InvalidationBus carries cache invalidations between the nodes of a cluster.
+ *
+ * <p>Implementations are CDI beans selected by name with `hyperapi.cache.bus`. HyperAPI provides
+ * `local`, delivering within the JVM, and `postgres`, using `LISTEN/NOTIFY`. A custom bus is
+ * added by declaring another `@Named` bean implementing this interface.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public interface InvalidationBus {
+
+  /**
+   * Sends a batch of invalidations to the other nodes.
+   *
+   * <p>Called from a single background thread, after the writes were committed.
+   *
+   * @param batch the coalesced invalidations, at most one per entity type
+   */
+  void send(List<Invalidation> batch);
+
+  /**
+   * Starts delivering the invalidations sent by other nodes.
+   *
+   * <p>A node may also receive its own invalidations; applying them again is harmless.
+   *
+   * @param receiver applies a received batch to the local caches
+   */
+  void listen(Consumer<List<Invalidation>> receiver);
+}
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.invalidation;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PostgresInvalidationBus carries invalidations through Postgres `LISTEN/NOTIFY`, so a cluster
+ * needs no infrastructure beyond its database.
+ *
+ * <p>Batches are sent with `pg_notify` on the `hyperapi.cache.bus.channel` channel, split so each
+ * payload stays below the 8000 bytes limit of Postgres. Every node listens on one connection of
+ * the datasource and reconnects when that connection is lost. Invalidations published by the node
+ * itself are skipped, since its own caches were already invalidated.
+ *
+ * <p>A payload is `node|entity=1,2|entity=*|entity=`, listing the written ids of each entity,
+ * `*` for all of them, or nothing when only pages are stale.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+@Named("postgres")
+public class PostgresInvalidationBus implements InvalidationBus {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+  /**
+   * The maximum length of a payload, below the 8000 bytes limit of `NOTIFY`.
+   */
+  private static final int MAX_PAYLOAD = 7_500;
+
+  /**
+   * The channel names accepted in the `LISTEN` statement, which cannot take a parameter.
+   */
+  private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+
+  /**
+   * The time a poll waits for notifications, in milliseconds.
+   */
+  private static final int POLL_MILLIS = 500;
+
+  /**
+   * The time before reconnecting a lost listener connection, in milliseconds.
+   */
+  private static final long RECONNECT_MILLIS = 1_000;
+
+  /**
+   * The notification channel.
+   */
+  @ConfigProperty(name = "hyperapi.cache.bus.channel", defaultValue = "hyperapi_cache")
+  String channel;
+
+  /**
+   * The name of the datasource used to notify and listen, or empty for the default datasource.
+   */
+  @ConfigProperty(name = "hyperapi.cache.bus.datasource")
+  Optional<String> datasource;
+
+  /**
+   * The identifier of this node, used to skip its own notifications.
+   */
+  private final String node = UUID.randomUUID().toString();
+
+  /**
+   * Whether the listener keeps running.
+   */
+  private volatile boolean running;
+
+  @Override
+  public void send(List<Invalidation> batch) {
+    try (Connection connection = getDataSource().getConnection();
+        PreparedStatement notify = connection.prepareStatement("select pg_notify(?, ?)")) {
+      for (String payload : encode(batch)) {
+        notify.setString(1, channel);
+        notify.setString(2, payload);
+        notify.execute();
+      }
+    } catch (SQLException e) {
+      LOG.warn("Cannot publish cache invalidations on channel {}: {}", channel, e.getMessage());
+    }
+  }
+
+  @Override
+  public void listen(Consumer<List<Invalidation>> receiver) {
+    if (!CHANNEL.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid hyperapi.cache.bus.channel: " + channel);
+    }
+    running = true;
+    Thread.ofPlatform().daemon().name("hyperapi-invalidation-listener").start(() -> poll(receiver));
+  }
+
+  /**
+   * Stops the listener.
+   */
+  @PreDestroy
+  void stop() {
+    running = false;
+  }
+
+  /**
+   * Listens on the channel until stopped, reconnecting when the connection is lost.
+   *
+   * @param receiver applies a received batch to the local caches
+   */
+  private void poll(Consumer<List<Invalidation>> receiver) {
+    while (running) {
+      try (Connection connection = getDataSource().getConnection();
+          Statement statement = connection.createStatement()) {
+        statement.execute("LISTEN " + channel);
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pg.getNotifications(POLL_MILLIS);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            List<Invalidation> batch = decode(notification.getParameter());
+            if (!batch.isEmpty()) {
+              receiver.accept(batch);
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        LOG.warn("Cache invalidation listener on channel {} failed, reconnecting: {}",
+            channel, e.getMessage());
+        try {
+          Thread.sleep(RECONNECT_MILLIS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Encodes a batch into payloads that fit a notification.
+   *
+   * @param batch the invalidations
+   * @return the payloads
+   */
+  private List<String> encode(List<Invalidation> batch) {
+    List<String> payloads = new ArrayList<>();
+    StringBuilder payload = new StringBuilder(node);
+    for (Invalidation invalidation : batch) {
+      String section = section(invalidation);
+      if (node.length() + section.length() + 1 > MAX_PAYLOAD) {
+        // Too many ids to list, drop every cached entity of the type instead
+        section = section(Invalidation.all(invalidation.entity()));
+      }
+      if (payload.length() + section.length() + 1 > MAX_PAYLOAD) {
+        payloads.add(payload.toString());
+        payload = new StringBuilder(node);
+      }
+      payload.append('|').append(section);
+    }
+    if (payload.length() > node.length()) {
+      payloads.add(payload.toString());
+    }
+    return payloads;
+  }
+
+  private static String section(Invalidation invalidation) {
+    String ids = invalidation.all() ? "*"
+        : invalidation.ids().stream().map(String::valueOf).collect(Collectors.joining(","));
+    return invalidation.entity() + "=" + ids;
+  }
+
+  /**
+   * Decodes a payload, skipping the payloads sent by this node.
+   *
+   * @param payload the payload
+   * @return the invalidations, empty if the payload was sent by this node
+   */
+  private List<Invalidation> decode(String payload) {
+    String[] sections = payload.split("\\|");
+    if (sections[0].equals(node)) {
+      return List.of();
+    }
+    List<Invalidation> batch = new ArrayList<>(sections.length - 1);
+    for (int i = 1; i < sections.length; i++) {
+      int separator = sections[i].indexOf('=');
+      String entity = sections[i].substring(0, separator);
+      String ids = sections[i].substring(separator + 1);
+      if (ids.equals("*")) {
+        batch.add(Invalidation.all(entity));
+        continue;
+      }
+      Set<Long> written = new HashSet<>();
+      for (String id : ids.split(",")) {
+        if (!id.isEmpty()) {
+          written.add(Long.valueOf(id));
+        }
+      }
+      batch.add(new Invalidation(entity, written, false));
+    }
+    return batch;
+  }
+
+  private AgroalDataSource getDataSource() {
+    return datasource
+        .map(name -> Arc.container()
+            .instance(AgroalDataSource.class, new DataSource.DataSourceLiteral(name)).get())
+        .orElseGet(() -> Arc.container().instance(AgroalDataSource.class).get());
+  }
+}
@@ -25,9 +25,12 @@ package com.eorghe.hyperapi.llm;
 
 import com.eorghe.hyperapi.processor.annotations.Cache;
 import com.eorghe.hyperapi.processor.annotations.Events;
+import com.eorghe.hyperapi.processor.annotations.Filtering;
 import com.eorghe.hyperapi.processor.annotations.HyperResource;
 import com.eorghe.hyperapi.processor.annotations.Pageable;
 import com.eorghe.hyperapi.processor.annotations.Security;
+import com.eorghe.hyperapi.processor.enums.CountStrategy;
+import com.eorghe.hyperapi.processor.enums.PageMode;
 import com.eorghe.hyperapi.registry.EntityRegistry;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.mutiny.Uni;
@@ -137,13 +140,31 @@ public class LLMDocsRoute {
               .append("CRUD Operations:\n");
 
           // Paging
-          if (paging != null && paging.limit() > 0) {
+          if (paging != null && paging.limit() > 0 && paging.mode() == PageMode.KEYSET) {
             entitySpec.append("- GET ").append(path)
-                .append(" → paginated (params: ?page, ?size; default size: ")
+                .append(" → keyset paginated (params: ?cursor, ?limit; next cursor in ")
+                .append("X-Next-Cursor header; default limit: ")
+                .append(paging.limit()).append(", max: ").append(paging.maxLimit()).append(")\n");
+          } else if (paging != null && paging.limit() > 0) {
+            entitySpec.append("- GET ").append(path)
+                .append(" → paginated (params: ?offset, ?limit; default limit: ")
                 .append(paging.limit()).append(", max: ").append(paging.maxLimit()).append(")\n");
           } else {
             entitySpec.append("- GET ").append(path).append("\n");
           }
+          if (paging != null && paging.count() != CountStrategy.NONE) {
+            entitySpec.append("  total count in X-Total-Count header (")
+                .append(paging.count().name().toLowerCase()).append(")\n");
+          }
+          Filtering filtering = metadata != null ? metadata.filtering() : null;
+          if (filtering != null && filtering.filterable().length > 0) {
+            entitySpec.append("  ?filter=field==value;field>value (==, !=, >, >=, <, <=, =in=) on: ")
+                .append(String.join(", ", filtering.filterable())).append("\n");
+          }
+          if (filtering != null && filtering.sortable().length > 0) {
+            entitySpec.append("  ?sort=field,-field on: ")
+                .append(String.join(", ", filtering.sortable())).append("\n");
+          }
 
           // Standard CRUD
           entitySpec.append("- GET ").append(path).append("/{id}\n")
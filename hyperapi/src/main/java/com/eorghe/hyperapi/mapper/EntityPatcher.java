@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.mapper;
+
+import com.eorghe.hyperapi.model.HyperEntity;
+import jakarta.json.JsonObject;
+import java.util.Set;
+
+/**
+ * EntityPatcher writes partial changes directly to a managed entity.
+ *
+ * <p>Implementations are generated by the HyperAPI annotation processor for every
+ * `@HyperResource` entity. They set only the fields present in the patch, so the entity is loaded
+ * once, no JSON round trip is needed, and dirty checking writes only the changed columns.
+ *
+ * <p>Patches touching a field the patcher cannot apply, such as a relation or a collection, are
+ * not supported and fall back to the DTO-based merge in the service.
+ *
+ * @param <ENTITY> the type of the entity, which must extend `HyperEntity`
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public interface EntityPatcher<ENTITY extends HyperEntity> {
+
+  /**
+   * Fields that a patch may contain but never changes.
+   */
+  Set<String> IMMUTABLE_FIELDS = Set.of("id", "createdOn", "createdBy");
+
+  /**
+   * Returns the names of the fields this patcher can set.
+   *
+   * @return the patchable field names
+   */
+  Set<String> fields();
+
+  /**
+   * Checks whether every key of the patch can be applied in place.
+   *
+   * @param patch the JSON Merge Patch
+   * @return true if the patch only contains patchable or immutable fields
+   */
+  default boolean supports(JsonObject patch) {
+    for (String key : patch.keySet()) {
+      if (!fields().contains(key) && !IMMUTABLE_FIELDS.contains(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Applies the patch to the managed entity. Immutable fields are ignored.
+   *
+   * @param entity the managed entity to patch
+   * @param patch  the JSON Merge Patch
+   */
+  void apply(ENTITY entity, JsonObject patch);
+
+  /**
+   * Copies onto the managed entity the fields of the source entity that differ from it.
+   *
+   * <p>Fields that are equal are left untouched, so dirty checking only flags the changed
+   * columns. Collections and the fields inherited from `HyperEntity` are not copied.
+   *
+   * @param source the entity built from the incoming DTO
+   * @param target the managed entity to update
+   */
+  void copyChanged(ENTITY source, ENTITY target);
+}
@@ -0,0 +1,283 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.mapper;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.BadRequestException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * PatchValues converts the values of a JSON Merge Patch into the Java types of entity fields.
+ *
+ * <p>It is used by the generated {@link EntityPatcher} implementations. A JSON `null` converts
+ * to `null`, as a merge patch uses it to clear a field. Values of the wrong JSON type are
+ * rejected with a `BadRequestException` naming the field.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class PatchValues {
+
+  private PatchValues() {
+  }
+
+  /**
+   * Rejects a null value for a primitive field.
+   *
+   * @param field the name of the field
+   * @param value the converted value
+   * @param <T>   the type of the value
+   * @return the value
+   * @throws BadRequestException if the value is null
+   */
+  public static <T> T required(String field, T value) {
+    if (value == null) {
+      throw new BadRequestException("Field '" + field + "' cannot be null");
+    }
+    return value;
+  }
+
+  /**
+   * Converts a patch value to `String`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static String toStringValue(String field, JsonValue value) {
+    return isNull(value) ? null : string(field, value);
+  }
+
+  /**
+   * Converts a patch value to `Integer`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Integer toInteger(String field, JsonValue value) {
+    return isNull(value) ? null : exact(field, () -> number(field, value).intValueExact());
+  }
+
+  /**
+   * Converts a patch value to `Long`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Long toLong(String field, JsonValue value) {
+    return isNull(value) ? null : exact(field, () -> number(field, value).longValueExact());
+  }
+
+  /**
+   * Converts a patch value to `Short`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Short toShort(String field, JsonValue value) {
+    return isNull(value) ? null : exact(field, () -> number(field, value).bigDecimalValue().shortValueExact());
+  }
+
+  /**
+   * Converts a patch value to `Double`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Double toDouble(String field, JsonValue value) {
+    return isNull(value) ? null : number(field, value).doubleValue();
+  }
+
+  /**
+   * Converts a patch value to `Float`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Float toFloat(String field, JsonValue value) {
+    return isNull(value) ? null : (float) number(field, value).doubleValue();
+  }
+
+  /**
+   * Converts a patch value to `BigDecimal`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static BigDecimal toBigDecimal(String field, JsonValue value) {
+    return isNull(value) ? null : number(field, value).bigDecimalValue();
+  }
+
+  /**
+   * Converts a patch value to `BigInteger`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static BigInteger toBigInteger(String field, JsonValue value) {
+    return isNull(value) ? null : exact(field, () -> number(field, value).bigIntegerValueExact());
+  }
+
+  /**
+   * Converts a patch value to `Boolean`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Boolean toBoolean(String field, JsonValue value) {
+    if (isNull(value)) {
+      return null;
+    }
+    return switch (value.getValueType()) {
+      case TRUE -> Boolean.TRUE;
+      case FALSE -> Boolean.FALSE;
+      default -> throw invalid(field);
+    };
+  }
+
+  /**
+   * Converts a patch value to `UUID`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static UUID toUuid(String field, JsonValue value) {
+    return isNull(value) ? null : parse(field, () -> UUID.fromString(string(field, value)));
+  }
+
+  /**
+   * Converts a patch value to `LocalDate`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static LocalDate toLocalDate(String field, JsonValue value) {
+    return isNull(value) ? null : parse(field, () -> LocalDate.parse(string(field, value)));
+  }
+
+  /**
+   * Converts a patch value to `LocalDateTime`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static LocalDateTime toLocalDateTime(String field, JsonValue value) {
+    return isNull(value) ? null : parse(field, () -> LocalDateTime.parse(string(field, value)));
+  }
+
+  /**
+   * Converts a patch value to `Instant`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static Instant toInstant(String field, JsonValue value) {
+    return isNull(value) ? null : parse(field, () -> Instant.parse(string(field, value)));
+  }
+
+  /**
+   * Converts a patch value to `OffsetDateTime`.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @return the converted value, or null for a JSON null
+   */
+  public static OffsetDateTime toOffsetDateTime(String field, JsonValue value) {
+    return isNull(value) ? null : parse(field, () -> OffsetDateTime.parse(string(field, value)));
+  }
+
+  /**
+   * Converts a patch value to an enum constant.
+   *
+   * @param field the name of the field
+   * @param value the JSON value
+   * @param type  the enum class
+   * @param <E>   the enum type
+   * @return the converted value, or null for a JSON null
+   */
+  public static <E extends Enum<E>> E toEnum(String field, JsonValue value, Class<E> type) {
+    return isNull(value) ? null : parse(field, () -> Enum.valueOf(type, string(field, value)));
+  }
+
+  private static boolean isNull(JsonValue value) {
+    return value == null || value.getValueType() == JsonValue.ValueType.NULL;
+  }
+
+  private static String string(String field, JsonValue value) {
+    if (value instanceof JsonString jsonString) {
+      return jsonString.getString();
+    }
+    throw invalid(field);
+  }
+
+  private static JsonNumber number(String field, JsonValue value) {
+    if (value instanceof JsonNumber jsonNumber) {
+      return jsonNumber;
+    }
+    throw invalid(field);
+  }
+
+  private static <T> T exact(String field, Supplier<T> conversion) {
+    try {
+      return conversion.get();
+    } catch (ArithmeticException e) {
+      throw invalid(field);
+    }
+  }
+
+  private static <T> T parse(String field, Supplier<T> conversion) {
+    try {
+      return conversion.get();
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      throw invalid(field);
+    }
+  }
+
+  private static BadRequestException invalid(String field) {
+    return new BadRequestException("Invalid value for field '" + field + "'");
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.paging;
+
+import com.eorghe.hyperapi.query.CompiledQuery;
+import com.eorghe.hyperapi.query.FilterClause;
+import com.eorghe.hyperapi.query.QueryTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * CountCache keeps the exact row count of each entity for the `CACHED` count strategy.
+ *
+ * <p>Counts expire after `hyperapi.count.cache-ttl` and are dropped when an entity is created or
+ * deleted. Inside a transaction the count is dropped once the transaction completes, so a
+ * concurrent request cannot cache the count from before the commit.
+ *
+ * <p>The counts of filtered requests are kept as well, keyed by the compiled filter template and
+ * the values of the request, up to `hyperapi.count.maximum-filtered` entries. An update can move
+ * rows in or out of a filter, so every write drops them, through a generation counter like the
+ * one of the page cache.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class CountCache {
+
+  /**
+   * A cached count and the instant it expires at, in nanoseconds.
+   */
+  private record Entry(long count, long expiresAt) {
+
+  }
+
+  /**
+   * A filtered count, cached under the write generation of its entity class.
+   */
+  private record Filtered(Class<?> entityClass, long generation, QueryTemplate template,
+                          List<FilterClause> clauses) {
+
+  }
+
+  /**
+   * The time a cached count stays valid.
+   */
+  @ConfigProperty(name = "hyperapi.count.cache-ttl", defaultValue = "60s")
+  Duration ttl;
+
+  /**
+   * The maximum number of cached filtered counts, across all entities.
+   */
+  @ConfigProperty(name = "hyperapi.count.maximum-filtered", defaultValue = "10000")
+  long maximumFiltered;
+
+  /**
+   * The registry used to drop counts after the current transaction completes.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * The cached counts, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, Entry> counts = new ConcurrentHashMap<>();
+
+  /**
+   * The write generations of the filtered counts, keyed by entity class.
+   */
+  private final ConcurrentMap<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  /**
+   * The cached filtered counts.
+   */
+  private Cache<Filtered, Long> filtered;
+
+  @PostConstruct
+  void init() {
+    filtered = Caffeine.newBuilder()
+        .maximumSize(maximumFiltered)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  /**
+   * Returns the cached count of the entity, computing it when missing or expired.
+   *
+   * @param entityClass the entity class
+   * @param loader      the exact count query
+   * @return the row count
+   */
+  public long get(Class<?> entityClass, LongSupplier loader) {
+    long now = System.nanoTime();
+    Entry entry = counts.get(entityClass);
+    if (entry != null && now - entry.expiresAt() < 0) {
+      return entry.count();
+    }
+    long count = loader.getAsLong();
+    counts.put(entityClass, new Entry(count, now + ttl.toNanos()));
+    return count;
+  }
+
+  /**
+   * Returns the cached count of the entities matching a filter, computing it when missing or
+   * expired.
+   *
+   * @param entityClass the entity class
+   * @param query       the compiled filter of the request
+   * @param loader      the exact count query
+   * @return the number of matching rows
+   */
+  public long get(Class<?> entityClass, CompiledQuery query, LongSupplier loader) {
+    Filtered key = new Filtered(entityClass, generation(entityClass).get(), query.template(),
+        query.clauses());
+    return filtered.get(key, k -> loader.getAsLong());
+  }
+
+  /**
+   * Drops the cached counts of the entity, after the current transaction if one is active.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidate(Class<?> entityClass) {
+    afterCompletion(() -> {
+      counts.remove(entityClass);
+      generation(entityClass).incrementAndGet();
+    });
+  }
+
+  /**
+   * Drops the cached filtered counts of the entity, after the current transaction if one is
+   * active.
+   *
+   * <p>Used for updates, which leave the total unchanged.
+   *
+   * @param entityClass the entity class
+   */
+  public void invalidateFiltered(Class<?> entityClass) {
+    afterCompletion(generation(entityClass)::incrementAndGet);
+  }
+
+  private AtomicLong generation(Class<?> entityClass) {
+    return generations.computeIfAbsent(entityClass, type -> new AtomicLong());
+  }
+
+  /**
+   * Runs the invalidation now, and again after the current transaction if one is active.
+   *
+   * @param invalidation the invalidation to run
+   */
+  private void afterCompletion(Runnable invalidation) {
+    invalidation.run();
+    if (transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+      transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          invalidation.run();
+        }
+      });
+    }
+  }
+}
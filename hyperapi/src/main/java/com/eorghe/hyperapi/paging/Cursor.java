@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.paging;
+
+import jakarta.ws.rs.BadRequestException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Cursor is the decoded form of the opaque keyset pagination token.
+ *
+ * <p>A cursor holds the seek column value and the id of the last row of a page. It is encoded as
+ * a type-tagged string in URL-safe Base64, so clients treat it as opaque and the server can bind
+ * the seek value with its original type without consulting the JPA metamodel.
+ *
+ * @param value the seek column value of the last row
+ * @param id    the id of the last row, used as tie-breaker
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record Cursor(Object value, Long id) {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  /**
+   * Builds the cursor pointing after the given entity.
+   *
+   * @param entity the last entity of a page
+   * @param seek   the name of the seek column
+   * @param id     the id of the entity
+   * @return the cursor for the entity
+   */
+  public static Cursor after(Object entity, String seek, Long id) {
+    return new Cursor(readField(entity, seek), id);
+  }
+
+  /**
+   * Encodes the cursor into its opaque string form.
+   *
+   * @return the URL-safe token
+   */
+  public String encode() {
+    String raw = tag(value) + ":" + format(value) + "|" + id;
+    return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes an opaque token produced by {@link #encode()}.
+   *
+   * @param token the token sent by the client
+   * @return the decoded cursor
+   * @throws BadRequestException if the token is malformed
+   */
+  public static Cursor decode(String token) {
+    try {
+      String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+      int tagEnd = raw.indexOf(':');
+      int idStart = raw.lastIndexOf('|');
+      String tag = raw.substring(0, tagEnd);
+      String value = raw.substring(tagEnd + 1, idStart);
+      Long id = Long.valueOf(raw.substring(idStart + 1));
+      return new Cursor(parse(tag, value), id);
+    } catch (RuntimeException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  private static String tag(Object value) {
+    return switch (value) {
+      case Long ignored -> "L";
+      case Integer ignored -> "I";
+      case String ignored -> "S";
+      case Instant ignored -> "T";
+      case LocalDate ignored -> "D";
+      case LocalDateTime ignored -> "LDT";
+      case OffsetDateTime ignored -> "ODT";
+      case Date ignored -> "M";
+      case UUID ignored -> "U";
+      case BigDecimal ignored -> "N";
+      case null -> throw new IllegalStateException("Keyset seek column must not be null");
+      default -> throw new IllegalStateException(
+          "Unsupported keyset seek column type: " + value.getClass().getName());
+    };
+  }
+
+  private static String format(Object value) {
+    return value instanceof Date date ? String.valueOf(date.getTime()) : value.toString();
+  }
+
+  private static Object parse(String tag, String value) {
+    return switch (tag) {
+      case "L" -> Long.valueOf(value);
+      case "I" -> Integer.valueOf(value);
+      case "S" -> value;
+      case "T" -> Instant.parse(value);
+      case "D" -> LocalDate.parse(value);
+      case "LDT" -> LocalDateTime.parse(value);
+      case "ODT" -> OffsetDateTime.parse(value);
+      case "M" -> new Date(Long.parseLong(value));
+      case "U" -> UUID.fromString(value);
+      case "N" -> new BigDecimal(value);
+      default -> throw new IllegalArgumentException("Unknown cursor tag " + tag);
+    };
+  }
+
+  private static Object readField(Object entity, String name) {
+    for (Class<?> type = entity.getClass(); type != null; type = type.getSuperclass()) {
+      try {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(entity);
+      } catch (NoSuchFieldException e) {
+        // keep walking up the hierarchy
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Cannot read seek column " + name, e);
+      }
+    }
+    throw new IllegalStateException(
+        "Seek column " + name + " not found on " + entity.getClass().getName());
+  }
+}
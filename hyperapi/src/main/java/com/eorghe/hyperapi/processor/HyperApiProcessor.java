@@ -23,10 +23,17 @@
  */
 package com.eorghe.hyperapi.processor;
 
+import com.eorghe.hyperapi.processor.annotations.Cache;
 import com.eorghe.hyperapi.processor.annotations.Events;
+import com.eorghe.hyperapi.processor.annotations.Filtering;
 import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import com.eorghe.hyperapi.processor.annotations.Pageable;
+import com.eorghe.hyperapi.processor.enums.CountStrategy;
+import com.eorghe.hyperapi.processor.enums.ExecutionModel;
 import com.eorghe.hyperapi.processor.enums.HttpMethod;
+import com.eorghe.hyperapi.processor.enums.PageMode;
 import com.eorghe.hyperapi.processor.enums.Scope;
+import com.eorghe.hyperapi.processor.enums.UpdateMode;
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -39,21 +46,26 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import jakarta.annotation.Generated;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.QueryParam;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -62,6 +74,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
@@ -75,7 +88,10 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 /**
  * HyperApiProcessor is a custom annotation processor for generating code based on the
@@ -101,6 +117,7 @@ import javax.tools.Diagnostic;
 @AutoService(Processor.class)
 @SupportedAnnotationTypes("com.eorghe.hyperapi.processor.annotations.HyperResource")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions(HyperApiProcessor.EXECUTION_MODEL_OPTION)
 public class HyperApiProcessor extends AbstractProcessor {
 
     /**
@@ -111,10 +128,28 @@ public class HyperApiProcessor extends AbstractProcessor {
      * Fully qualified name of the base DTO class used for generated DTOs.
      */
     public static final String DEV_HYPERAPI_RUNTIME_CORE_ENTITY_DTO = "com.eorghe.hyperapi.dto.HyperDto";
+    /**
+     * Name of the processor option selecting the global execution model of generated controllers.
+     */
+    public static final String EXECUTION_MODEL_OPTION = "hyperapi.executionModel";
+    /**
+     * Annotation running a JAX-RS endpoint on a virtual thread.
+     */
+    private static final ClassName RUN_ON_VIRTUAL_THREAD =
+            ClassName.get("io.smallrye.common.annotation", "RunOnVirtualThread");
+    /**
+     * Reference types a keyset cursor can encode, besides {@code java.util.Date} and its subclasses.
+     */
+    private static final Set<String> SEEK_TYPES = Set.of("java.lang.Long", "java.lang.Integer",
+            "java.lang.String", "java.util.UUID", "java.math.BigDecimal", "java.time.Instant",
+            "java.time.LocalDate", "java.time.LocalDateTime", "java.time.OffsetDateTime");
 
     private Filer filer;
     private Messager messager;
     private Elements elementUtils;
+    private Types typeUtils;
+    private PathValidator pathValidator;
+    private ExecutionModel globalExecutionModel;
 
     private HashSet<String> enumsList = new HashSet<>();
 
@@ -129,6 +164,48 @@ public class HyperApiProcessor extends AbstractProcessor {
         filer = env.getFiler();
         messager = env.getMessager();
         elementUtils = env.getElementUtils();
+        typeUtils = env.getTypeUtils();
+        pathValidator = new PathValidator(env);
+        globalExecutionModel = parseExecutionModel(env.getOptions().get(EXECUTION_MODEL_OPTION));
+    }
+
+    /**
+     * Parses the value of the global execution model option.
+     *
+     * @param value the option value, e.g. `virtual-threads` or `worker`
+     * @return the execution model, defaulting to `ExecutionModel.WORKER`
+     */
+    private ExecutionModel parseExecutionModel(String value) {
+        if (value == null || value.isBlank()) {
+            return ExecutionModel.WORKER;
+        }
+        try {
+            return ExecutionModel.valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Unknown %s '%s', using worker threads", EXECUTION_MODEL_OPTION, value));
+            return ExecutionModel.WORKER;
+        }
+    }
+
+    /**
+     * Resolves the execution model of the given resource, applying the global option to `DEFAULT`.
+     *
+     * @param entity        the entity TypeElement
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @return the effective execution model of the generated controller
+     */
+    private ExecutionModel resolveExecutionModel(TypeElement entity, HyperResource hyperResource) {
+        ExecutionModel model = hyperResource.executionModel() == ExecutionModel.DEFAULT
+                ? globalExecutionModel
+                : hyperResource.executionModel();
+        if (hyperResource.reactive()) {
+            if (hyperResource.executionModel() == ExecutionModel.VIRTUAL_THREADS) {
+                warn(entity, "executionModel is ignored for reactive resources");
+            }
+            return ExecutionModel.WORKER;
+        }
+        return model;
     }
 
     /**
@@ -167,9 +244,17 @@ public class HyperApiProcessor extends AbstractProcessor {
                 continue;
             }
 
+            if (!isValidPageable(entityType, hyperResource.pageable())
+                    || !isValidFiltering(entityType, hyperResource)
+                    || !isValidFetch(entityType, hyperResource)
+                    || !isValidCache(entityType, hyperResource)) {
+                continue;
+            }
+
             try {
                 generateDTO(entityType, dtoName, ignoredFields, hyperResource);
                 generateMapper(entityType, dtoName, ignoredFields, ignoredNestedFields);
+                generatePatcher(entityType, ignoredFields, hyperResource);
                 generateService(entityType, dtoName, hyperResource);
                 generateController(entityType, dtoName, hyperResource);
             } catch (IOException | ClassNotFoundException e) {
@@ -202,6 +287,158 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .equals(baseEntityType.getQualifiedName().toString());
     }
 
+    /**
+     * Validates the pagination configuration of the given entity.
+     *
+     * <p>In keyset mode the seek column must be a top-level field of the entity, since the
+     * cursor is built from the value of that field on the last row of a page. Its type must be
+     * one the cursor can encode, and it must never be null: a primitive, the id or a
+     * {@code @Column(nullable = false)}.
+     *
+     * @param entity   the entity TypeElement
+     * @param pageable the pagination configuration
+     * @return true if the configuration is valid, false otherwise
+     */
+    private boolean isValidPageable(TypeElement entity, Pageable pageable) {
+        if (pageable.mode() != PageMode.KEYSET) {
+            return true;
+        }
+        String seek = pageable.seek();
+        if (seek.contains(".")) {
+            error(entity, "@Pageable(seek) must be a top-level field, got '%s'", seek);
+            return false;
+        }
+        if (!pathValidator.validatePaths(entity, new String[]{seek}, "@Pageable(seek)")) {
+            return false;
+        }
+        Element field = elementUtils.getAllMembers(entity).stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD && e.getSimpleName().contentEquals(seek))
+                .findFirst()
+                .orElse(null);
+        if (field == null) {
+            error(entity, "@Pageable(seek) must name a persistent field, got '%s'", seek);
+            return false;
+        }
+        TypeMirror type = field.asType();
+        if (!isSeekType(type)) {
+            error(entity, "@Pageable(seek) field '%s' has type %s, which a cursor cannot encode; "
+                    + "use long, int, String, UUID, BigDecimal, Instant, LocalDate, LocalDateTime, "
+                    + "OffsetDateTime or java.util.Date", seek, type.toString());
+            return false;
+        }
+        Column column = field.getAnnotation(Column.class);
+        if (!type.getKind().isPrimitive() && field.getAnnotation(Id.class) == null
+                && (column == null || column.nullable())) {
+            error(entity, "@Pageable(seek) field '%s' must not be nullable: "
+                    + "use a primitive or @Column(nullable = false)", seek);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the cursor can encode values of the given type.
+     *
+     * @param type the type of the seek field
+     * @return true if {@code Cursor} supports the type, false otherwise
+     */
+    private boolean isSeekType(TypeMirror type) {
+        if (type.getKind() == TypeKind.LONG || type.getKind() == TypeKind.INT) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        String name = ((TypeElement) typeUtils.asElement(type)).getQualifiedName().toString();
+        if (SEEK_TYPES.contains(name)) {
+            return true;
+        }
+        TypeElement date = elementUtils.getTypeElement("java.util.Date");
+        return typeUtils.isAssignable(type, date.asType());
+    }
+
+    /**
+     * Validates the filterable and sortable fields of the given entity.
+     *
+     * <p>Paths may navigate to-one associations but not collections, since they are compiled to
+     * plain JPQL path expressions without joins.
+     *
+     * @param entity        the entity TypeElement
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @return true if the configuration is valid, false otherwise
+     */
+    private boolean isValidFiltering(TypeElement entity, HyperResource hyperResource) {
+        Filtering filtering = hyperResource.filtering();
+        boolean valid = pathValidator.validateSingularPaths(entity, filtering.filterable(), "@Filtering(filterable)");
+        valid &= pathValidator.validateSingularPaths(entity, filtering.sortable(), "@Filtering(sortable)");
+        if (hyperResource.reactive() && (filtering.filterable().length > 0 || filtering.sortable().length > 0)) {
+            warn(entity, "@Filtering is ignored for reactive resources");
+        }
+        return valid;
+    }
+
+    /**
+     * Validates the association paths of the fetch plans of the given entity.
+     *
+     * @param entity        the entity TypeElement
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @return true if the configuration is valid, false otherwise
+     */
+    private boolean isValidFetch(TypeElement entity, HyperResource hyperResource) {
+        boolean valid = pathValidator.validatePaths(entity, hyperResource.fetch(), "@HyperResource(fetch)");
+        valid &= pathValidator.validatePaths(entity, hyperResource.fetchOnList(), "@HyperResource(fetchOnList)");
+        valid &= pathValidator.validatePaths(entity, hyperResource.fetchOnGet(), "@HyperResource(fetchOnGet)");
+        boolean declared = hyperResource.fetch().length > 0
+                || hyperResource.fetchOnList().length > 0
+                || hyperResource.fetchOnGet().length > 0;
+        if (hyperResource.reactive() && declared) {
+            warn(entity, "@HyperResource(fetch) is ignored for reactive resources");
+        }
+        return valid;
+    }
+
+    /**
+     * Validates the cache configuration of the given entity.
+     *
+     * @param entity        the entity TypeElement
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @return true if the configuration is valid, false otherwise
+     */
+    private boolean isValidCache(TypeElement entity, HyperResource hyperResource) {
+        Cache cache = hyperResource.cache();
+        if (cache.queryCache() && !cache.secondLevel()) {
+            error(entity, "@Cache(queryCache) requires @Cache(secondLevel = true)");
+            return false;
+        }
+        if (!cache.enabled() && !cache.secondLevel()) {
+            return true;
+        }
+        if (cache.ttlSeconds() <= 0 || cache.maximumSize() <= 0) {
+            error(entity, "@Cache(ttlSeconds) and @Cache(maximumSize) must be positive");
+            return false;
+        }
+        if (cache.maximumPages() < 0 || cache.offHeapBytes() < 0) {
+            error(entity, "@Cache(maximumPages) and @Cache(offHeapBytes) must not be negative");
+            return false;
+        }
+        if (cache.maximumMissing() < 0 || cache.missingTtlSeconds() <= 0) {
+            error(entity, "@Cache(maximumMissing) must not be negative and @Cache(missingTtlSeconds) must be positive");
+            return false;
+        }
+        if (cache.admitAfter() < 0) {
+            error(entity, "@Cache(admitAfter) must not be negative");
+            return false;
+        }
+        if (cache.offHeapBytes() > 0 && !cache.serialized()) {
+            error(entity, "@Cache(offHeapBytes) stores serialized responses and requires @Cache(serialized = true)");
+            return false;
+        }
+        if (hyperResource.reactive() && cache.enabled()) {
+            warn(entity, "@Cache is ignored for reactive resources, except for secondLevel");
+        }
+        return true;
+    }
+
     /**
      * Generates the Mapper class for the given entity.
      *
@@ -271,6 +508,186 @@ public class HyperApiProcessor extends AbstractProcessor {
         JavaFile.builder(basePackage + ".mapper", mapperClass).indent("    ").build().writeTo(filer);
     }
 
+    /**
+     * Generates the EntityPatcher class for the given entity.
+     *
+     * <p>The patcher sets the fields of a JSON Merge Patch directly on the managed entity. Only
+     * scalar fields exposed by the DTO are patchable; a patch touching any other field falls back
+     * to the DTO-based merge of the service.
+     *
+     * @param entity        the entity TypeElement
+     * @param ignore        the list of fields ignored in mapping
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @throws IOException if there is an error writing the generated file
+     */
+    private void generatePatcher(TypeElement entity, List<String> ignore, HyperResource hyperResource)
+            throws IOException {
+        String entityName = entity.getSimpleName().toString();
+        String basePackage = elementUtils.getPackageOf(entity).getQualifiedName().toString();
+        ClassName entityClass = ClassName.get(basePackage, entityName);
+        ClassName jsonValue = ClassName.get("jakarta.json", "JsonValue");
+        List<String> ignoreFields = Arrays.asList(hyperResource.ignoreFields());
+
+        List<String> fields = new ArrayList<>();
+        CodeBlock.Builder cases = CodeBlock.builder();
+        CodeBlock.Builder copies = CodeBlock.builder();
+        for (Element field : entity.getEnclosedElements()) {
+            Set<Modifier> modifiers = field.getModifiers();
+            String fieldName = field.getSimpleName().toString();
+            if (field.getKind() != ElementKind.FIELD
+                    || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.FINAL)
+                    || ignore.contains(fieldName)
+                    || ignoreFields.contains(fieldName)) {
+                continue;
+            }
+
+            if (!PropertyGenerator.isCollectionType(field.asType())) {
+                copies.add(copyChangedStatement(field, modifiers.contains(Modifier.PUBLIC)));
+            }
+
+            CodeBlock conversion = patchConversion(field.asType(), fieldName);
+            if (conversion == null) {
+                continue;
+            }
+
+            fields.add(fieldName);
+            if (modifiers.contains(Modifier.PUBLIC)) {
+                cases.addStatement("case $S -> entity.$L = $L", fieldName, fieldName, conversion);
+            } else {
+                String setter = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+                cases.addStatement("case $S -> entity.$L($L)", fieldName, setter, conversion);
+            }
+        }
+
+        CodeBlock fieldNames = fields.stream()
+                .map(f -> CodeBlock.of("$S", f))
+                .collect(CodeBlock.joining(", "));
+
+        TypeSpec patcherClass =
+                TypeSpec.classBuilder(entityName + "Patcher")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(generatedAnnotation())
+                        .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
+                        .addSuperinterface(ParameterizedTypeName.get(
+                                ClassName.get("com.eorghe.hyperapi.mapper", "EntityPatcher"), entityClass))
+                        .addField(FieldSpec.builder(
+                                        ParameterizedTypeName.get(Set.class, String.class),
+                                        "FIELDS",
+                                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                .initializer("$T.of($L)", Set.class, fieldNames)
+                                .build())
+                        .addMethod(MethodSpec.methodBuilder("fields")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(ParameterizedTypeName.get(Set.class, String.class))
+                                .addStatement("return FIELDS")
+                                .build())
+                        .addMethod(MethodSpec.methodBuilder("apply")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .addParameter(entityClass, "entity")
+                                .addParameter(ClassName.get("jakarta.json", "JsonObject"), "patch")
+                                .beginControlFlow("for ($T.Entry<$T, $T> entry : patch.entrySet())",
+                                        Map.class, String.class, jsonValue)
+                                .addStatement("$T value = entry.getValue()", jsonValue)
+                                .beginControlFlow("switch (entry.getKey())")
+                                .addCode(cases.build())
+                                .endControlFlow()
+                                .endControlFlow()
+                                .build())
+                        .addMethod(MethodSpec.methodBuilder("copyChanged")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .addParameter(entityClass, "source")
+                                .addParameter(entityClass, "target")
+                                .addCode(copies.build())
+                                .build())
+                        .build();
+
+        JavaFile.builder(basePackage + ".mapper", patcherClass).indent("    ").build().writeTo(filer);
+    }
+
+    /**
+     * Builds the statement copying a field from the source to the target entity when it differs.
+     *
+     * @param field       the entity field
+     * @param publicField whether the field is accessed directly instead of through accessors
+     * @return the copy statement
+     */
+    private CodeBlock copyChangedStatement(Element field, boolean publicField) {
+        ClassName objects = ClassName.get("java.util", "Objects");
+        String fieldName = field.getSimpleName().toString();
+        if (publicField) {
+            return CodeBlock.builder()
+                    .beginControlFlow("if (!$T.equals(source.$L, target.$L))", objects, fieldName, fieldName)
+                    .addStatement("target.$L = source.$L", fieldName, fieldName)
+                    .endControlFlow()
+                    .build();
+        }
+
+        String property = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + property;
+        return CodeBlock.builder()
+                .beginControlFlow("if (!$T.equals(source.$L(), target.$L()))", objects, getter, getter)
+                .addStatement("target.set$L(source.$L())", property, getter)
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * Builds the expression converting a JSON patch value into the type of an entity field.
+     *
+     * @param type      the type of the entity field
+     * @param fieldName the name of the entity field
+     * @return the conversion expression, or null if the field cannot be patched in place
+     */
+    private CodeBlock patchConversion(TypeMirror type, String fieldName) {
+        ClassName patchValues = ClassName.get("com.eorghe.hyperapi.mapper", "PatchValues");
+
+        if (type.getKind().isPrimitive()) {
+            String converter = switch (type.getKind()) {
+                case INT -> "toInteger";
+                case LONG -> "toLong";
+                case SHORT -> "toShort";
+                case DOUBLE -> "toDouble";
+                case FLOAT -> "toFloat";
+                case BOOLEAN -> "toBoolean";
+                default -> null;
+            };
+            return converter == null ? null : CodeBlock.of("$T.required($S, $T.$L($S, value))",
+                    patchValues, fieldName, patchValues, converter, fieldName);
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        Element element = ((DeclaredType) type).asElement();
+        if (element.getKind() == ElementKind.ENUM) {
+            return CodeBlock.of("$T.toEnum($S, value, $T.class)",
+                    patchValues, fieldName, ClassName.get((TypeElement) element));
+        }
+
+        String converter = switch (((TypeElement) element).getQualifiedName().toString()) {
+            case "java.lang.String" -> "toStringValue";
+            case "java.lang.Integer" -> "toInteger";
+            case "java.lang.Long" -> "toLong";
+            case "java.lang.Short" -> "toShort";
+            case "java.lang.Double" -> "toDouble";
+            case "java.lang.Float" -> "toFloat";
+            case "java.lang.Boolean" -> "toBoolean";
+            case "java.math.BigDecimal" -> "toBigDecimal";
+            case "java.math.BigInteger" -> "toBigInteger";
+            case "java.util.UUID" -> "toUuid";
+            case "java.time.LocalDate" -> "toLocalDate";
+            case "java.time.LocalDateTime" -> "toLocalDateTime";
+            case "java.time.Instant" -> "toInstant";
+            case "java.time.OffsetDateTime" -> "toOffsetDateTime";
+            default -> null;
+        };
+        return converter == null ? null : CodeBlock.of("$T.$L($S, value)", patchValues, converter, fieldName);
+    }
 
     private String generateEnumDTO(Element enumElement, HyperResource hyperResource) throws IOException {
         String enumName = enumElement.getSimpleName().toString();
@@ -354,6 +771,11 @@ public class HyperApiProcessor extends AbstractProcessor {
         // Track fields for potential builder pattern
         List<Element> allFields = new ArrayList<>();
 
+        // Track the DTO properties for the codecs, in declaration order
+        Map<String, TypeName> codecFields = new LinkedHashMap<>();
+        Set<String> enumFields = new HashSet<>();
+        Set<String> readOnlyFields = new HashSet<>();
+
         // Process all fields
         for (Element field : entity.getEnclosedElements()) {
             if (field.getKind() == ElementKind.FIELD
@@ -392,6 +814,7 @@ public class HyperApiProcessor extends AbstractProcessor {
 
                         dtoBuilder.addField(fieldBuilder.build());
                         allFields.add(field);
+                        codecFields.put(fieldName, dtoFieldTypeName);
 
                         // Generate all appropriate methods with converted DTO types
                         PropertyGenerator.addPropertyMethods(dtoBuilder, fieldName, dtoFieldTypeName, field.getModifiers());
@@ -418,6 +841,8 @@ public class HyperApiProcessor extends AbstractProcessor {
 
                                 dtoBuilder.addField(fieldBuilder.build());
                                 allFields.add(field);
+                                codecFields.put(fieldName, enumClass);
+                                enumFields.add(fieldName);
 
                                 // Generate all appropriate methods with converted DTO types
                                 PropertyGenerator.addPropertyMethods(dtoBuilder, fieldName, enumClass, field.getModifiers());
@@ -454,6 +879,445 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .indent("    ")
                 .build()
                 .writeTo(filer);
+
+        for (Element field : allFields) {
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                readOnlyFields.add(field.getSimpleName().toString());
+            }
+        }
+        generateJsonCodec(dtoClass, codecFields, enumFields, readOnlyFields);
+        generateProtoCodec(dtoClass, codecFields, enumFields, readOnlyFields);
+    }
+
+    /**
+     * Generates the JSON codec of a DTO, writing and reading it through its accessors.
+     *
+     * <p>Properties are written in the order of JSON-B, the inherited ones first and each class in
+     * lexicographic order, and null values are skipped, so that both produce the same document.
+     *
+     * @param dtoClass       the DTO class
+     * @param fields         the DTO fields by name, without the inherited ones
+     * @param enumFields     the fields holding a generated enum DTO
+     * @param readOnlyFields the fields without a setter
+     * @throws IOException if there is an error writing the generated file
+     */
+    private void generateJsonCodec(ClassName dtoClass, Map<String, TypeName> fields, Set<String> enumFields,
+            Set<String> readOnlyFields) throws IOException {
+        ClassName jsonOutput = ClassName.get("com.eorghe.hyperapi.codec", "JsonOutput");
+        ClassName jsonInput = ClassName.get("com.eorghe.hyperapi.codec", "JsonInput");
+
+        // JSON-B writes the inherited properties first, each class sorted on its own
+        Map<String, TypeName> baseProperties = new TreeMap<>();
+        TypeElement baseDto = elementUtils.getTypeElement(DEV_HYPERAPI_RUNTIME_CORE_ENTITY_DTO);
+        for (Element enclosed : elementUtils.getAllMembers(baseDto)) {
+            if (enclosed.getKind() == ElementKind.FIELD && !enclosed.getModifiers().contains(Modifier.STATIC)) {
+                baseProperties.put(enclosed.getSimpleName().toString(), TypeName.get(enclosed.asType()));
+            }
+        }
+        Map<String, TypeName> properties = new LinkedHashMap<>(baseProperties);
+        new TreeMap<>(fields).forEach(properties::putIfAbsent);
+
+        TypeSpec.Builder codec = TypeSpec.classBuilder(dtoClass.simpleName() + "JsonCodec")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(generatedAnnotation())
+                .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
+                .addSuperinterface(ParameterizedTypeName.get(
+                        ClassName.get("com.eorghe.hyperapi.codec", "JsonCodec"), dtoClass));
+
+        CodeBlock.Builder writes = CodeBlock.builder();
+        CodeBlock.Builder reads = CodeBlock.builder();
+        for (Map.Entry<String, TypeName> property : properties.entrySet()) {
+            String name = property.getKey();
+            TypeName type = property.getValue();
+            boolean isEnum = enumFields.contains(name);
+            String constant = name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+            String accessor = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            String getter = (type.equals(TypeName.BOOLEAN) ? "is" : "get") + accessor;
+
+            codec.addField(FieldSpec.builder(byte[].class, constant, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.name($S)", jsonOutput, name)
+                    .build());
+
+            CodeBlock value = CodeBlock.of("value.$L()", getter);
+            if (type.isPrimitive()) {
+                writes.addStatement("out.field($L)", constant);
+                writes.addStatement(codecWrite(type, false, value));
+            } else {
+                writes.beginControlFlow("if ($L != null)", value)
+                        .addStatement("out.field($L)", constant)
+                        .addStatement(codecWrite(type, isEnum, value))
+                        .endControlFlow();
+            }
+
+            if (readOnlyFields.contains(name)) {
+                continue;
+            }
+            CodeBlock read = codecRead(type, isEnum);
+            if (read == null) {
+                String typeConstant = constant + "_TYPE";
+                codec.addField(FieldSpec.builder(ClassName.get("java.lang.reflect", "Type"), typeConstant,
+                                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.fieldType($T.class, $S)", jsonInput, dtoClass, name)
+                        .build());
+                read = CodeBlock.of("in.readValue($L)", typeConstant);
+            }
+            reads.addStatement("case $S -> value.set$L($L)", name, accessor, read);
+        }
+
+        codec.addMethod(MethodSpec.methodBuilder("type")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Class.class), dtoClass))
+                        .addStatement("return $T.class", dtoClass)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(dtoClass, "value")
+                        .addParameter(jsonOutput, "out")
+                        .addStatement("out.beginObject()")
+                        .addCode(writes.build())
+                        .addStatement("out.endObject()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(dtoClass)
+                        .addParameter(jsonInput, "in")
+                        .addStatement("$T value = new $T()", dtoClass, dtoClass)
+                        .beginControlFlow("while (in.nextField())")
+                        .beginControlFlow("switch (in.name())")
+                        .addCode(reads.build())
+                        .addStatement("default -> in.skipValue()")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return value")
+                        .build());
+
+        JavaFile.builder(dtoClass.packageName(), codec.build()).indent("    ").build().writeTo(filer);
+    }
+
+    /**
+     * Generates the Protocol Buffers codec of a DTO and its `.proto` schema.
+     *
+     * <p>The inherited properties take the field numbers 1 to 15 in lexicographic order, the DTO
+     * properties the numbers from 16 in declaration order. Properties without a scalar type are
+     * carried as a `string` holding their JSON document.
+     *
+     * @param dtoClass       the DTO class
+     * @param fields         the DTO fields by name in declaration order, without the inherited ones
+     * @param enumFields     the fields holding a generated enum DTO
+     * @param readOnlyFields the fields without a setter
+     * @throws IOException if there is an error writing the generated files
+     */
+    private void generateProtoCodec(ClassName dtoClass, Map<String, TypeName> fields, Set<String> enumFields,
+            Set<String> readOnlyFields) throws IOException {
+        ClassName protoOutput = ClassName.get("com.eorghe.hyperapi.proto", "ProtoOutput");
+        ClassName protoInput = ClassName.get("com.eorghe.hyperapi.proto", "ProtoInput");
+
+        Map<String, TypeName> baseProperties = new TreeMap<>();
+        TypeElement baseDto = elementUtils.getTypeElement(DEV_HYPERAPI_RUNTIME_CORE_ENTITY_DTO);
+        for (Element enclosed : elementUtils.getAllMembers(baseDto)) {
+            if (enclosed.getKind() == ElementKind.FIELD && !enclosed.getModifiers().contains(Modifier.STATIC)) {
+                baseProperties.put(enclosed.getSimpleName().toString(), TypeName.get(enclosed.asType()));
+            }
+        }
+        Map<String, Integer> numbers = new LinkedHashMap<>();
+        baseProperties.keySet().forEach(name -> numbers.put(name, numbers.size() + 1));
+        int next = 16;
+        for (String name : fields.keySet()) {
+            if (!numbers.containsKey(name)) {
+                numbers.put(name, next++);
+            }
+        }
+        Map<String, TypeName> properties = new LinkedHashMap<>(baseProperties);
+        fields.forEach(properties::putIfAbsent);
+
+        TypeSpec.Builder codec = TypeSpec.classBuilder(dtoClass.simpleName() + "ProtoCodec")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(generatedAnnotation())
+                .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
+                .addSuperinterface(ParameterizedTypeName.get(
+                        ClassName.get("com.eorghe.hyperapi.proto", "ProtoCodec"), dtoClass));
+
+        StringBuilder schema = new StringBuilder()
+                .append("// Generated by HyperAPI from ").append(dtoClass.canonicalName()).append("\n")
+                .append("syntax = \"proto3\";\n\n")
+                .append("package ").append(dtoClass.packageName()).append(";\n\n")
+                .append("message ").append(dtoClass.simpleName()).append(" {\n");
+
+        CodeBlock.Builder writes = CodeBlock.builder();
+        CodeBlock.Builder reads = CodeBlock.builder();
+        for (Map.Entry<String, TypeName> property : properties.entrySet()) {
+            String name = property.getKey();
+            TypeName type = property.getValue();
+            int number = numbers.get(name);
+            boolean isEnum = enumFields.contains(name);
+            String accessor = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            String getter = (type.equals(TypeName.BOOLEAN) ? "is" : "get") + accessor;
+
+            schema.append("  ").append(type.isPrimitive() ? "" : "optional ")
+                    .append(protoType(type, isEnum)).append(' ')
+                    .append(name).append(" = ").append(number).append(';');
+            String comment = protoComment(type, isEnum);
+            if (comment != null) {
+                schema.append(" // ").append(comment);
+            }
+            schema.append('\n');
+
+            CodeBlock value = CodeBlock.of("value.$L()", getter);
+            if (type.isPrimitive()) {
+                writes.addStatement(protoWrite(type, isEnum, number, value));
+            } else {
+                writes.beginControlFlow("if ($L != null)", value)
+                        .addStatement(protoWrite(type, isEnum, number, value))
+                        .endControlFlow();
+            }
+
+            if (readOnlyFields.contains(name)) {
+                continue;
+            }
+            CodeBlock read = protoRead(type, isEnum);
+            if (read == null) {
+                String typeConstant = name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_TYPE";
+                codec.addField(FieldSpec.builder(ClassName.get("java.lang.reflect", "Type"), typeConstant,
+                                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.fieldType($T.class, $S)",
+                                ClassName.get("com.eorghe.hyperapi.codec", "JsonInput"), dtoClass, name)
+                        .build());
+                read = CodeBlock.of("in.readJson($L)", typeConstant);
+            }
+            reads.addStatement("case $L -> value.set$L($L)", number, accessor, read);
+        }
+        schema.append("}\n\n")
+                .append("message ").append(dtoClass.simpleName()).append("List {\n")
+                .append("  repeated ").append(dtoClass.simpleName()).append(" items = 1;\n")
+                .append("}\n");
+
+        codec.addMethod(MethodSpec.methodBuilder("type")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Class.class), dtoClass))
+                        .addStatement("return $T.class", dtoClass)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(dtoClass, "value")
+                        .addParameter(protoOutput, "out")
+                        .addCode(writes.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(dtoClass)
+                        .addParameter(protoInput, "in")
+                        .addStatement("$T value = new $T()", dtoClass, dtoClass)
+                        .beginControlFlow("for (int tag = in.readTag(); tag != 0; tag = in.readTag())")
+                        .beginControlFlow("switch ($T.fieldNumber(tag))", protoInput)
+                        .addCode(reads.build())
+                        .addStatement("default -> in.skip(tag)")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return value")
+                        .build());
+
+        JavaFile.builder(dtoClass.packageName(), codec.build()).indent("    ").build().writeTo(filer);
+
+        FileObject proto = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/hyperapi/proto/" + dtoClass.simpleName() + ".proto");
+        try (Writer writer = proto.openWriter()) {
+            writer.write(schema.toString());
+        }
+    }
+
+    /**
+     * Returns the `.proto` scalar type of a DTO property.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @return the scalar type
+     */
+    private String protoType(TypeName type, boolean isEnum) {
+        TypeName unboxed = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (isEnum || !unboxed.isPrimitive()) {
+            return type.toString().equals("java.util.Date") ? "int64" : "string";
+        }
+        return switch (unboxed.toString()) {
+            case "boolean" -> "bool";
+            case "long" -> "int64";
+            case "double" -> "double";
+            case "float" -> "float";
+            case "char" -> "string";
+            default -> "int32";
+        };
+    }
+
+    /**
+     * Returns the comment of the `.proto` field of a DTO property encoded as another type.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @return the comment, or null for the properties written as their own type
+     */
+    private String protoComment(TypeName type, boolean isEnum) {
+        if (isEnum) {
+            return "enum constant name";
+        }
+        if (type.isPrimitive() || type.isBoxedPrimitive() || type.toString().equals("java.lang.String")) {
+            return null;
+        }
+        return switch (type.toString()) {
+            case "java.math.BigDecimal", "java.math.BigInteger" -> "decimal";
+            case "java.util.UUID" -> "UUID";
+            case "java.time.LocalDate", "java.time.LocalDateTime", "java.time.Instant" -> "ISO-8601";
+            case "java.util.Date" -> "epoch milliseconds";
+            default -> "JSON document";
+        };
+    }
+
+    /**
+     * Builds the statement writing a non-null DTO property as a Protocol Buffers field.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @param number the field number
+     * @param value  the expression reading the property
+     * @return the write statement
+     */
+    private CodeBlock protoWrite(TypeName type, boolean isEnum, int number, CodeBlock value) {
+        if (isEnum) {
+            return CodeBlock.of("out.writeString($L, $L.name())", number, value);
+        }
+        if (protoRead(type, false) == null) {
+            return CodeBlock.of("out.writeJson($L, $L)", number, value);
+        }
+        TypeName unboxed = type.isBoxedPrimitive() ? type.unbox() : type;
+        return switch (unboxed.toString()) {
+            case "boolean" -> CodeBlock.of("out.writeBool($L, $L)", number, value);
+            case "int", "short", "byte" -> CodeBlock.of("out.writeInt32($L, $L)", number, value);
+            case "long" -> CodeBlock.of("out.writeInt64($L, $L)", number, value);
+            case "double" -> CodeBlock.of("out.writeDouble($L, $L)", number, value);
+            case "float" -> CodeBlock.of("out.writeFloat($L, $L)", number, value);
+            case "char" -> CodeBlock.of("out.writeString($L, $T.valueOf($L))", number, String.class, value);
+            case "java.lang.String" -> CodeBlock.of("out.writeString($L, $L)", number, value);
+            case "java.util.Date" -> CodeBlock.of("out.writeDate($L, $L)", number, value);
+            default -> CodeBlock.of("out.writeString($L, $L.toString())", number, value);
+        };
+    }
+
+    /**
+     * Builds the expression reading a DTO property from its Protocol Buffers field.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @return the read expression, or null if the property is carried as a JSON document
+     */
+    private CodeBlock protoRead(TypeName type, boolean isEnum) {
+        if (isEnum) {
+            return CodeBlock.of("in.readEnum($T.class)", type);
+        }
+        TypeName unboxed = type.isBoxedPrimitive() ? type.unbox() : type;
+        return switch (unboxed.toString()) {
+            case "boolean" -> CodeBlock.of("in.readBool()");
+            case "int" -> CodeBlock.of("in.readInt32()");
+            case "short", "byte" -> CodeBlock.of("($L) in.readInt32()", unboxed);
+            case "long" -> CodeBlock.of("in.readInt64()");
+            case "double" -> CodeBlock.of("in.readDouble()");
+            case "float" -> CodeBlock.of("in.readFloat()");
+            case "char" -> CodeBlock.of("in.readString().charAt(0)");
+            case "java.lang.String" -> CodeBlock.of("in.readString()");
+            case "java.math.BigDecimal" -> CodeBlock.of("in.readBigDecimal()");
+            case "java.math.BigInteger" -> CodeBlock.of("in.readBigInteger()");
+            case "java.util.UUID" -> CodeBlock.of("in.readUuid()");
+            case "java.time.LocalDate" -> CodeBlock.of("in.readLocalDate()");
+            case "java.time.LocalDateTime" -> CodeBlock.of("in.readLocalDateTime()");
+            case "java.time.Instant" -> CodeBlock.of("in.readInstant()");
+            case "java.util.Date" -> CodeBlock.of("in.readDate()");
+            default -> null;
+        };
+    }
+
+    /**
+     * Builds the statement writing a non-null DTO property.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @param value  the expression reading the property
+     * @return the write statement
+     */
+    private CodeBlock codecWrite(TypeName type, boolean isEnum, CodeBlock value) {
+        if (isEnum) {
+            return CodeBlock.of("out.writeString($L.name())", value);
+        }
+        TypeName unboxed = type.isBoxedPrimitive() ? type.unbox() : type;
+        if (unboxed.equals(TypeName.BOOLEAN)) {
+            return CodeBlock.of("out.writeBoolean($L)", value);
+        }
+        if (unboxed.equals(TypeName.LONG) || unboxed.equals(TypeName.INT)
+                || unboxed.equals(TypeName.SHORT) || unboxed.equals(TypeName.BYTE)) {
+            return CodeBlock.of("out.writeLong($L)", value);
+        }
+        if (unboxed.equals(TypeName.DOUBLE)) {
+            return CodeBlock.of("out.writeDouble($L)", value);
+        }
+        if (unboxed.equals(TypeName.CHAR)) {
+            return CodeBlock.of("out.writeString($T.valueOf($L))", String.class, value);
+        }
+        return switch (type.toString()) {
+            case "java.lang.String" -> CodeBlock.of("out.writeString($L)", value);
+            case "java.lang.Float", "float", "java.math.BigDecimal", "java.math.BigInteger" ->
+                    CodeBlock.of("out.writeNumber($L)", value);
+            case "java.util.UUID", "java.time.LocalDate", "java.time.Instant" ->
+                    CodeBlock.of("out.writeString($L.toString())", value);
+            case "java.time.LocalDateTime" -> CodeBlock.of("out.writeString($T.ISO_LOCAL_DATE_TIME.format($L))",
+                    DateTimeFormatter.class, value);
+            case "java.time.OffsetDateTime" -> CodeBlock.of("out.writeString($T.ISO_OFFSET_DATE_TIME.format($L))",
+                    DateTimeFormatter.class, value);
+            case "java.util.Date" -> CodeBlock.of("out.writeDate($L)", value);
+            default -> CodeBlock.of("out.writeValue($L)", value);
+        };
+    }
+
+    /**
+     * Builds the expression reading a DTO property.
+     *
+     * @param type   the type of the property
+     * @param isEnum whether the property holds a generated enum DTO
+     * @return the read expression, or null if the property is read through JSON-B
+     */
+    private CodeBlock codecRead(TypeName type, boolean isEnum) {
+        if (isEnum) {
+            return CodeBlock.of("in.readEnum($T.class)", type);
+        }
+        return switch (type.toString()) {
+            case "boolean" -> CodeBlock.of("in.readBooleanValue()");
+            case "java.lang.Boolean" -> CodeBlock.of("in.readBoolean()");
+            case "long" -> CodeBlock.of("in.readLongValue()");
+            case "java.lang.Long" -> CodeBlock.of("in.readLong()");
+            case "int" -> CodeBlock.of("in.readIntValue()");
+            case "java.lang.Integer" -> CodeBlock.of("in.readInt()");
+            case "short" -> CodeBlock.of("in.readShortValue()");
+            case "java.lang.Short" -> CodeBlock.of("in.readShort()");
+            case "byte" -> CodeBlock.of("in.readByteValue()");
+            case "java.lang.Byte" -> CodeBlock.of("in.readByte()");
+            case "double" -> CodeBlock.of("in.readDoubleValue()");
+            case "java.lang.Double" -> CodeBlock.of("in.readDouble()");
+            case "float" -> CodeBlock.of("in.readFloatValue()");
+            case "java.lang.Float" -> CodeBlock.of("in.readFloat()");
+            case "char" -> CodeBlock.of("in.readCharValue()");
+            case "java.lang.Character" -> CodeBlock.of("in.readChar()");
+            case "java.lang.String" -> CodeBlock.of("in.readString()");
+            case "java.math.BigDecimal" -> CodeBlock.of("in.readBigDecimal()");
+            case "java.math.BigInteger" -> CodeBlock.of("in.readBigInteger()");
+            case "java.util.UUID" -> CodeBlock.of("in.readUuid()");
+            case "java.time.LocalDate" -> CodeBlock.of("in.readLocalDate()");
+            case "java.time.LocalDateTime" -> CodeBlock.of("in.readLocalDateTime()");
+            case "java.time.OffsetDateTime" -> CodeBlock.of("in.readOffsetDateTime()");
+            case "java.time.Instant" -> CodeBlock.of("in.readInstant()");
+            case "java.util.Date" -> CodeBlock.of("in.readDate()");
+            default -> null;
+        };
     }
 
     /**
@@ -613,9 +1477,13 @@ public class HyperApiProcessor extends AbstractProcessor {
             ClassName dtoClass, ClassName entityEventClass, boolean customEmitter) {
 
         String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        // Reads join a caller's transaction but never start one, there is nothing to commit
+        ClassName transactional = ClassName.get("jakarta.transaction", "Transactional");
         return MethodSpec.methodBuilder("findById")
                 .addAnnotation(Override.class)
-                .addAnnotation(ClassName.get("jakarta.transaction", "Transactional"))
+                .addAnnotation(AnnotationSpec.builder(transactional)
+                        .addMember("value", "$T.TxType.SUPPORTS", transactional)
+                        .build())
                 .addModifiers(Modifier.PUBLIC)
                 .returns(dtoClass)
                 .addParameter(ParameterSpec.builder(ClassName.get(Long.class), "id").build())
@@ -626,6 +1494,67 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates the override of `findEncodedById`, firing the GET event of serialized reads.
+     *
+     * <p>A cached response carries no DTO, so the event payload is read with `findForEvent`.
+     *
+     * @param entityEventClass the ClassName of the EntityEvent
+     * @param customEmitter    indicates if a custom event emitter is used
+     * @return the MethodSpec for the findEncodedById method override
+     */
+    private MethodSpec generateEncodedGetOverride(ClassName entityEventClass, boolean customEmitter) {
+        String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        ClassName encodedResponse = ClassName.get("com.eorghe.hyperapi.cache", "EncodedResponse");
+        ClassName transactional = ClassName.get("jakarta.transaction", "Transactional");
+        return MethodSpec.methodBuilder("findEncodedById")
+                .addAnnotation(Override.class)
+                .addAnnotation(AnnotationSpec.builder(transactional)
+                        .addMember("value", "$T.TxType.SUPPORTS", transactional)
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(encodedResponse)
+                .addParameter(ParameterSpec.builder(ClassName.get(Long.class), "id").build())
+                .addStatement("$T result = super.findEncodedById(id)", encodedResponse)
+                .beginControlFlow("if (result != null)")
+                .addStatement(
+                        strCustomEmitter + "($T.Type.GET, mapper.toEntity(findForEvent(id)))", entityEventClass)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    /**
+     * Generates the override of the sparse `findById`, firing the GET event of `?fields=` reads.
+     *
+     * <p>A sparse fieldset is not an entity, so the event payload is read with `findForEvent`.
+     *
+     * @param entityEventClass the ClassName of the EntityEvent
+     * @param customEmitter    indicates if a custom event emitter is used
+     * @return the MethodSpec for the sparse findById method override
+     */
+    private MethodSpec generateSparseGetOverride(ClassName entityEventClass, boolean customEmitter) {
+        String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        TypeName row = ParameterizedTypeName.get(Map.class, String.class, Object.class);
+        ClassName transactional = ClassName.get("jakarta.transaction", "Transactional");
+        return MethodSpec.methodBuilder("findById")
+                .addAnnotation(Override.class)
+                .addAnnotation(AnnotationSpec.builder(transactional)
+                        .addMember("value", "$T.TxType.SUPPORTS", transactional)
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(row)
+                .addParameter(ParameterSpec.builder(ClassName.get(Long.class), "id").build())
+                .addParameter(ParameterSpec.builder(String.class, "fields").build())
+                .addStatement("$T result = super.findById(id, fields)", row)
+                .beginControlFlow("if (result != null)")
+                .addStatement(
+                        strCustomEmitter + "($T.Type.GET, mapper.toEntity(findForEvent(id)))", entityEventClass)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
     /**
      * Generates the create method override for the service class.
      *
@@ -698,6 +1627,65 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates the override of a batch write, firing one event per written entity.
+     *
+     * @param methodName       the name of the batch method, `createAll` or `updateAll`
+     * @param type             the name of the event type constant, `CREATE` or `UPDATE`
+     * @param dtoClass         the ClassName of the DTO
+     * @param entityEventClass the ClassName of the EntityEvent
+     * @param customEmitter    indicates if a custom event emitter is used
+     * @return the MethodSpec for the batch method override
+     */
+    private MethodSpec generateBatchWriteOverride(String methodName, String type,
+            ClassName dtoClass, ClassName entityEventClass, boolean customEmitter) {
+        String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        TypeName dtoList = ParameterizedTypeName.get(ClassName.get(List.class), dtoClass);
+
+        return MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addAnnotation(ClassName.get("jakarta.transaction", "Transactional"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(dtoList)
+                .addParameter(dtoList, "dtos")
+                .addStatement("$T result = super.$L(dtos)", dtoList, methodName)
+                .beginControlFlow("for ($T dto : result)", dtoClass)
+                .addStatement(strCustomEmitter + "($T.Type.$L, mapper.toEntity(dto))", entityEventClass, type)
+                .endControlFlow()
+                .addStatement("return result")
+                .build();
+    }
+
+    /**
+     * Generates the deleteAll method override for the service class, firing one event per id.
+     *
+     * <p>The deleted rows are not read back, so each event carries an entity holding only its id.
+     *
+     * @param entityClass      the ClassName of the entity
+     * @param entityEventClass the ClassName of the EntityEvent
+     * @param customEmitter    indicates if a custom event emitter is used
+     * @return the MethodSpec for the deleteAll method override
+     */
+    private MethodSpec generateDeleteAllOverride(
+            ClassName entityClass, ClassName entityEventClass, boolean customEmitter) {
+        String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        TypeName idList = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Long.class));
+
+        return MethodSpec.methodBuilder("deleteAll")
+                .addAnnotation(Override.class)
+                .addAnnotation(ClassName.get("jakarta.transaction", "Transactional"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.VOID)
+                .addParameter(idList, "ids")
+                .addStatement("super.deleteAll(ids)")
+                .beginControlFlow("for ($T id : ids)", Long.class)
+                .addStatement("$T deleted = new $T()", entityClass, entityClass)
+                .addStatement("deleted.id = id")
+                .addStatement(strCustomEmitter + "($T.Type.DELETE, deleted)", entityEventClass)
+                .endControlFlow()
+                .build();
+    }
+
     /**
      * Generates the patch method override for the service class.
      *
@@ -725,6 +1713,65 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates an event-firing override of a reactive service method.
+     *
+     * <p>The event is fired from `invoke`, once the underlying `Uni` emits its result, so it is
+     * never fired for a failed operation.
+     *
+     * @param methodName       the name of the method to override
+     * @param dtoClass         the ClassName of the DTO
+     * @param entityEventClass the ClassName of the EntityEvent
+     * @param customEmitter    indicates if a custom event emitter is used
+     * @return the MethodSpec for the reactive method override
+     */
+    private MethodSpec generateReactiveOverride(
+            String methodName, ClassName dtoClass, ClassName entityEventClass, boolean customEmitter) {
+        String strCustomEmitter = customEmitter ? "emitter.emit" : "fireEvent";
+        ClassName uni = ClassName.get("io.smallrye.mutiny", "Uni");
+        ClassName withSession = ClassName.get("io.quarkus.hibernate.reactive.panache.common", "WithSession");
+        ClassName withTransaction =
+                ClassName.get("io.quarkus.hibernate.reactive.panache.common", "WithTransaction");
+        ParameterSpec id = ParameterSpec.builder(ClassName.get(Long.class), "id").build();
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(uni, dtoClass));
+
+        switch (methodName) {
+            case "findById" -> builder
+                    .addAnnotation(withSession)
+                    .addParameter(id)
+                    .addStatement("return super.findById(id).invoke(result -> "
+                            + strCustomEmitter + "($T.Type.GET, mapper.toEntity(result)))", entityEventClass);
+            case "create" -> builder
+                    .addAnnotation(withTransaction)
+                    .addParameter(dtoClass, "dto")
+                    .addStatement("return super.create(dto).invoke(result -> "
+                            + strCustomEmitter + "($T.Type.CREATE, mapper.toEntity(result)))", entityEventClass);
+            case "update" -> builder
+                    .addAnnotation(withTransaction)
+                    .addParameter(dtoClass, "dto")
+                    .addStatement("return super.update(dto).invoke(result -> "
+                            + strCustomEmitter + "($T.Type.UPDATE, mapper.toEntity(result)))", entityEventClass);
+            case "patch" -> builder
+                    .addAnnotation(withTransaction)
+                    .addParameter(id)
+                    .addParameter(ClassName.get("jakarta.json", "JsonObject"), "patchJson")
+                    .addStatement("return super.patch(id, patchJson).invoke(result -> "
+                            + strCustomEmitter + "($T.Type.UPDATE, mapper.toEntity(result)))", entityEventClass);
+            case "delete" -> builder
+                    .addAnnotation(withTransaction)
+                    .returns(ParameterizedTypeName.get(uni, ClassName.get(Void.class)))
+                    .addParameter(id)
+                    .addStatement("return super.delete(id).invoke(() -> "
+                            + strCustomEmitter + "($T.Type.DELETE, null))", entityEventClass);
+            default -> throw new IllegalArgumentException("Unsupported reactive override: " + methodName);
+        }
+        return builder.build();
+    }
+
     /**
      * Generates the service class for the given entity.
      *
@@ -750,10 +1797,12 @@ public class HyperApiProcessor extends AbstractProcessor {
         boolean fireOnUpdate = events.onUpdate();
         boolean fireOnDelete = events.onDelete();
         boolean fireOnPatch = events.onDelete();
+        boolean reactive = hyperResource.reactive();
 
         TypeName superType =
                 ParameterizedTypeName.get(
-                        ClassName.get("com.eorghe.hyperapi.service", "BaseEntityService"),
+                        ClassName.get("com.eorghe.hyperapi.service",
+                                reactive ? "ReactiveBaseEntityService" : "BaseEntityService"),
                         entityClass,
                         dtoClass,
                         mapperClass);
@@ -761,7 +1810,13 @@ public class HyperApiProcessor extends AbstractProcessor {
         MethodSpec.Builder constructor =
                 MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
-                        .addStatement("super($T.class)", dtoClass);
+                        .addStatement("super($T.class, $T.class)", dtoClass, entityClass);
+        if (reactive) {
+            constructor =
+                    MethodSpec.constructorBuilder()
+                            .addModifiers(Modifier.PUBLIC)
+                            .addStatement("super($T.class)", dtoClass);
+        }
 
         TypeSpec.Builder serviceClass =
                 TypeSpec.classBuilder(serviceName)
@@ -775,44 +1830,111 @@ public class HyperApiProcessor extends AbstractProcessor {
                 entityClass, hyperResource);
         serviceClass.addMethod(repoGetter);
 
+        // Apply merge patches in place with the generated patcher
+        ClassName patcherClass = ClassName.get(basePackage + ".mapper", entityName + "Patcher");
+        serviceClass.addField(FieldSpec.builder(patcherClass, "patcher", Modifier.PRIVATE)
+                .addAnnotation(ClassName.get("jakarta.inject", "Inject"))
+                .build());
+        serviceClass.addMethod(MethodSpec.methodBuilder("getPatcher")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(ParameterizedTypeName.get(
+                        ClassName.get("com.eorghe.hyperapi.mapper", "EntityPatcher"), entityClass))
+                .addStatement("return patcher")
+                .build());
+
+        if (hyperResource.updateMode() == UpdateMode.CHANGED_FIELDS) {
+            validateChangedFieldsUpdate(entity);
+            ClassName updateMode = ClassName.get(UpdateMode.class);
+            serviceClass.addMethod(MethodSpec.methodBuilder("getUpdateMode")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(updateMode)
+                    .addStatement("return $T.CHANGED_FIELDS", updateMode)
+                    .build());
+        }
+
+        if (!reactive) {
+            serviceClass.addMethod(generateProjectableFields(entity, hyperResource));
+        }
+
         Optional<TypeMirror> emitterMirror = getEmitterTypeMirror(entity);
 
-        if (fireOnGet) {
+        if (reactive) {
+            ClassName entityEventClass = ClassName.get("com.eorghe.hyperapi.events", "EntityEvent");
+            boolean customEmitter = emitterMirror.isPresent();
+            if (fireOnGet) {
+                serviceClass.addMethod(
+                        generateReactiveOverride("findById", dtoClass, entityEventClass, customEmitter));
+            }
+            if (fireOnCreate) {
+                serviceClass.addMethod(
+                        generateReactiveOverride("create", dtoClass, entityEventClass, customEmitter));
+            }
+            if (fireOnUpdate) {
+                serviceClass.addMethod(
+                        generateReactiveOverride("update", dtoClass, entityEventClass, customEmitter));
+            }
+            if (fireOnDelete) {
+                serviceClass.addMethod(
+                        generateReactiveOverride("delete", dtoClass, entityEventClass, customEmitter));
+            }
+            if (fireOnPatch) {
+                serviceClass.addMethod(
+                        generateReactiveOverride("patch", dtoClass, entityEventClass, customEmitter));
+            }
+        }
+
+        if (fireOnGet && !reactive) {
             MethodSpec method =
                     generateGetOverride(
                             dtoClass,
                             ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
                             emitterMirror.isPresent());
             serviceClass.addMethod(method);
+            serviceClass.addMethod(generateSparseGetOverride(
+                    ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
+                    emitterMirror.isPresent()));
+            if (hyperResource.cache().enabled() && hyperResource.cache().serialized()) {
+                serviceClass.addMethod(generateEncodedGetOverride(
+                        ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
+                        emitterMirror.isPresent()));
+            }
         }
 
-        if (fireOnCreate) {
+        if (fireOnCreate && !reactive) {
             MethodSpec method =
                     generateCreateOverride(
                             dtoClass,
                             ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
                             emitterMirror.isPresent());
             serviceClass.addMethod(method);
+            serviceClass.addMethod(generateBatchWriteOverride("createAll", "CREATE", dtoClass,
+                    ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"), emitterMirror.isPresent()));
         }
 
-        if (fireOnUpdate) {
+        if (fireOnUpdate && !reactive) {
             MethodSpec method =
                     generateUpdateOverride(
                             dtoClass,
                             ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
                             emitterMirror.isPresent());
             serviceClass.addMethod(method);
+            serviceClass.addMethod(generateBatchWriteOverride("updateAll", "UPDATE", dtoClass,
+                    ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"), emitterMirror.isPresent()));
         }
 
-        if (fireOnDelete) {
+        if (fireOnDelete && !reactive) {
             MethodSpec method =
                     generateDeleteOverride(
                             ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"),
                             emitterMirror.isPresent());
             serviceClass.addMethod(method);
+            serviceClass.addMethod(generateDeleteAllOverride(entityClass,
+                    ClassName.get("com.eorghe.hyperapi.events", "EntityEvent"), emitterMirror.isPresent()));
         }
 
-        if (fireOnPatch) {
+        if (fireOnPatch && !reactive) {
             MethodSpec method =
                     generatePatchOverride(
                             dtoClass,
@@ -838,6 +1960,63 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .writeTo(filer);
     }
 
+    /**
+     * Warns about the entity settings that limit a `CHANGED_FIELDS` update.
+     *
+     * @param entity the entity TypeElement
+     */
+    private void validateChangedFieldsUpdate(TypeElement entity) {
+        boolean dynamicUpdate = entity.getAnnotationMirrors().stream()
+                .anyMatch(a -> a.getAnnotationType().toString().equals("org.hibernate.annotations.DynamicUpdate"));
+        if (!dynamicUpdate) {
+            warn(entity, "%s uses updateMode = CHANGED_FIELDS without @DynamicUpdate, "
+                    + "the UPDATE statement will still list every column", entity.getSimpleName().toString());
+        }
+
+        for (Element field : entity.getEnclosedElements()) {
+            if (field.getKind() == ElementKind.FIELD && PropertyGenerator.isCollectionType(field.asType())) {
+                warn(entity, "%s.%s is a collection and is not updated by PUT in CHANGED_FIELDS mode",
+                        entity.getSimpleName().toString(), field.getSimpleName().toString());
+            }
+        }
+    }
+
+    /**
+     * Generates the override listing the fields a client may request with `?fields=`.
+     *
+     * <p>Only scalar columns qualify; collections and nested objects would need joins and are
+     * left to the full DTO.
+     *
+     * @param entity        the entity TypeElement
+     * @param hyperResource the HyperResource annotation containing configuration
+     * @return the MethodSpec for the projectable fields getter
+     */
+    private MethodSpec generateProjectableFields(TypeElement entity, HyperResource hyperResource) {
+        List<String> ignored = Arrays.asList(hyperResource.mapping().ignore());
+        List<String> fields = new ArrayList<>(List.of("id", "createdBy", "updatedBy", "createdOn", "updatedOn"));
+        for (Element field : entity.getEnclosedElements()) {
+            String fieldName = field.getSimpleName().toString();
+            if (field.getKind() != ElementKind.FIELD
+                    || field.getModifiers().contains(Modifier.STATIC)
+                    || ignored.contains(fieldName)
+                    || PropertyGenerator.isCollectionType(field.asType())
+                    || PropertyGenerator.isCustomObject(field.asType())) {
+                continue;
+            }
+            fields.add(fieldName);
+        }
+
+        CodeBlock values = fields.stream()
+                .map(f -> CodeBlock.of("$S", f))
+                .collect(CodeBlock.joining(", "));
+        return MethodSpec.methodBuilder("getProjectableFields")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(ParameterizedTypeName.get(Set.class, String.class))
+                .addStatement("return $T.of($L)", Set.class, values)
+                .build();
+    }
+
     /**
      * Generates the repository injection method for the service class.
      *
@@ -868,8 +2047,11 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build());
 
         // Add repository override method
+        String panachePackage = hyperResource.reactive()
+                ? "io.quarkus.hibernate.reactive.panache"
+                : "io.quarkus.hibernate.orm.panache";
         ParameterizedTypeName repoType = ParameterizedTypeName.get(
-                ClassName.get("io.quarkus.hibernate.orm.panache", "PanacheRepositoryBase"),
+                ClassName.get(panachePackage, "PanacheRepositoryBase"),
                 entityClass,
                 ClassName.get("java.lang", "Long")
         );
@@ -935,10 +2117,14 @@ public class HyperApiProcessor extends AbstractProcessor {
         ClassName mapperClass = ClassName.get(basePackage + ".mapper", entityName + "Mapper");
         ClassName serviceClass = ClassName.get(basePackage + ".service", entityName + "Service");
         ClassName entityClass = ClassName.get(basePackage, entityName);
+        ClassName responseClass = ClassName.get("jakarta.ws.rs.core", "Response");
+        boolean reactive = hyperResource.reactive();
+        boolean virtualThreads = resolveExecutionModel(entity, hyperResource) == ExecutionModel.VIRTUAL_THREADS;
 
         TypeName superType =
                 ParameterizedTypeName.get(
-                        ClassName.get("com.eorghe.hyperapi.controller", "RestController"),
+                        ClassName.get("com.eorghe.hyperapi.controller",
+                                reactive ? "ReactiveRestController" : "RestController"),
                         dtoClass,
                         mapperClass,
                         entityClass);
@@ -968,7 +2154,8 @@ public class HyperApiProcessor extends AbstractProcessor {
                                         .addModifiers(Modifier.PUBLIC)
                                         .returns(
                                                 ParameterizedTypeName.get(
-                                                        ClassName.get("com.eorghe.hyperapi.service", "BaseEntityService"),
+                                                        ClassName.get("com.eorghe.hyperapi.service",
+                                                                reactive ? "ReactiveBaseEntityService" : "BaseEntityService"),
                                                         entityClass,
                                                         dtoClass,
                                                         mapperClass))
@@ -988,11 +2175,13 @@ public class HyperApiProcessor extends AbstractProcessor {
             int defaultLimit = hyperResource.pageable().limit();
             int maxLimit = hyperResource.pageable().maxLimit();
 
-            MethodSpec getAll =
+            MethodSpec.Builder getAll =
                     MethodSpec.methodBuilder("getAll")
                             .addAnnotation(GET.class)
                             .addModifiers(Modifier.PUBLIC)
-                            .returns(ParameterizedTypeName.get(ClassName.get("java.util", "List"), dtoClass))
+                            .returns(reactive
+                                    ? ParameterizedTypeName.get(ClassName.get("io.smallrye.mutiny", "Uni"), responseClass)
+                                    : responseClass)
                             .addParameter(
                                     ParameterSpec.builder(TypeName.INT, "offset")
                                             .addAnnotation(
@@ -1015,14 +2204,106 @@ public class HyperApiProcessor extends AbstractProcessor {
                                                             .addMember("value", "$S", String.valueOf(defaultLimit))
                                                             .build())
                                             .build())
-                            .addStatement("return getService().findAll(offset, Math.min(limit, $L))", maxLimit)
-                            .build();
+                            .addParameter(
+                                    ParameterSpec.builder(String.class, "cursor")
+                                            .addAnnotation(
+                                                    AnnotationSpec.builder(QueryParam.class)
+                                                            .addMember("value", "$S", "cursor")
+                                                            .build())
+                                            .build());
+            if (!reactive) {
+                for (String name : List.of("fields", "filter", "sort")) {
+                    getAll.addParameter(
+                            ParameterSpec.builder(String.class, name)
+                                    .addAnnotation(
+                                            AnnotationSpec.builder(QueryParam.class)
+                                                    .addMember("value", "$S", name)
+                                                    .build())
+                                    .build());
+                }
+            }
+
+            if (reactive && hyperResource.pageable().mode() == PageMode.KEYSET) {
+                getAll.addStatement(
+                        "return getService().findAfter(cursor, Math.min(limit, $L), $S).map(this::keysetResponse)",
+                        maxLimit,
+                        hyperResource.pageable().seek());
+            } else if (reactive) {
+                getAll.addStatement(
+                        "return getService().findAll(offset, Math.min(limit, $L)).map(list -> $T.ok(list).build())",
+                        maxLimit,
+                        responseClass);
+            } else {
+                boolean keyset = hyperResource.pageable().mode() == PageMode.KEYSET;
+                String seek = hyperResource.pageable().seek();
+                CodeBlock page = keyset
+                        ? CodeBlock.of("keysetResponse(getService().findAfter(cursor, Math.min(limit, $L), $S, spec))",
+                                maxLimit, seek)
+                        : CodeBlock.of("$T.ok(dtoList(getService().findAll(offset, Math.min(limit, $L), spec))).build()",
+                                responseClass, maxLimit);
+                CodeBlock sparsePage = keyset
+                        ? CodeBlock.of(
+                                "keysetResponse(getService().findAfter(cursor, Math.min(limit, $L), $S, fields, spec))",
+                                maxLimit, seek)
+                        : CodeBlock.of("$T.ok(getService().findAll(offset, Math.min(limit, $L), fields, spec)).build()",
+                                responseClass, maxLimit);
+
+                Cache cache = hyperResource.cache();
+                if (cache.enabled() && cache.serialized() && cache.maximumPages() > 0) {
+                    ClassName pageKey = ClassName.get("com.eorghe.hyperapi.cache", "PageKey");
+                    page = keyset
+                            ? CodeBlock.of("encodedPage($T.keyset(cursor, Math.min(limit, $L), $S, null, spec), () -> $L)",
+                                    pageKey, maxLimit, seek, page)
+                            : CodeBlock.of("encodedPage($T.offset(offset, Math.min(limit, $L), null, spec), () -> $L)",
+                                    pageKey, maxLimit, page);
+                    sparsePage = keyset
+                            ? CodeBlock.of("encodedPage($T.keyset(cursor, Math.min(limit, $L), $S, fields, spec), () -> $L)",
+                                    pageKey, maxLimit, seek, sparsePage)
+                            : CodeBlock.of("encodedPage($T.offset(offset, Math.min(limit, $L), fields, spec), () -> $L)",
+                                    pageKey, maxLimit, sparsePage);
+                }
+
+                ClassName querySpec = ClassName.get("com.eorghe.hyperapi.query", "QuerySpec");
+                getAll.addStatement("$T spec = new $T(filter, sort)", querySpec, querySpec);
 
-            ctrl.addMethod(getAll);
+                CountStrategy count = hyperResource.pageable().count();
+                if (count != CountStrategy.NONE) {
+                    CodeBlock total = CodeBlock.of("getService().count($T.$L, spec)",
+                            ClassName.get(CountStrategy.class), count.name());
+                    page = CodeBlock.of("totalCount($L, $L)", page, total);
+                    sparsePage = CodeBlock.of("totalCount($L, $L)", sparsePage, total);
+                }
+
+                getAll.beginControlFlow("if (isSparse(fields))")
+                        .addStatement("return $L", sparsePage)
+                        .endControlFlow()
+                        .addStatement("return $L", page);
+            }
+
+            if (reactive && hyperResource.pageable().count() != CountStrategy.NONE) {
+                warn(entity, "@Pageable(count) is ignored for reactive resources");
+            }
+
+            if (virtualThreads) {
+                getAll.addAnnotation(RUN_ON_VIRTUAL_THREAD);
+            }
+
+            ctrl.addMethod(getAll.build());
+        }
+
+        // Run the inherited CRUD endpoints on virtual threads
+        if (virtualThreads) {
+            Set<HttpMethod> disabled = Set.of(hyperResource.disabledFor());
+            generateVirtualThreadOverrides(dtoClass, disabled).forEach(ctrl::addMethod);
         }
 
         // Disabled user-defined endpoints
-        if (hyperResource.disabledFor().length > 0) {
+        if (reactive) {
+            Arrays.stream(hyperResource.disabledFor())
+                    .map(HttpMethod::name)
+                    .collect(Collectors.toSet())
+                    .forEach(method -> generateDisabledReactiveMethods(method, dtoClass).forEach(ctrl::addMethod));
+        } else if (hyperResource.disabledFor().length > 0) {
 
             Set<String> disabledMethods =
                     Arrays.stream(hyperResource.disabledFor())
@@ -1033,16 +2314,20 @@ public class HyperApiProcessor extends AbstractProcessor {
                     method -> {
                         if (method.equals("DELETE")) {
                             ctrl.addMethod(generateDisabledDeleteMethod(dtoClass));
+                            ctrl.addMethod(generateDisabledBatchDeleteMethod());
                         }
                         if (method.equals("GET")) {
                             ctrl.addMethod(generateDisabledGetByIdMethod(dtoClass));
                             ctrl.addMethod(generateDisabledGetAllMethod(dtoClass));
+                            ctrl.addMethod(generateDisabledStreamMethod());
                         }
                         if (method.equals("POST")) {
                             ctrl.addMethod(generateDisabledPostMethod(dtoClass));
+                            ctrl.addMethod(generateDisabledBatchMethod("createAll", dtoClass, "POST"));
                         }
                         if (method.equals("PUT")) {
                             ctrl.addMethod(generateDisabledPutMethod(dtoClass));
+                            ctrl.addMethod(generateDisabledBatchMethod("updateAll", dtoClass, "PUT"));
                         }
                         if (method.equals("PATCH")) {
                             ctrl.addMethod(generateDisabledPatchMethod());
@@ -1056,6 +2341,72 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .writeTo(filer);
     }
 
+    /**
+     * Generates the `@RunOnVirtualThread` overrides of every enabled inherited CRUD endpoint.
+     *
+     * <p>The overrides carry no JAX-RS annotations, so the HTTP mapping is inherited from
+     * `RestController`, and simply delegate to the base implementation.
+     *
+     * @param dtoClass the ClassName of the DTO
+     * @param disabled the HTTP methods disabled for the resource
+     * @return the MethodSpecs for the virtual thread overrides
+     */
+    private List<MethodSpec> generateVirtualThreadOverrides(ClassName dtoClass, Set<HttpMethod> disabled) {
+        ClassName response = ClassName.get("jakarta.ws.rs.core", "Response");
+        ParameterSpec id = ParameterSpec.builder(Long.class, "id").build();
+        ParameterSpec dto = ParameterSpec.builder(dtoClass, "dto").build();
+        ParameterSpec dtos = ParameterSpec.builder(
+                ParameterizedTypeName.get(ClassName.get("java.util", "List"), dtoClass), "dtos").build();
+
+        List<MethodSpec> overrides = new ArrayList<>();
+        if (!disabled.contains(HttpMethod.GET)) {
+            overrides.add(generateVirtualThreadOverride(
+                    "getById", response, id, ParameterSpec.builder(String.class, "fields").build()));
+            overrides.add(generateVirtualThreadOverride(
+                    "stream", ClassName.get("jakarta.ws.rs.core", "StreamingOutput")));
+        }
+        if (!disabled.contains(HttpMethod.POST)) {
+            overrides.add(generateVirtualThreadOverride("create", response, dto));
+            overrides.add(generateVirtualThreadOverride("createAll", response, dtos));
+        }
+        if (!disabled.contains(HttpMethod.PUT)) {
+            overrides.add(generateVirtualThreadOverride("update", response, id, dto));
+            overrides.add(generateVirtualThreadOverride("updateAll", response, dtos));
+        }
+        if (!disabled.contains(HttpMethod.PATCH)) {
+            overrides.add(generateVirtualThreadOverride("patch", response, id,
+                    ParameterSpec.builder(ClassName.get("jakarta.json", "JsonObject"), "patchJson").build()));
+        }
+        if (!disabled.contains(HttpMethod.DELETE)) {
+            overrides.add(generateVirtualThreadOverride("delete", response, id));
+            overrides.add(generateVirtualThreadOverride("deleteAll", response,
+                    ParameterSpec.builder(ParameterizedTypeName.get(
+                            ClassName.get("java.util", "List"), ClassName.get(Long.class)), "ids").build()));
+        }
+        return overrides;
+    }
+
+    /**
+     * Generates a `@RunOnVirtualThread` override delegating to the base controller method.
+     *
+     * @param methodName the name of the method to override
+     * @param returnType the return type of the method
+     * @param parameters the parameters of the method
+     * @return the MethodSpec for the override
+     */
+    private MethodSpec generateVirtualThreadOverride(
+            String methodName, TypeName returnType, ParameterSpec... parameters) {
+        String arguments = Arrays.stream(parameters).map(p -> p.name).collect(Collectors.joining(", "));
+        return MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addAnnotation(RUN_ON_VIRTUAL_THREAD)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(returnType)
+                .addParameters(Arrays.asList(parameters))
+                .addStatement("return super.$L($L)", methodName, arguments)
+                .build();
+    }
+
     /**
      * Generates a disabled delete method for the controller.
      *
@@ -1085,9 +2436,13 @@ public class HyperApiProcessor extends AbstractProcessor {
         return MethodSpec.methodBuilder("getAll")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
-                .returns(ParameterizedTypeName.get(ClassName.get("java.util", "List"), dtoClass))
+                .returns(ClassName.get("jakarta.ws.rs.core", "Response"))
                 .addParameter(ParameterSpec.builder(TypeName.INT, "offset").build())
                 .addParameter(ParameterSpec.builder(TypeName.INT, "limit").build())
+                .addParameter(ParameterSpec.builder(String.class, "cursor").build())
+                .addParameter(ParameterSpec.builder(String.class, "fields").build())
+                .addParameter(ParameterSpec.builder(String.class, "filter").build())
+                .addParameter(ParameterSpec.builder(String.class, "sort").build())
                 .addStatement(
                         "throw new $T($S)",
                         ClassName.get("jakarta.ws.rs", "NotFoundException"),
@@ -1095,6 +2450,23 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates a disabled stream method for the controller.
+     *
+     * @return the MethodSpec for the disabled stream method
+     */
+    private MethodSpec generateDisabledStreamMethod() {
+        return MethodSpec.methodBuilder("stream")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ClassName.get("jakarta.ws.rs.core", "StreamingOutput"))
+                .addStatement(
+                        "throw new $T($S)",
+                        ClassName.get("jakarta.ws.rs", "NotFoundException"),
+                        "Stream method is disabled for this resource")
+                .build();
+    }
+
     /**
      * Generates a disabled getById method for the controller.
      *
@@ -1107,6 +2479,7 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .addModifiers(Modifier.PUBLIC)
                 .returns(ClassName.get("jakarta.ws.rs.core", "Response"))
                 .addParameter(ParameterSpec.builder(Long.class, "id").build())
+                .addParameter(ParameterSpec.builder(String.class, "fields").build())
                 .addStatement(
                         "throw new $T($S)",
                         ClassName.get("jakarta.ws.rs", "NotFoundException"),
@@ -1153,6 +2526,45 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates a disabled batch create or update method for the controller.
+     *
+     * @param methodName the name of the batch method to disable
+     * @param dtoClass   the ClassName of the DTO
+     * @param httpMethod the HTTP method name used in the error message
+     * @return the MethodSpec for the disabled batch method
+     */
+    private MethodSpec generateDisabledBatchMethod(String methodName, ClassName dtoClass, String httpMethod) {
+        return MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ClassName.get("jakarta.ws.rs.core", "Response"))
+                .addParameter(ParameterizedTypeName.get(ClassName.get("java.util", "List"), dtoClass), "dtos")
+                .addStatement(
+                        "throw new $T($S)",
+                        ClassName.get("jakarta.ws.rs", "NotFoundException"),
+                        httpMethod + " method is disabled for this resource")
+                .build();
+    }
+
+    /**
+     * Generates a disabled batch delete method for the controller.
+     *
+     * @return the MethodSpec for the disabled batch delete method
+     */
+    private MethodSpec generateDisabledBatchDeleteMethod() {
+        return MethodSpec.methodBuilder("deleteAll")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ClassName.get("jakarta.ws.rs.core", "Response"))
+                .addParameter(ParameterizedTypeName.get(ClassName.get("java.util", "List"), ClassName.get(Long.class)), "ids")
+                .addStatement(
+                        "throw new $T($S)",
+                        ClassName.get("jakarta.ws.rs", "NotFoundException"),
+                        "DELETE method is disabled for this resource")
+                .build();
+    }
+
     /**
      * Generates a disabled patch method for the controller.
      *
@@ -1172,6 +2584,66 @@ public class HyperApiProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates the disabled overrides of a reactive controller for the given HTTP method.
+     *
+     * @param method   the name of the disabled HTTP method
+     * @param dtoClass the ClassName of the DTO
+     * @return the MethodSpecs for the disabled reactive methods
+     */
+    private List<MethodSpec> generateDisabledReactiveMethods(String method, ClassName dtoClass) {
+        ClassName uni = ClassName.get("io.smallrye.mutiny", "Uni");
+        TypeName uniDto = ParameterizedTypeName.get(uni, dtoClass);
+        TypeName uniResponse = ParameterizedTypeName.get(uni, ClassName.get("jakarta.ws.rs.core", "Response"));
+        ParameterSpec id = ParameterSpec.builder(Long.class, "id").build();
+        String message = method + " method is disabled for this resource";
+
+        return switch (method) {
+            case "GET" -> List.of(
+                    generateDisabledReactiveMethod("getAll", uniResponse, message,
+                            ParameterSpec.builder(TypeName.INT, "offset").build(),
+                            ParameterSpec.builder(TypeName.INT, "limit").build(),
+                            ParameterSpec.builder(String.class, "cursor").build()),
+                    generateDisabledReactiveMethod("getById", uniDto, message, id),
+                    generateDisabledReactiveMethod("stream",
+                            ParameterizedTypeName.get(ClassName.get("io.smallrye.mutiny", "Multi"), dtoClass), message));
+            case "POST" -> List.of(
+                    generateDisabledReactiveMethod("create", uniResponse, message,
+                            ParameterSpec.builder(dtoClass, "dto").build()));
+            case "PUT" -> List.of(
+                    generateDisabledReactiveMethod("update", uniDto, message,
+                            id, ParameterSpec.builder(dtoClass, "dto").build()));
+            case "PATCH" -> List.of(
+                    generateDisabledReactiveMethod("patch", uniDto, message,
+                            id, ParameterSpec.builder(ClassName.get("jakarta.json", "JsonObject"), "patchJson").build()));
+            case "DELETE" -> List.of(generateDisabledReactiveMethod("delete", uniResponse, message, id));
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Generates a reactive controller override that rejects the request as not found.
+     *
+     * @param methodName the name of the method to override
+     * @param returnType the return type of the method
+     * @param message    the message of the NotFoundException
+     * @param parameters the parameters of the method
+     * @return the MethodSpec for the disabled method
+     */
+    private MethodSpec generateDisabledReactiveMethod(
+            String methodName, TypeName returnType, String message, ParameterSpec... parameters) {
+        return MethodSpec.methodBuilder(methodName)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(returnType)
+                .addParameters(Arrays.asList(parameters))
+                .addStatement(
+                        "throw new $T($S)",
+                        ClassName.get("jakarta.ws.rs", "NotFoundException"),
+                        message)
+                .build();
+    }
+
     /**
      * Logs an error message with the specified element and message.
      *
@@ -27,6 +27,7 @@ import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
@@ -73,13 +74,44 @@ public class PathValidator {
    * @return true if all paths are valid, false otherwise
    */
   public boolean validatePaths(TypeElement typeElement, String[] paths) {
+    return validatePaths(typeElement, paths, "@Mapping");
+  }
+
+  /**
+   * Validates an array of paths against the specified type element, reporting errors against the
+   * given annotation attribute.
+   *
+   * @param typeElement the type element to validate paths against
+   * @param paths       an array of paths to validate
+   * @param source      the annotation attribute the paths come from, used in error messages
+   * @return true if all paths are valid, false otherwise
+   */
+  public boolean validatePaths(TypeElement typeElement, String[] paths, String source) {
+    return validatePaths(typeElement, paths, source, true);
+  }
+
+  /**
+   * Validates an array of paths that must not navigate through collections, e.g. paths compiled
+   * to JPQL path expressions without joins.
+   *
+   * @param typeElement the type element to validate paths against
+   * @param paths       an array of paths to validate
+   * @param source      the annotation attribute the paths come from, used in error messages
+   * @return true if all paths are valid, false otherwise
+   */
+  public boolean validateSingularPaths(TypeElement typeElement, String[] paths, String source) {
+    return validatePaths(typeElement, paths, source, false);
+  }
+
+  private boolean validatePaths(TypeElement typeElement, String[] paths, String source,
+      boolean allowCollections) {
     if (paths == null || paths.length == 0) {
       return true;
     }
 
     boolean allValid = true;
     for (String path : paths) {
-      if (!validatePath(typeElement, path.trim())) {
+      if (!validatePath(typeElement, path.trim(), source, allowCollections)) {
         allValid = false;
       }
     }
@@ -89,11 +121,14 @@ public class PathValidator {
   /**
    * Validates a single path against the specified root type.
    *
-   * @param rootType the root type element to validate the path against
-   * @param path     the path to validate
+   * @param rootType         the root type element to validate the path against
+   * @param path             the path to validate
+   * @param source           the annotation attribute the path comes from
+   * @param allowCollections whether the path may navigate through collections
    * @return true if the path is valid, false otherwise
    */
-  private boolean validatePath(TypeElement rootType, String path) {
+  private boolean validatePath(TypeElement rootType, String path, String source,
+      boolean allowCollections) {
     String[] parts = path.split("\\.");
     TypeMirror currentType = rootType.asType();
     Element currentElement = rootType;
@@ -103,7 +138,15 @@ public class PathValidator {
       Element field = findField(currentType, part);
 
       if (field == null) {
-        printPathError(rootType, path, part, currentType, "field not found");
+        printPathError(rootType, source, path, part, currentType, "field not found");
+        return false;
+      }
+
+      TypeMirror fieldType = field.getKind() == ElementKind.METHOD
+          ? ((ExecutableElement) field).getReturnType()
+          : field.asType();
+      if (!allowCollections && resolveCollectionElementType(fieldType) != fieldType) {
+        printPathError(rootType, source, path, part, currentType, "is a collection");
         return false;
       }
 
@@ -113,7 +156,7 @@ public class PathValidator {
         currentElement = typeUtils.asElement(currentType);
 
         if (currentElement == null || currentType.getKind() != TypeKind.DECLARED) {
-          printPathError(rootType, path, part, currentType, "not a navigable type");
+          printPathError(rootType, source, path, part, currentType, "not a navigable type");
           return false;
         }
       }
@@ -170,17 +213,18 @@ public class PathValidator {
    * Prints an error message for an invalid path.
    *
    * @param root       the root element where the error occurred
+   * @param source     the annotation attribute the path comes from
    * @param fullPath   the full path that was invalid
    * @param failedPart the part of the path that caused the error
    * @param context    the type context in which the error occurred
    * @param reason     the reason for the error
    */
-  private void printPathError(Element root, String fullPath, String failedPart,
+  private void printPathError(Element root, String source, String fullPath, String failedPart,
       TypeMirror context, String reason) {
     messager.printMessage(Diagnostic.Kind.ERROR,
-        String.format("Invalid path '%s' in @Mapping: " +
+        String.format("Invalid path '%s' in %s: " +
                 "Segment '%s' (%s) %s in type %s",
-            fullPath, failedPart, context, reason, root.getSimpleName()),
+            fullPath, source, failedPart, context, reason, root.getSimpleName()),
         root);
   }
 }
\ No newline at end of file
@@ -29,13 +29,15 @@ package com.eorghe.hyperapi.processor.annotations;
  * <p>This annotation allows configuration of caching behavior, including enabling/disabling
  * caching and specifying the time-to-live (TTL) for cached items.
  *
- * <p>It is not implemented yet and serves as a placeholder for future functionality.
+ * <p>When enabled, the DTOs returned by `findById` are kept in a bounded in-process cache keyed
+ * by id. Entries are dropped when the entity is updated, patched or deleted. List pages are
+ * cached as well when `maximumPages` is set. With `secondLevel`, the entity is cached by Hibernate
+ * instead, or as well.
  *
  * @author Dorin Brage
- * @version 0.1.0
+ * @version 0.5.1
  * @since 0.1.0
  */
-// TODO NOT IMPLEMENTED YET
 public @interface Cache {
 
   /**
@@ -51,4 +53,104 @@ public @interface Cache {
    * @return the TTL value in seconds, defaulting to 60 seconds
    */
   int ttlSeconds() default 60;
-}
\ No newline at end of file
+
+  /**
+   * Specifies the maximum number of entities kept in the cache.
+   *
+   * <p>Once the bound is reached, the entries least likely to be read again are evicted first.
+   *
+   * @return the maximum number of cached entities, defaulting to 10 000
+   */
+  long maximumSize() default 10_000;
+
+  /**
+   * Specifies the maximum number of list pages kept in the cache.
+   *
+   * <p>Pages are cached per offset or cursor, limit, fieldset, filter and sort. Any write to the
+   * entity stops serving the pages cached before it.
+   *
+   * @return the maximum number of cached pages, defaulting to 0 which disables the page cache
+   */
+  long maximumPages() default 0;
+
+  /**
+   * Indicates whether the GET responses are also cached as serialized JSON.
+   *
+   * <p>The cached bytes are written to the response as is, with a precomputed ETag, so a hit
+   * neither maps nor serializes the DTOs. Pages are cached this way only when `maximumPages` is set.
+   *
+   * @return true to cache the serialized responses, defaulting to false
+   */
+  boolean serialized() default false;
+
+  /**
+   * Specifies the maximum number of ids remembered as not found.
+   *
+   * <p>Missing ids are answered with `404` without querying the database, and are bounded
+   * separately from the found entities, so requesting many unknown ids cannot evict them.
+   *
+   * @return the maximum number of missing ids, defaulting to 0 which disables negative caching
+   */
+  long maximumMissing() default 0;
+
+  /**
+   * Specifies the time-to-live in seconds of the ids remembered as not found.
+   *
+   * @return the TTL value in seconds, defaulting to 5 seconds
+   */
+  int missingTtlSeconds() default 5;
+
+  /**
+   * Specifies the size in bytes of the off-heap tier of the serialized responses.
+   *
+   * <p>When set, the serialized responses are stored in direct memory instead of the heap, and
+   * evicted once their total size exceeds the limit, replacing the `maximumSize` and
+   * `maximumPages` bounds of that tier. Requires `serialized`.
+   *
+   * @return the off-heap limit in bytes, defaulting to 0 which keeps the responses on the heap
+   */
+  long offHeapBytes() default 0;
+
+  /**
+   * Specifies the number of reads of an id before it is cached.
+   *
+   * <p>Reads are estimated per id by a count-min sketch. An id read fewer times is loaded
+   * without being cached, so ids read once do not push the frequently read ones out of the cache.
+   *
+   * @return the number of reads, defaulting to 0 which caches every read
+   */
+  int admitAfter() default 0;
+
+  /**
+   * Indicates whether the hottest ids are pinned in the cache.
+   *
+   * <p>The entries of the ids among the `hyperapi.hot-keys.top` most read do not expire after
+   * `ttlSeconds`. They are still dropped when the entity is written, or evicted by size.
+   *
+   * @return true to pin the hottest ids, defaulting to false
+   */
+  boolean pinHot() default false;
+
+  /**
+   * Indicates whether the entity and its collections are cached in the Hibernate second-level
+   * cache.
+   *
+   * <p>The build registers a region for the entity and one per collection, bounded by
+   * `maximumSize` and expiring entries idle for `ttlSeconds`. Unlike the DTO caches, these regions
+   * also serve lazy association loads and the entities read by other queries. This attribute
+   * does not require `enabled`.
+   *
+   * @return true to cache the entity in the second-level cache, defaulting to false
+   */
+  boolean secondLevel() default false;
+
+  /**
+   * Indicates whether the list queries of the entity are cached in the Hibernate query cache.
+   *
+   * <p>A cached query result holds the ids of the rows, and is dropped by Hibernate whenever the
+   * entity table is written. Requires `secondLevel`, so the rows themselves are cached too.
+   *
+   * @return true to cache the list queries, defaulting to false
+   */
+  boolean queryCache() default false;
+}
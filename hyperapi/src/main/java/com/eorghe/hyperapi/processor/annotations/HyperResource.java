@@ -23,8 +23,10 @@
  */
 package com.eorghe.hyperapi.processor.annotations;
 
+import com.eorghe.hyperapi.processor.enums.ExecutionModel;
 import com.eorghe.hyperapi.processor.enums.HttpMethod;
 import com.eorghe.hyperapi.processor.enums.Scope;
+import com.eorghe.hyperapi.processor.enums.UpdateMode;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -87,6 +89,75 @@ public @interface HyperResource {
 
   String[] ignoreFields() default {};
 
+  /**
+   * Specifies the number of entities written per JDBC batch by the batch endpoints.
+   *
+   * <p>The persistence context is flushed and cleared after each batch, so large payloads are
+   * written in bounded memory.
+   *
+   * @return the batch size, defaulting to 50
+   */
+  int batchSize() default 50;
+
+  /**
+   * Specifies whether the resource is served by the non-blocking stack.
+   *
+   * <p>When enabled, the generated service extends `ReactiveBaseEntityService` and the generated
+   * controller returns `Uni`/`Multi`, so requests run on the Vert.x event loop. The repository
+   * must then implement the reactive `PanacheRepositoryBase` from
+   * `quarkus-hibernate-reactive-panache`. Batch endpoints are not available in reactive mode.
+   *
+   * @return true to generate a reactive service and controller, defaulting to false
+   */
+  boolean reactive() default false;
+
+  /**
+   * Specifies the threads the generated controller runs on.
+   *
+   * <p>With `VIRTUAL_THREADS` every enabled CRUD endpoint is annotated with `@RunOnVirtualThread`.
+   * `DEFAULT` follows the `hyperapi.executionModel` annotation processor option, e.g.
+   * `-Ahyperapi.executionModel=virtual-threads`. Ignored for reactive resources.
+   *
+   * @return the execution model, defaulting to `ExecutionModel.DEFAULT`
+   */
+  ExecutionModel executionModel() default ExecutionModel.DEFAULT;
+
+  /**
+   * Specifies how PUT writes the entity.
+   *
+   * <p>With `CHANGED_FIELDS` the managed entity is loaded once and only the fields that differ
+   * are copied onto it. Annotate the entity with `@DynamicUpdate` so the UPDATE statement lists
+   * only the modified columns.
+   *
+   * @return the update mode, defaulting to `UpdateMode.MERGE`
+   */
+  UpdateMode updateMode() default UpdateMode.MERGE;
+
+  /**
+   * Specifies the associations loaded with the entity by the read endpoints.
+   *
+   * <p>Paths may be nested, e.g. `items.product`. To-one paths are loaded by the page query
+   * through an entity graph; collections are loaded by one `JOIN FETCH` query per page, so the
+   * generated mapper does not initialize lazy associations row by row.
+   *
+   * @return the association paths, empty to rely on lazy loading
+   */
+  String[] fetch() default {};
+
+  /**
+   * Specifies the associations loaded by the list endpoints, replacing `fetch` when set.
+   *
+   * @return the association paths of the list endpoints
+   */
+  String[] fetchOnList() default {};
+
+  /**
+   * Specifies the associations loaded by the get by id endpoint, replacing `fetch` when set.
+   *
+   * @return the association paths of the get by id endpoint
+   */
+  String[] fetchOnGet() default {};
+
   /**
    * Specifies the mapping configuration for the resource.
    *
@@ -101,6 +172,13 @@ public @interface HyperResource {
    */
   Pageable pageable() default @Pageable(limit = 20, maxLimit = 100);
 
+  /**
+   * Specifies the fields clients can filter and sort the list endpoint by.
+   *
+   * @return the filtering configuration as a `Filtering` annotation
+   */
+  Filtering filtering() default @Filtering;
+
   /**
    * Specifies the event handling configuration for the resource.
    *
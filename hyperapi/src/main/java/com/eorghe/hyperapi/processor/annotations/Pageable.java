@@ -23,6 +23,9 @@
  */
 package com.eorghe.hyperapi.processor.annotations;
 
+import com.eorghe.hyperapi.processor.enums.CountStrategy;
+import com.eorghe.hyperapi.processor.enums.PageMode;
+
 /**
  * Pageable is an annotation used to configure pagination settings for API resources.
  *
@@ -51,4 +54,34 @@ public @interface Pageable {
    * @return the maximum page size, defaulting to 100
    */
   int maxLimit() default 100;
+
+  /**
+   * Specifies how the generated list endpoint walks through the result set.
+   *
+   * <p>`OFFSET` pages with `?offset` and `?limit`. `KEYSET` pages with an opaque `?cursor`
+   * returned in the `X-Next-Cursor` header, so deep pages cost the same as the first one.
+   *
+   * @return the paging mode, defaulting to `PageMode.OFFSET`
+   */
+  PageMode mode() default PageMode.OFFSET;
+
+  /**
+   * Specifies the column used to seek through the result set in `KEYSET` mode.
+   *
+   * <p>The column must be a non-null, top-level field of the entity. The entity id is always
+   * appended as a tie-breaker, so the column does not need to be unique.
+   *
+   * @return the seek column, defaulting to `id`
+   */
+  String seek() default "id";
+
+  /**
+   * Specifies how the total number of entities is computed for the `X-Total-Count` header.
+   *
+   * <p>`CACHED` and `ESTIMATED` avoid a full count on every request. Ignored for reactive
+   * resources.
+   *
+   * @return the count strategy, defaulting to `CountStrategy.NONE`
+   */
+  CountStrategy count() default CountStrategy.NONE;
 }
\ No newline at end of file
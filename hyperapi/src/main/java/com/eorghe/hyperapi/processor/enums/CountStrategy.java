@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.processor.enums;
+
+/**
+ * CountStrategy is an enumeration of the ways the list endpoint computes the `X-Total-Count`
+ * header.
+ *
+ * <ul>
+ *   <li>NONE: No total is returned.</li>
+ *   <li>EXACT: `SELECT COUNT(*)` on every request.</li>
+ *   <li>CACHED: Exact count cached per entity, invalidated on create and delete.</li>
+ *   <li>ESTIMATED: Planner estimate read from Postgres `pg_class.reltuples`.</li>
+ * </ul>
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public enum CountStrategy {
+  /**
+   * No total count.
+   */
+  NONE,
+
+  /**
+   * Exact count. Scans the table or its smallest index on every request.
+   */
+  EXACT,
+
+  /**
+   * Exact count cached for `hyperapi.count.cache-ttl`, dropped when entities are created or
+   * deleted.
+   */
+  CACHED,
+
+  /**
+   * Estimated count maintained by `VACUUM`/`ANALYZE`. Constant time, approximate, Postgres only.
+   */
+  ESTIMATED
+}
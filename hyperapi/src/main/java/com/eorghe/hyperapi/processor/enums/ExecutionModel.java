@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.processor.enums;
+
+/**
+ * ExecutionModel is an enumeration of the threads a generated blocking controller can run on.
+ *
+ * <ul>
+ *   <li>DEFAULT: Follows the global `hyperapi.executionModel` processor option.</li>
+ *   <li>WORKER: Runs on the Quarkus worker pool.</li>
+ *   <li>VIRTUAL_THREADS: Runs every endpoint on a new virtual thread.</li>
+ * </ul>
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public enum ExecutionModel {
+  /**
+   * Uses the global setting, falling back to the worker pool when none is configured.
+   */
+  DEFAULT,
+
+  /**
+   * Classic worker pool. Each request holds a platform thread while it waits on JDBC.
+   */
+  WORKER,
+
+  /**
+   * Virtual threads. Blocking JDBC calls unmount the virtual thread instead of holding a worker.
+   */
+  VIRTUAL_THREADS
+}
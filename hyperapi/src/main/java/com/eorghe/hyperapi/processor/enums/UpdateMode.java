@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.processor.enums;
+
+/**
+ * UpdateMode is an enumeration of the strategies used by PUT to write an entity.
+ *
+ * <ul>
+ *   <li>MERGE: Rebuilds a detached entity from the DTO and merges it.</li>
+ *   <li>CHANGED_FIELDS: Loads the managed entity and copies only the fields that differ.</li>
+ * </ul>
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public enum UpdateMode {
+  /**
+   * `EntityManager.merge` of the DTO. Every column is rewritten by the UPDATE.
+   */
+  MERGE,
+
+  /**
+   * Field-by-field copy onto the managed entity. Combined with `@DynamicUpdate`, the UPDATE lists
+   * only the modified columns. Collections are not updated in this mode.
+   */
+  CHANGED_FIELDS
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.projection;
+
+import jakarta.persistence.Tuple;
+import jakarta.ws.rs.BadRequestException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Projection is a parsed sparse fieldset, as requested with `?fields=name,price`.
+ *
+ * <p>It selects only the requested columns with JPQL and turns each result row into a map
+ * holding only the requested properties, so no entity is hydrated and no DTO is mapped.
+ *
+ * @param fields   the fields requested by the client, in request order
+ * @param selected the selected columns: the requested fields plus the ones needed for paging
+ * @param select   the JPQL select clause, without the `from` part
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record Projection(List<String> fields, List<String> selected, String select) {
+
+  /**
+   * The alias of the entity in projection queries.
+   */
+  public static final String ALIAS = "e";
+
+  /**
+   * Parses a comma-separated list of fields.
+   *
+   * @param raw      the value of the `fields` query parameter
+   * @param allowed  the fields that can be projected
+   * @param required the fields selected in any case, without being returned unless requested
+   * @return the projection
+   * @throws BadRequestException if a field is unknown or no field is requested
+   */
+  public static Projection parse(String raw, Set<String> allowed, List<String> required) {
+    Set<String> fields = new LinkedHashSet<>();
+    for (String field : raw.split(",")) {
+      String name = field.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      if (!allowed.contains(name)) {
+        throw new BadRequestException("Unknown field '" + name + "'");
+      }
+      fields.add(name);
+    }
+    if (fields.isEmpty()) {
+      throw new BadRequestException("No field requested");
+    }
+
+    List<String> selected = new ArrayList<>(fields);
+    for (String field : required) {
+      if (!selected.contains(field)) {
+        selected.add(field);
+      }
+    }
+
+    StringBuilder select = new StringBuilder("select ");
+    for (int i = 0; i < selected.size(); i++) {
+      select.append(i > 0 ? ", " : "").append(ALIAS).append('.').append(selected.get(i));
+    }
+    return new Projection(List.copyOf(fields), List.copyOf(selected), select.toString());
+  }
+
+  /**
+   * Builds the query selecting the projected columns from the given entity.
+   *
+   * @param entityName the JPQL name of the entity
+   * @return the JPQL query, to be completed with a where and order by clause
+   */
+  public String from(String entityName) {
+    return select + " from " + entityName + " " + ALIAS;
+  }
+
+  /**
+   * Returns the value of a selected column in a result row.
+   *
+   * @param row   the result row
+   * @param field the selected field
+   * @return the value of the column
+   */
+  public Object value(Tuple row, String field) {
+    return row.get(selected.indexOf(field));
+  }
+
+  /**
+   * Converts a result row into a map of the requested fields.
+   *
+   * @param row the result row
+   * @return the requested fields and their values, in request order
+   */
+  public Map<String, Object> toMap(Tuple row) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < fields.size(); i++) {
+      map.put(fields.get(i), row.get(i));
+    }
+    return map;
+  }
+}
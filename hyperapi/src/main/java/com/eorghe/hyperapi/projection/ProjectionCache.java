@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.projection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ProjectionCache keeps the parsed sparse fieldsets by shape, so a `fields` parameter seen before
+ * is neither parsed nor validated again.
+ *
+ * <p>The number of shapes is bounded; once full, new shapes are parsed on every request.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class ProjectionCache {
+
+  /**
+   * The maximum number of cached shapes.
+   */
+  private static final int MAX_SHAPES = 1024;
+
+  /**
+   * The shape of a projection: the entity, the raw fieldset and the columns required for paging.
+   */
+  private record Shape(Class<?> entityClass, String fields, List<String> required) {
+
+  }
+
+  /**
+   * The parsed projections, keyed by shape.
+   */
+  private final ConcurrentMap<Shape, Projection> shapes = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the projection of the given fieldset, parsing it on the first request.
+   *
+   * @param entityClass the entity class
+   * @param fields      the value of the `fields` query parameter
+   * @param allowed     the fields that can be projected
+   * @param required    the fields selected in any case
+   * @return the projection
+   */
+  public Projection get(Class<?> entityClass, String fields, Set<String> allowed, List<String> required) {
+    Shape shape = new Shape(entityClass, fields, required);
+    Projection projection = shapes.get(shape);
+    if (projection == null) {
+      projection = Projection.parse(fields, allowed, required);
+      if (shapes.size() < MAX_SHAPES) {
+        shapes.putIfAbsent(shape, projection);
+      }
+    }
+    return projection;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+/**
+ * ProtoCodec writes and reads a DTO in the Protocol Buffers wire format.
+ *
+ * <p>The annotation processor generates one codec per generated DTO, together with the `.proto`
+ * schema describing the same message. Codecs are CDI beans collected by {@link ProtoCodecs}.
+ *
+ * @param <T> the type of the DTO
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public interface ProtoCodec<T> {
+
+  /**
+   * Returns the DTO class handled by this codec.
+   *
+   * @return the DTO class
+   */
+  Class<T> type();
+
+  /**
+   * Writes the fields of a DTO.
+   *
+   * @param value the DTO, never null
+   * @param out   the output to write to
+   */
+  void write(T value, ProtoOutput out);
+
+  /**
+   * Reads the fields of a message into a new DTO, up to the current limit of the input.
+   *
+   * @param in the input to read from
+   * @return the DTO
+   */
+  T read(ProtoInput in);
+
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+import jakarta.inject.Inject;
+import jakarta.json.bind.JsonbException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ProtoCodecProvider writes and reads `application/x-protobuf` bodies with the generated
+ * {@link ProtoCodec}s.
+ *
+ * <p>A DTO is written as its message. A collection of DTOs is written as the `{Dto}List` message
+ * of the generated schema, whose field 1 repeats the DTOs.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Provider
+@Produces(ProtoCodecProvider.APPLICATION_PROTOBUF)
+@Consumes(ProtoCodecProvider.APPLICATION_PROTOBUF)
+public class ProtoCodecProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+  /**
+   * Media type of Protocol Buffers bodies.
+   */
+  public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+
+  /**
+   * Media type of Protocol Buffers bodies.
+   */
+  public static final MediaType APPLICATION_PROTOBUF_TYPE = MediaType.valueOf(APPLICATION_PROTOBUF);
+
+  /**
+   * Field number of the DTOs in the `{Dto}List` message.
+   */
+  private static final int ITEMS = 1;
+
+  /**
+   * The registry of the codecs.
+   */
+  @Inject
+  ProtoCodecs codecs;
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType) {
+    return codecFor(type, genericType) != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType, MultivaluedMap<String, Object> headers, OutputStream stream)
+      throws IOException {
+    ProtoCodec<Object> codec = (ProtoCodec<Object>) codecFor(type, genericType);
+    ProtoOutput out = ProtoOutput.acquire(codecs.jsonb());
+    if (value instanceof Collection<?> items) {
+      for (Object item : items) {
+        if (item != null) {
+          int start = out.beginMessage(ITEMS);
+          codec.write(item, out);
+          out.endMessage(start);
+        }
+      }
+    } else {
+      codec.write(value, out);
+    }
+    out.writeTo(stream);
+  }
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType) {
+    return codecFor(type, genericType) != null;
+  }
+
+  @Override
+  public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations,
+      MediaType mediaType, MultivaluedMap<String, String> headers, InputStream stream)
+      throws IOException {
+    ProtoCodec<?> codec = codecFor(type, genericType);
+    ProtoInput in = ProtoInput.of(stream.readAllBytes(), codecs.jsonb());
+    try {
+      if (!Collection.class.isAssignableFrom(type)) {
+        return codec.read(in);
+      }
+      Collection<Object> items = Set.class.isAssignableFrom(type)
+          ? new LinkedHashSet<>()
+          : new ArrayList<>();
+      for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+        if (ProtoInput.fieldNumber(tag) != ITEMS) {
+          in.skip(tag);
+          continue;
+        }
+        int limit = in.pushLimit();
+        items.add(codec.read(in));
+        in.popLimit(limit);
+      }
+      return items;
+    } catch (IllegalArgumentException | DateTimeException | ArithmeticException
+             | JsonbException e) {
+      throw new BadRequestException("Malformed protobuf body: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Finds the codec of a body type, a DTO class or a collection of a DTO class.
+   *
+   * @param type        the raw type of the body
+   * @param genericType the generic type of the body
+   * @return the codec, or null if the body has none
+   */
+  private ProtoCodec<?> codecFor(Class<?> type, Type genericType) {
+    if (Collection.class.isAssignableFrom(type)) {
+      return codecs.findElement(genericType);
+    }
+    return codecs.find(type);
+  }
+
+}
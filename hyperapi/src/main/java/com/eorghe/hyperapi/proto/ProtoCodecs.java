@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * ProtoCodecs is the registry of the generated {@link ProtoCodec}s.
+ *
+ * <p>Setting `hyperapi.protobuf.enabled=false` leaves the registry empty, so that only JSON is
+ * negotiated.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class ProtoCodecs {
+
+  /**
+   * Whether Protocol Buffers bodies are negotiated.
+   */
+  @ConfigProperty(name = "hyperapi.protobuf.enabled", defaultValue = "true")
+  boolean enabled;
+
+  /**
+   * The generated codecs.
+   */
+  @Inject
+  @Any
+  Instance<ProtoCodec<?>> instances;
+
+  /**
+   * The JSON-B instance used for the fields without a scalar type.
+   */
+  @Inject
+  Jsonb jsonb;
+
+  /**
+   * The codecs by DTO class.
+   */
+  private Map<Class<?>, ProtoCodec<?>> codecs = Map.of();
+
+  /**
+   * Collects the codecs.
+   */
+  @PostConstruct
+  void init() {
+    if (enabled) {
+      register(instances);
+    }
+  }
+
+  /**
+   * Creates a registry outside of CDI, e.g. for tests.
+   *
+   * @param jsonb  the JSON-B instance used for the fields without a scalar type
+   * @param codecs the codecs
+   * @return the registry
+   */
+  static ProtoCodecs of(Jsonb jsonb, ProtoCodec<?>... codecs) {
+    ProtoCodecs registry = new ProtoCodecs();
+    registry.jsonb = jsonb;
+    registry.register(List.of(codecs));
+    return registry;
+  }
+
+  /**
+   * Indexes the codecs by DTO class.
+   *
+   * @param instances the codecs
+   */
+  private void register(Iterable<? extends ProtoCodec<?>> instances) {
+    Map<Class<?>, ProtoCodec<?>> found = new HashMap<>();
+    for (ProtoCodec<?> codec : instances) {
+      found.put(codec.type(), codec);
+    }
+    codecs = Map.copyOf(found);
+  }
+
+  /**
+   * Returns the codec of a DTO class.
+   *
+   * @param type the DTO class
+   * @return the codec, or null if the class has none
+   */
+  public ProtoCodec<?> find(Class<?> type) {
+    return codecs.get(type);
+  }
+
+  /**
+   * Returns the codec of the elements of a collection type, e.g. `List<ProductDTO>`.
+   *
+   * @param genericType the generic type of the collection
+   * @return the codec, or null if the elements have none
+   */
+  public ProtoCodec<?> findElement(Type genericType) {
+    if (genericType instanceof ParameterizedType parameterized
+        && parameterized.getActualTypeArguments().length == 1
+        && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+      return codecs.get(element);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the JSON-B instance used for the fields without a scalar type.
+   *
+   * @return the JSON-B instance
+   */
+  Jsonb jsonb() {
+    return jsonb;
+  }
+
+}
@@ -0,0 +1,380 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+import jakarta.json.bind.Jsonb;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * ProtoInput is the reader generated codecs parse Protocol Buffers messages from.
+ *
+ * <p>Codecs iterate the tags of a message with {@link #readTag()}, read the fields they know with
+ * the method matching their setter and {@link #skip(int)} the others, so messages written against
+ * a newer schema still read.
+ *
+ * <p>Malformed input, including a field whose wire type does not match the type it is read as,
+ * fails with an {@link IllegalArgumentException}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class ProtoInput {
+
+  /**
+   * The message bytes.
+   */
+  private final byte[] buffer;
+
+  /**
+   * The JSON-B instance reading the fields without a scalar type.
+   */
+  private final Jsonb jsonb;
+
+  /**
+   * The tag of the field being read.
+   */
+  private int tag;
+
+  /**
+   * The position of the next byte.
+   */
+  private int pos;
+
+  /**
+   * The end of the message being read.
+   */
+  private int limit;
+
+  private ProtoInput(byte[] buffer, Jsonb jsonb) {
+    this.buffer = buffer;
+    this.jsonb = jsonb;
+    this.limit = buffer.length;
+  }
+
+  /**
+   * Reads a message from its bytes.
+   *
+   * @param buffer the bytes
+   * @param jsonb  the JSON-B instance reading the fields without a scalar type
+   * @return the input
+   */
+  static ProtoInput of(byte[] buffer, Jsonb jsonb) {
+    return new ProtoInput(buffer, jsonb);
+  }
+
+  /**
+   * Reads the tag of the next field.
+   *
+   * @return the tag, or 0 at the end of the current message
+   */
+  public int readTag() {
+    if (pos == limit) {
+      return 0;
+    }
+    tag = (int) readVarint();
+    if (fieldNumber(tag) == 0) {
+      throw new IllegalArgumentException("Invalid protobuf field number 0");
+    }
+    return tag;
+  }
+
+  /**
+   * Returns the field number of a tag.
+   *
+   * @param tag the tag
+   * @return the field number
+   */
+  public static int fieldNumber(int tag) {
+    return tag >>> 3;
+  }
+
+  /**
+   * Skips the value of an unknown field.
+   *
+   * @param tag the tag of the field
+   */
+  public void skip(int tag) {
+    switch (tag & 7) {
+      case ProtoOutput.VARINT -> readVarint();
+      case ProtoOutput.FIXED64 -> advance(8);
+      case ProtoOutput.LENGTH_DELIMITED -> advance(readLength());
+      case ProtoOutput.FIXED32 -> advance(4);
+      default -> throw new IllegalArgumentException("Unsupported wire type " + (tag & 7));
+    }
+  }
+
+  /**
+   * Reads a `bool` field.
+   *
+   * @return the value
+   */
+  public boolean readBool() {
+    expect(ProtoOutput.VARINT);
+    return readVarint() != 0;
+  }
+
+  /**
+   * Reads an `int32` field.
+   *
+   * @return the value
+   */
+  public int readInt32() {
+    expect(ProtoOutput.VARINT);
+    return (int) readVarint();
+  }
+
+  /**
+   * Reads an `int64` field.
+   *
+   * @return the value
+   */
+  public long readInt64() {
+    expect(ProtoOutput.VARINT);
+    return readVarint();
+  }
+
+  /**
+   * Reads a `double` field.
+   *
+   * @return the value
+   */
+  public double readDouble() {
+    expect(ProtoOutput.FIXED64);
+    return Double.longBitsToDouble(readFixed(8));
+  }
+
+  /**
+   * Reads a `float` field.
+   *
+   * @return the value
+   */
+  public float readFloat() {
+    expect(ProtoOutput.FIXED32);
+    return Float.intBitsToFloat((int) readFixed(4));
+  }
+
+  /**
+   * Reads a `string` field.
+   *
+   * @return the value
+   */
+  public String readString() {
+    expect(ProtoOutput.LENGTH_DELIMITED);
+    int length = readLength();
+    int start = pos;
+    advance(length);
+    return new String(buffer, start, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads a decimal from a `string` field.
+   *
+   * @return the value
+   */
+  public BigDecimal readBigDecimal() {
+    return new BigDecimal(readString());
+  }
+
+  /**
+   * Reads an integer of any size from a `string` field.
+   *
+   * @return the value
+   */
+  public BigInteger readBigInteger() {
+    return new BigInteger(readString());
+  }
+
+  /**
+   * Reads a UUID from a `string` field.
+   *
+   * @return the value
+   */
+  public UUID readUuid() {
+    return UUID.fromString(readString());
+  }
+
+  /**
+   * Reads an ISO-8601 date from a `string` field.
+   *
+   * @return the value
+   */
+  public LocalDate readLocalDate() {
+    return LocalDate.parse(readString());
+  }
+
+  /**
+   * Reads an ISO-8601 date-time without offset from a `string` field.
+   *
+   * @return the value
+   */
+  public LocalDateTime readLocalDateTime() {
+    return LocalDateTime.parse(readString());
+  }
+
+  /**
+   * Reads an ISO-8601 instant from a `string` field.
+   *
+   * @return the value
+   */
+  public Instant readInstant() {
+    return Instant.parse(readString());
+  }
+
+  /**
+   * Reads a date from an `int64` field of epoch milliseconds.
+   *
+   * @return the value
+   */
+  public Date readDate() {
+    return new Date(readInt64());
+  }
+
+  /**
+   * Reads an enum constant from the `string` field holding its name.
+   *
+   * @param type the enum class
+   * @param <E>  the enum type
+   * @return the value
+   */
+  public <E extends Enum<E>> E readEnum(Class<E> type) {
+    return Enum.valueOf(type, readString());
+  }
+
+  /**
+   * Reads a value without a scalar type from the `string` field holding its JSON-B document.
+   *
+   * @param type the type of the value
+   * @param <T>  the type of the value
+   * @return the value
+   */
+  public <T> T readJson(Type type) {
+    return jsonb.fromJson(readString(), type);
+  }
+
+  /**
+   * Restricts reading to the embedded message that starts at the current position.
+   *
+   * @return the previous limit, to pass to {@link #popLimit(int)}
+   */
+  int pushLimit() {
+    expect(ProtoOutput.LENGTH_DELIMITED);
+    int length = readLength();
+    int previous = limit;
+    limit = pos + length;
+    return previous;
+  }
+
+  /**
+   * Restores the limit after an embedded message was read.
+   *
+   * @param previous the limit returned by {@link #pushLimit()}
+   */
+  void popLimit(int previous) {
+    pos = limit;
+    limit = previous;
+  }
+
+  /**
+   * Checks the wire type of the field being read.
+   *
+   * @param wireType the wire type the field is read as
+   */
+  private void expect(int wireType) {
+    if ((tag & 7) != wireType) {
+      throw new IllegalArgumentException("Field " + fieldNumber(tag) + " has wire type "
+          + (tag & 7) + ", expected " + wireType);
+    }
+  }
+
+  /**
+   * Reads the length of a length-delimited field.
+   *
+   * @return the length
+   */
+  private int readLength() {
+    long length = readVarint();
+    if (length < 0 || length > limit - pos) {
+      throw new IllegalArgumentException("Truncated protobuf message");
+    }
+    return (int) length;
+  }
+
+  /**
+   * Reads a varint.
+   *
+   * @return the value
+   */
+  private long readVarint() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      if (pos == limit) {
+        throw new IllegalArgumentException("Truncated protobuf message");
+      }
+      byte b = buffer[pos++];
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed protobuf varint");
+  }
+
+  /**
+   * Reads a little-endian fixed-width value.
+   *
+   * @param bytes the width, 4 or 8
+   * @return the value
+   */
+  private long readFixed(int bytes) {
+    int start = pos;
+    advance(bytes);
+    long value = 0;
+    for (int i = 0; i < bytes; i++) {
+      value |= (buffer[start + i] & 0xFFL) << 8 * i;
+    }
+    return value;
+  }
+
+  /**
+   * Moves past the given number of bytes.
+   *
+   * @param bytes the number of bytes
+   */
+  private void advance(int bytes) {
+    if (bytes > limit - pos) {
+      throw new IllegalArgumentException("Truncated protobuf message");
+    }
+    pos += bytes;
+  }
+
+}
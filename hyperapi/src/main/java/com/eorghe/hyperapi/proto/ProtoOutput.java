@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+import jakarta.json.bind.Jsonb;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * ProtoOutput is the byte buffer generated codecs write Protocol Buffers messages into.
+ *
+ * <p>Each method writes one field with its tag. Null values are skipped by the codecs, so absent
+ * fields read back as null. The buffer is reused by the next response of the same thread, unless it
+ * grew beyond {@link #MAX_RETAINED} bytes.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public final class ProtoOutput {
+
+  /**
+   * Buffers larger than this are dropped after use instead of being kept for the thread.
+   */
+  static final int MAX_RETAINED = 256 * 1024;
+
+  /**
+   * Wire type of varint encoded fields.
+   */
+  static final int VARINT = 0;
+
+  /**
+   * Wire type of 64-bit fields.
+   */
+  static final int FIXED64 = 1;
+
+  /**
+   * Wire type of length-delimited fields.
+   */
+  static final int LENGTH_DELIMITED = 2;
+
+  /**
+   * Wire type of 32-bit fields.
+   */
+  static final int FIXED32 = 5;
+
+  /**
+   * The buffer of each thread.
+   */
+  private static final ThreadLocal<ProtoOutput> BUFFERS = ThreadLocal.withInitial(ProtoOutput::new);
+
+  /**
+   * The written bytes.
+   */
+  private byte[] buffer = new byte[1024];
+
+  /**
+   * The number of written bytes.
+   */
+  private int count;
+
+  /**
+   * The JSON-B instance writing the fields without a scalar type.
+   */
+  private Jsonb jsonb;
+
+  private ProtoOutput() {
+  }
+
+  /**
+   * Returns the empty buffer of the current thread.
+   *
+   * @param jsonb the JSON-B instance writing the fields without a scalar type
+   * @return the buffer
+   */
+  static ProtoOutput acquire(Jsonb jsonb) {
+    ProtoOutput out = BUFFERS.get();
+    out.count = 0;
+    out.jsonb = jsonb;
+    return out;
+  }
+
+  /**
+   * Writes a `bool` field.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeBool(int field, boolean value) {
+    writeTag(field, VARINT);
+    writeVarint(value ? 1 : 0);
+  }
+
+  /**
+   * Writes an `int32` field.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeInt32(int field, int value) {
+    writeTag(field, VARINT);
+    writeVarint(value);
+  }
+
+  /**
+   * Writes an `int64` field.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeInt64(int field, long value) {
+    writeTag(field, VARINT);
+    writeVarint(value);
+  }
+
+  /**
+   * Writes a `double` field.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeDouble(int field, double value) {
+    writeTag(field, FIXED64);
+    writeFixed(Double.doubleToRawLongBits(value), 8);
+  }
+
+  /**
+   * Writes a `float` field.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeFloat(int field, float value) {
+    writeTag(field, FIXED32);
+    writeFixed(Float.floatToRawIntBits(value), 4);
+  }
+
+  /**
+   * Writes a `string` field, encoded to UTF-8 without an intermediate array.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeString(int field, String value) {
+    writeTag(field, LENGTH_DELIMITED);
+    int length = value.length();
+    int encoded = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        encoded++;
+      } else if (c < 0x800) {
+        encoded += 2;
+      } else if (isSurrogatePair(value, i)) {
+        encoded += 4;
+        i++;
+      } else {
+        encoded += Character.isSurrogate(c) ? 1 : 3;
+      }
+    }
+    writeVarint(encoded);
+    ensureCapacity(encoded);
+    byte[] buf = buffer;
+    int pos = count;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buf[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[pos++] = (byte) (0xC0 | c >> 6);
+        buf[pos++] = (byte) (0x80 | c & 0x3F);
+      } else if (isSurrogatePair(value, i)) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buf[pos++] = (byte) (0xF0 | codePoint >> 18);
+        buf[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buf[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buf[pos++] = (byte) (0x80 | codePoint & 0x3F);
+      } else if (Character.isSurrogate(c)) {
+        buf[pos++] = '?';
+      } else {
+        buf[pos++] = (byte) (0xE0 | c >> 12);
+        buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+        buf[pos++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    count = pos;
+  }
+
+  /**
+   * Writes a date as an `int64` field of epoch milliseconds.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeDate(int field, Date value) {
+    writeInt64(field, value.getTime());
+  }
+
+  /**
+   * Writes a value without a scalar type, e.g. a collection, as a `string` field holding its
+   * JSON-B document.
+   *
+   * @param field the field number
+   * @param value the value
+   */
+  public void writeJson(int field, Object value) {
+    writeString(field, jsonb.toJson(value));
+  }
+
+  /**
+   * Starts an embedded message field.
+   *
+   * @param field the field number
+   * @return the position to pass to {@link #endMessage(int)}
+   */
+  public int beginMessage(int field) {
+    writeTag(field, LENGTH_DELIMITED);
+    return count;
+  }
+
+  /**
+   * Ends an embedded message field, inserting its length before its content.
+   *
+   * @param start the position returned by {@link #beginMessage(int)}
+   */
+  public void endMessage(int start) {
+    int length = count - start;
+    int prefix = varintSize(length);
+    ensureCapacity(prefix);
+    System.arraycopy(buffer, start, buffer, start + prefix, length);
+    int end = count + prefix;
+    count = start;
+    writeVarint(length);
+    count = end;
+  }
+
+  /**
+   * Copies the written bytes to a stream and releases the buffer.
+   *
+   * @param stream the stream
+   * @throws IOException if the stream cannot be written
+   */
+  void writeTo(OutputStream stream) throws IOException {
+    try {
+      stream.write(buffer, 0, count);
+    } finally {
+      jsonb = null;
+      if (buffer.length > MAX_RETAINED) {
+        buffer = new byte[1024];
+      }
+    }
+  }
+
+  /**
+   * Writes the tag of a field.
+   *
+   * @param field    the field number
+   * @param wireType the wire type
+   */
+  private void writeTag(int field, int wireType) {
+    writeVarint(field << 3 | wireType);
+  }
+
+  /**
+   * Writes an unsigned varint; negative values take ten bytes, as `int32` and `int64` require.
+   *
+   * @param value the value
+   */
+  private void writeVarint(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[count++] = (byte) (value & 0x7F | 0x80);
+      value >>>= 7;
+    }
+    buffer[count++] = (byte) value;
+  }
+
+  /**
+   * Writes a little-endian fixed-width value.
+   *
+   * @param value the value
+   * @param bytes the width, 4 or 8
+   */
+  private void writeFixed(long value, int bytes) {
+    ensureCapacity(bytes);
+    for (int i = 0; i < bytes; i++) {
+      buffer[count++] = (byte) (value >>> 8 * i);
+    }
+  }
+
+  /**
+   * Returns the number of bytes of a varint.
+   *
+   * @param value the non-negative value
+   * @return the number of bytes
+   */
+  private static int varintSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      size++;
+      value >>>= 7;
+    }
+    return size;
+  }
+
+  /**
+   * Checks whether a well-formed surrogate pair starts at the given index.
+   *
+   * @param value the string
+   * @param index the index
+   * @return true if the chars at the index and the next one form a pair
+   */
+  private static boolean isSurrogatePair(String value, int index) {
+    return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+
+  /**
+   * Grows the buffer to hold at least the given number of additional bytes.
+   *
+   * @param additional the number of bytes about to be written
+   */
+  private void ensureCapacity(int additional) {
+    if (count + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + additional));
+    }
+  }
+
+}
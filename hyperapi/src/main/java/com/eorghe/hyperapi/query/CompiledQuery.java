@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+
+/**
+ * CompiledQuery pairs the cached template of a filter shape with the values of a request.
+ *
+ * @param template the template of the filter shape and sort
+ * @param clauses  the filter clauses of the request, holding the raw values
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record CompiledQuery(QueryTemplate template, List<FilterClause> clauses) {
+
+  /**
+   * Returns the JPQL condition of the filter.
+   *
+   * @return the condition, without the `where` keyword, or an empty string
+   */
+  public String where() {
+    return template.where();
+  }
+
+  /**
+   * Returns the JPQL ordering of the sort.
+   *
+   * @return the ordering, without the `order by` keyword, or an empty string
+   */
+  public String orderBy() {
+    return template.orderBy();
+  }
+
+  /**
+   * Returns the number of positional parameters used by the condition.
+   *
+   * @return the parameter count
+   */
+  public int parameterCount() {
+    return clauses.size();
+  }
+
+  /**
+   * Appends the where and order by clauses to a query.
+   *
+   * @param jpql           the query, ending with the entity alias
+   * @param defaultOrderBy the ordering used when no sort is requested, may be empty
+   * @return the completed query
+   */
+  public String appendTo(String jpql, String defaultOrderBy) {
+    StringBuilder query = new StringBuilder(jpql);
+    if (!where().isEmpty()) {
+      query.append(" where ").append(where());
+    }
+    String order = orderBy().isEmpty() ? defaultOrderBy : orderBy();
+    if (!order.isEmpty()) {
+      query.append(" order by ").append(order);
+    }
+    return query.toString();
+  }
+
+  /**
+   * Binds the converted filter values to the positional parameters of a query.
+   *
+   * @param query the query created from the template
+   * @param <T>   the result type of the query
+   * @return the query
+   */
+  public <T> TypedQuery<T> bind(TypedQuery<T> query) {
+    for (int i = 0; i < clauses.size(); i++) {
+      query.setParameter(i + 1, FilterValues.convert(clauses.get(i), template.types().get(i)));
+    }
+    return query;
+  }
+}
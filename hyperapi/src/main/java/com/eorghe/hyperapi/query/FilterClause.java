@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+import jakarta.ws.rs.BadRequestException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FilterClause is a single comparison of the `filter` query parameter, e.g. `total>100`.
+ *
+ * @param field    the compared field path
+ * @param operator the comparison operator
+ * @param value    the raw value, converted once the field type is known
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record FilterClause(String field, FilterOperator operator, String value) {
+
+  /**
+   * Splits a filter into its clauses.
+   *
+   * <p>Clauses are separated by `;` and combined with `and`. This is only a lexical split: fields
+   * are validated when the query template of the filter shape is compiled.
+   *
+   * @param filter the value of the `filter` query parameter, may be null
+   * @return the clauses, in request order
+   * @throws BadRequestException if a clause has no operator, field or value
+   */
+  static List<FilterClause> split(String filter) {
+    List<FilterClause> clauses = new ArrayList<>();
+    if (filter == null || filter.isBlank()) {
+      return clauses;
+    }
+    for (String clause : filter.split(";")) {
+      if (clause.isBlank()) {
+        continue;
+      }
+      clauses.add(parse(clause.trim()));
+    }
+    return clauses;
+  }
+
+  /**
+   * Returns the shape of the clause: the field and operator, without the value.
+   *
+   * @return the clause shape
+   */
+  String shape() {
+    return field + operator.symbol();
+  }
+
+  private static FilterClause parse(String clause) {
+    for (int i = 0; i < clause.length(); i++) {
+      char c = clause.charAt(i);
+      if (c != '=' && c != '!' && c != '<' && c != '>') {
+        continue;
+      }
+      FilterOperator operator = FilterOperator.at(clause, i);
+      String field = clause.substring(0, i).trim();
+      String value = operator == null ? "" : clause.substring(i + operator.symbol().length()).trim();
+      if (operator == null || field.isEmpty() || value.isEmpty()) {
+        break;
+      }
+      return new FilterClause(field, operator, value);
+    }
+    throw new BadRequestException("Invalid filter clause '" + clause + "'");
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+/**
+ * FilterOperator is an enumeration of the comparison operators of the `filter` query parameter.
+ *
+ * <ul>
+ *   <li>EQ: `status==OPEN`</li>
+ *   <li>NE: `status!=CLOSED`</li>
+ *   <li>GE, LE, GT, LT: `total>=100`, `total<=100`, `total>100`, `total<100`</li>
+ *   <li>IN: `status=in=(OPEN,PAID)`</li>
+ * </ul>
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public enum FilterOperator {
+  IN("=in=", "in"),
+  EQ("==", "="),
+  NE("!=", "<>"),
+  GE(">=", ">="),
+  LE("<=", "<="),
+  GT(">", ">"),
+  LT("<", "<");
+
+  /**
+   * The operator as written in the `filter` query parameter.
+   */
+  private final String symbol;
+
+  /**
+   * The matching JPQL operator.
+   */
+  private final String jpql;
+
+  FilterOperator(String symbol, String jpql) {
+    this.symbol = symbol;
+    this.jpql = jpql;
+  }
+
+  /**
+   * Returns the operator as written in the `filter` query parameter.
+   *
+   * @return the symbol
+   */
+  public String symbol() {
+    return symbol;
+  }
+
+  /**
+   * Returns the matching JPQL operator.
+   *
+   * @return the JPQL operator
+   */
+  public String jpql() {
+    return jpql;
+  }
+
+  /**
+   * Returns the operator starting at the given index of a clause.
+   *
+   * <p>Operators are tried longest first, so `>=` is not read as `>`.
+   *
+   * @param clause the filter clause
+   * @param index  the index of the first operator character
+   * @return the operator, or null if none starts at the index
+   */
+  static FilterOperator at(String clause, int index) {
+    for (FilterOperator operator : values()) {
+      if (clause.startsWith(operator.symbol, index)) {
+        return operator;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+import jakarta.ws.rs.BadRequestException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * FilterValues converts the raw values of the `filter` query parameter into the Java types of
+ * the filtered fields, so they are bound as typed query parameters.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class FilterValues {
+
+  private FilterValues() {
+  }
+
+  /**
+   * Converts the value of a clause, or each value of an `=in=` list.
+   *
+   * @param clause the filter clause
+   * @param type   the Java type of the filtered field
+   * @return the converted value, or a list of converted values for `=in=`
+   * @throws BadRequestException if a value cannot be converted
+   */
+  static Object convert(FilterClause clause, Class<?> type) {
+    if (clause.operator() != FilterOperator.IN) {
+      return convert(clause.field(), clause.value(), type);
+    }
+    String list = clause.value();
+    if (!list.startsWith("(") || !list.endsWith(")")) {
+      throw new BadRequestException("Filter field '" + clause.field() + "' expects a list like (a,b)");
+    }
+    List<Object> values = new ArrayList<>();
+    for (String value : list.substring(1, list.length() - 1).split(",")) {
+      values.add(convert(clause.field(), value.trim(), type));
+    }
+    return values;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object convert(String field, String value, Class<?> type) {
+    try {
+      if (type == String.class) {
+        return value;
+      } else if (type == Long.class || type == long.class) {
+        return Long.valueOf(value);
+      } else if (type == Integer.class || type == int.class) {
+        return Integer.valueOf(value);
+      } else if (type == Short.class || type == short.class) {
+        return Short.valueOf(value);
+      } else if (type == Double.class || type == double.class) {
+        return Double.valueOf(value);
+      } else if (type == Float.class || type == float.class) {
+        return Float.valueOf(value);
+      } else if (type == Boolean.class || type == boolean.class) {
+        return parseBoolean(value);
+      } else if (type == BigDecimal.class) {
+        return new BigDecimal(value);
+      } else if (type == BigInteger.class) {
+        return new BigInteger(value);
+      } else if (type == UUID.class) {
+        return UUID.fromString(value);
+      } else if (type == Instant.class) {
+        return Instant.parse(value);
+      } else if (type == LocalDate.class) {
+        return LocalDate.parse(value);
+      } else if (type == LocalDateTime.class) {
+        return LocalDateTime.parse(value);
+      } else if (type == OffsetDateTime.class) {
+        return OffsetDateTime.parse(value);
+      } else if (type.isEnum()) {
+        return Enum.valueOf((Class<Enum>) type, value);
+      }
+    } catch (RuntimeException e) {
+      throw new BadRequestException("Invalid value '" + value + "' for filter field '" + field + "'");
+    }
+    throw new BadRequestException("Filter field '" + field + "' has an unsupported type");
+  }
+
+  private static Boolean parseBoolean(String value) {
+    if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+      throw new IllegalArgumentException(value);
+    }
+    return Boolean.valueOf(value);
+  }
+}
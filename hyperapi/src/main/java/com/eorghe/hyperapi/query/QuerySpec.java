@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+/**
+ * QuerySpec holds the raw `filter` and `sort` query parameters of a list request.
+ *
+ * @param filter the filter, e.g. `status==OPEN;total>100`, or null
+ * @param sort   the sort, e.g. `-createdOn,name`, or null
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record QuerySpec(String filter, String sort) {
+
+  /**
+   * The spec of an unfiltered, unsorted request.
+   */
+  public static final QuerySpec NONE = new QuerySpec(null, null);
+
+  /**
+   * Checks whether the request is filtered.
+   *
+   * @return true if a filter is present
+   */
+  public boolean hasFilter() {
+    return filter != null && !filter.isBlank();
+  }
+
+  /**
+   * Checks whether the request is sorted.
+   *
+   * @return true if a sort is present
+   */
+  public boolean hasSort() {
+    return sort != null && !sort.isBlank();
+  }
+
+  /**
+   * Checks whether the request is neither filtered nor sorted.
+   *
+   * @return true if neither a filter nor a sort is present
+   */
+  public boolean isEmpty() {
+    return !hasFilter() && !hasSort();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+import static com.eorghe.hyperapi.projection.Projection.ALIAS;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.ws.rs.BadRequestException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * QueryTemplate is the compiled form of a filter shape and sort.
+ *
+ * <p>The where clause binds every value as a positional parameter, so all requests of the same
+ * shape produce the same JPQL string and share Hibernate's query plan.
+ *
+ * @param where   the JPQL condition, without the `where` keyword, or an empty string
+ * @param orderBy the JPQL ordering, without the `order by` keyword, or an empty string
+ * @param types   the Java types of the filtered fields, one per parameter
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public record QueryTemplate(String where, String orderBy, List<Class<?>> types) {
+
+  /**
+   * Compiles the clauses of a filter and a sort.
+   *
+   * @param metamodel   the JPA metamodel, used to resolve the field types
+   * @param entityClass the entity class
+   * @param clauses     the filter clauses
+   * @param sort        the value of the `sort` query parameter, may be null
+   * @param filterable  the fields that can be filtered
+   * @param sortable    the fields that can be sorted
+   * @return the template
+   * @throws BadRequestException if a field cannot be filtered or sorted
+   */
+  static QueryTemplate compile(Metamodel metamodel, Class<?> entityClass, List<FilterClause> clauses,
+      String sort, Set<String> filterable, Set<String> sortable) {
+    StringBuilder where = new StringBuilder();
+    List<Class<?>> types = new ArrayList<>();
+    for (FilterClause clause : clauses) {
+      if (!filterable.contains(clause.field())) {
+        throw new BadRequestException("Unknown filter field '" + clause.field() + "'");
+      }
+      types.add(resolveType(metamodel, entityClass, clause.field()));
+      where.append(where.isEmpty() ? "" : " and ")
+          .append(ALIAS).append('.').append(clause.field())
+          .append(' ').append(clause.operator().jpql())
+          .append(" ?").append(types.size());
+    }
+    return new QueryTemplate(where.toString(), orderBy(sort, sortable), List.copyOf(types));
+  }
+
+  /**
+   * Builds the ordering of a sort, with the id appended as tie-breaker so pages are stable.
+   */
+  private static String orderBy(String sort, Set<String> sortable) {
+    if (sort == null || sort.isBlank()) {
+      return "";
+    }
+    StringBuilder orderBy = new StringBuilder();
+    boolean byId = false;
+    for (String part : sort.split(",")) {
+      String field = part.trim();
+      if (field.isEmpty()) {
+        continue;
+      }
+      boolean descending = field.startsWith("-");
+      if (descending || field.startsWith("+")) {
+        field = field.substring(1);
+      }
+      if (!sortable.contains(field)) {
+        throw new BadRequestException("Unknown sort field '" + field + "'");
+      }
+      byId |= field.equals("id");
+      orderBy.append(orderBy.isEmpty() ? "" : ", ")
+          .append(ALIAS).append('.').append(field)
+          .append(descending ? " desc" : "");
+    }
+    if (!byId) {
+      orderBy.append(orderBy.isEmpty() ? "" : ", ").append(ALIAS).append(".id");
+    }
+    return orderBy.toString();
+  }
+
+  /**
+   * Resolves the Java type of a field path by walking the JPA metamodel.
+   */
+  private static Class<?> resolveType(Metamodel metamodel, Class<?> entityClass, String path) {
+    ManagedType<?> type = metamodel.managedType(entityClass);
+    String[] parts = path.split("\\.");
+    Class<?> javaType = entityClass;
+    for (int i = 0; i < parts.length; i++) {
+      Attribute<?, ?> attribute = type.getAttribute(parts[i]);
+      if (attribute.isCollection()) {
+        throw new IllegalStateException("Filter path " + path + " navigates the collection " + parts[i]);
+      }
+      javaType = attribute.getJavaType();
+      if (i < parts.length - 1) {
+        type = metamodel.managedType(javaType);
+      }
+    }
+    return javaType;
+  }
+}
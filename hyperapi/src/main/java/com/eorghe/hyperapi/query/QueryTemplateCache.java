@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.query;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * QueryTemplateCache keeps the compiled query templates by filter shape, so a filter seen before
+ * with other values is neither validated nor compiled again.
+ *
+ * <p>The shape of `status==OPEN;total>100` is `status==;total>`. The number of shapes is bounded;
+ * once full, new shapes are compiled on every request.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class QueryTemplateCache {
+
+  /**
+   * The maximum number of cached shapes.
+   */
+  private static final int MAX_SHAPES = 1024;
+
+  /**
+   * The shape of a query: the entity, the filter without its values and the sort.
+   */
+  private record Shape(Class<?> entityClass, String filter, String sort) {
+
+  }
+
+  /**
+   * The compiled templates, keyed by shape.
+   */
+  private final ConcurrentMap<Shape, QueryTemplate> shapes = new ConcurrentHashMap<>();
+
+  /**
+   * Compiles the filter and sort of a request, reusing the template of its shape.
+   *
+   * @param metamodel   the JPA metamodel
+   * @param entityClass the entity class
+   * @param spec        the filter and sort of the request
+   * @param filterable  the fields that can be filtered
+   * @param sortable    the fields that can be sorted
+   * @return the compiled query
+   * @throws jakarta.ws.rs.BadRequestException if the filter or sort is invalid
+   */
+  public CompiledQuery get(Metamodel metamodel, Class<?> entityClass, QuerySpec spec,
+      Set<String> filterable, Set<String> sortable) {
+    List<FilterClause> clauses = FilterClause.split(spec.filter());
+    String filter = clauses.stream().map(FilterClause::shape).collect(Collectors.joining(";"));
+    Shape shape = new Shape(entityClass, filter, spec.hasSort() ? spec.sort().trim() : "");
+    QueryTemplate template = shapes.get(shape);
+    if (template == null) {
+      template = QueryTemplate.compile(metamodel, entityClass, clauses, shape.sort(), filterable, sortable);
+      if (shapes.size() < MAX_SHAPES) {
+        shapes.putIfAbsent(shape, template);
+      }
+    }
+    return new CompiledQuery(template, clauses);
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.routing;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReadRouting sends the read operations of the generated services to a read replica.
+ *
+ * <p>With `hyperapi.read-datasource=replica`, reads open a short read-only Hibernate session on a
+ * connection of the `replica` datasource. The session belongs to the primary session factory, so
+ * the entity mappings, entity graphs and query plans are shared; only the JDBC connection differs.
+ *
+ * <p>Reads stay on the primary when:
+ * <ul>
+ *   <li>`hyperapi.read-datasource` is not set;</li>
+ *   <li>a transaction is active, e.g. inside `@Transactional` or a write operation;</li>
+ *   <li>the request echoes the `hyperapi.read-your-writes.header` header of an earlier write
+ *   response, and that write committed less than `hyperapi.read-your-writes.window` ago;</li>
+ *   <li>no replica connection can be obtained.</li>
+ * </ul>
+ *
+ * <p>The commit time travels with the client instead of being kept on the node, so any node of a
+ * cluster can route the next read. It is the wall-clock time of the committing node in epoch
+ * milliseconds; the window must cover the clock skew between the nodes.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class ReadRouting {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReadRouting.class);
+
+  /**
+   * The name of the datasource serving the reads, or empty to read from the primary.
+   */
+  @ConfigProperty(name = "hyperapi.read-datasource")
+  Optional<String> readDatasource;
+
+  /**
+   * The header carrying the commit time of the last write, set on write responses and echoed back
+   * by the client on its reads.
+   */
+  @ConfigProperty(name = "hyperapi.read-your-writes.header", defaultValue = "X-Last-Write")
+  String lastWriteHeader;
+
+  /**
+   * The time after a commit during which the reads echoing it stay on the primary.
+   */
+  @ConfigProperty(name = "hyperapi.read-your-writes.window", defaultValue = "5s")
+  Duration window;
+
+  /**
+   * The registry used to detect an active transaction.
+   */
+  @Inject
+  TransactionSynchronizationRegistry transactionRegistry;
+
+  /**
+   * The current HTTP exchange, used to read and set the last write header.
+   */
+  @Inject
+  Instance<RoutingContext> routingContext;
+
+  /**
+   * The read datasource, resolved on the first routed read.
+   */
+  private volatile AgroalDataSource dataSource;
+
+  /**
+   * Runs a read operation on the replica when possible, otherwise on the primary.
+   *
+   * <p>The replica session is closed when the operation returns, so the operation must map its
+   * entities, including lazy associations, before returning.
+   *
+   * @param primary the entity manager of the primary datasource
+   * @param work    the read operation
+   * @param <T>     the result type
+   * @return the result of the operation
+   */
+  public <T> T read(EntityManager primary, Function<EntityManager, T> work) {
+    if (readDatasource.isEmpty() || inTransaction() || isWithinWriteWindow()) {
+      return work.apply(primary);
+    }
+
+    Connection connection;
+    try {
+      connection = getDataSource().getConnection();
+    } catch (SQLException e) {
+      LOG.warn("Read datasource {} is unavailable, reading from the primary: {}",
+          readDatasource.get(), e.getMessage());
+      return work.apply(primary);
+    }
+
+    SessionFactory factory = primary.unwrap(Session.class).getSessionFactory();
+    try (connection; Session session = factory.withOptions().connection(connection).openSession()) {
+      session.setDefaultReadOnly(true);
+      session.setHibernateFlushMode(FlushMode.MANUAL);
+      // A lagging replica must not put rows from before the last write into the second-level cache
+      session.setCacheMode(CacheMode.GET);
+      return work.apply(session);
+    } catch (SQLException e) {
+      throw new PersistenceException("Cannot release the read datasource connection", e);
+    }
+  }
+
+  /**
+   * Returns the commit time of the current write to the client, opening its read-your-writes
+   * window.
+   *
+   * <p>The time is taken after the commit of the current transaction and set as the
+   * `hyperapi.read-your-writes.header` response header; a rolled back write sets nothing. Does
+   * nothing when no read datasource is configured or outside an HTTP request.
+   */
+  public void markWrite() {
+    if (readDatasource.isEmpty()) {
+      return;
+    }
+    RoutingContext exchange = currentExchange();
+    if (exchange == null) {
+      return;
+    }
+    if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+      setLastWrite(exchange);
+      return;
+    }
+    transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+      @Override
+      public void beforeCompletion() {
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        if (status == Status.STATUS_COMMITTED) {
+          setLastWrite(exchange);
+        }
+      }
+    });
+  }
+
+  private void setLastWrite(RoutingContext exchange) {
+    if (!exchange.response().headWritten()) {
+      exchange.response().putHeader(lastWriteHeader, Long.toString(System.currentTimeMillis()));
+    }
+  }
+
+  private boolean inTransaction() {
+    return transactionRegistry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION;
+  }
+
+  private boolean isWithinWriteWindow() {
+    RoutingContext exchange = currentExchange();
+    if (exchange == null) {
+      return false;
+    }
+    String lastWrite = exchange.request().getHeader(lastWriteHeader);
+    if (lastWrite == null || lastWrite.isBlank()) {
+      return false;
+    }
+    try {
+      return System.currentTimeMillis() - Long.parseLong(lastWrite.trim()) <= window.toMillis();
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the current HTTP exchange.
+   *
+   * @return the routing context, or null outside an HTTP request
+   */
+  private RoutingContext currentExchange() {
+    if (!Arc.container().requestContext().isActive() || !routingContext.isResolvable()) {
+      return null;
+    }
+    return routingContext.get();
+  }
+
+  private AgroalDataSource getDataSource() {
+    AgroalDataSource ds = dataSource;
+    if (ds == null) {
+      ds = Arc.container()
+          .instance(AgroalDataSource.class, new DataSource.DataSourceLiteral(readDatasource.get()))
+          .get();
+      dataSource = ds;
+    }
+    return ds;
+  }
+}
@@ -23,20 +23,71 @@
  */
 package com.eorghe.hyperapi.service;
 
+import com.eorghe.hyperapi.cache.EncodedResponse;
+import com.eorghe.hyperapi.cache.EntityCache;
+import com.eorghe.hyperapi.cache.HotKeyTracker;
+import com.eorghe.hyperapi.cache.NegativeCache;
+import com.eorghe.hyperapi.cache.PageCache;
+import com.eorghe.hyperapi.cache.PageKey;
+import com.eorghe.hyperapi.cache.ResponseCache;
+import com.eorghe.hyperapi.codec.JsonCodecs;
 import com.eorghe.hyperapi.dto.HyperDto;
 import com.eorghe.hyperapi.events.EntityEvent;
+import com.eorghe.hyperapi.fetch.FetchPlan;
+import com.eorghe.hyperapi.invalidation.ClusterInvalidation;
 import com.eorghe.hyperapi.mapper.AbstractMapper;
+import com.eorghe.hyperapi.mapper.EntityPatcher;
 import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.paging.CountCache;
+import com.eorghe.hyperapi.paging.Cursor;
+import com.eorghe.hyperapi.paging.KeysetPage;
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import com.eorghe.hyperapi.processor.annotations.Pageable;
+import com.eorghe.hyperapi.projection.Projection;
+import com.eorghe.hyperapi.projection.ProjectionCache;
+import com.eorghe.hyperapi.query.CompiledQuery;
+import com.eorghe.hyperapi.query.QuerySpec;
+import com.eorghe.hyperapi.query.QueryTemplateCache;
+import com.eorghe.hyperapi.routing.ReadRouting;
+import com.eorghe.hyperapi.processor.enums.CountStrategy;
+import com.eorghe.hyperapi.processor.enums.PageMode;
+import com.eorghe.hyperapi.processor.enums.UpdateMode;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Sort;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import jakarta.json.Json;
 import jakarta.json.JsonMergePatch;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import jakarta.json.bind.Jsonb;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 
 /**
  * BaseEntityService provides a generic CRUD service for managing JPA entities and their DTOs.
@@ -55,18 +106,53 @@ import java.util.List;
 public abstract class BaseEntityService<
     ENTITY extends HyperEntity, DTO extends HyperDto, MAPPER extends AbstractMapper<DTO, ENTITY>> {
 
+  /**
+   * The name of the id column, used as keyset tie-breaker.
+   */
+  private static final String ID = "id";
+
+  /**
+   * The batch size used when the entity does not declare `@HyperResource`.
+   */
+  private static final int DEFAULT_BATCH_SIZE = 50;
+
+  /**
+   * Set while a page is read to be serialized into the off-heap {@link ResponseCache}, which then
+   * holds the page, so the {@link PageCache} does not keep its DTOs on the heap as well.
+   */
+  private static final ThreadLocal<Boolean> ENCODING_OFF_HEAP = new ThreadLocal<>();
+
   /**
    * The class type of the DTO, used for JSON deserialization.
    */
   private final Class<DTO> dtoClass;
 
+  /**
+   * The class type of the entity, used to read its `@HyperResource` configuration.
+   */
+  private final Class<ENTITY> entityClass;
+
   /**
    * Constructs a BaseEntityService with the specified DTO class type.
    *
+   * <p>The entity class type is resolved from the generic signature of the subclass.
+   *
    * @param dtoClass the class type of the DTO
    */
   protected BaseEntityService(Class<DTO> dtoClass) {
     this.dtoClass = dtoClass;
+    this.entityClass = resolveEntityClass();
+  }
+
+  /**
+   * Constructs a BaseEntityService with the specified DTO and entity class types.
+   *
+   * @param dtoClass    the class type of the DTO
+   * @param entityClass the class type of the entity
+   */
+  protected BaseEntityService(Class<DTO> dtoClass, Class<ENTITY> entityClass) {
+    this.dtoClass = dtoClass;
+    this.entityClass = entityClass;
   }
 
   /**
@@ -81,12 +167,111 @@ public abstract class BaseEntityService<
   @Inject
   Jsonb jsonb;
 
+  /**
+   * The generated JSON codecs, used instead of JSON-B for the DTOs that have one.
+   */
+  @Inject
+  JsonCodecs jsonCodecs;
+
+  /**
+   * The JDBC fetch size used when streaming entities, so the driver reads rows in chunks instead
+   * of loading the whole result set.
+   */
+  @ConfigProperty(name = "hyperapi.stream.fetch-size", defaultValue = "500")
+  int streamFetchSize;
+
+  /**
+   * The number of streamed entities after which the persistence context is cleared.
+   */
+  @ConfigProperty(name = "hyperapi.stream.clear-interval", defaultValue = "1000")
+  int streamClearInterval;
+
   /**
    * The CDI event used for firing entity-related events.
    */
   @Inject
   jakarta.enterprise.event.Event<EntityEvent<ENTITY>> event;
 
+  /**
+   * The cache of exact counts used by the `CACHED` count strategy.
+   */
+  @Inject
+  CountCache countCache;
+
+  /**
+   * The cache of parsed sparse fieldsets.
+   */
+  @Inject
+  ProjectionCache projectionCache;
+
+  /**
+   * The cache of compiled filter and sort templates.
+   */
+  @Inject
+  QueryTemplateCache queryTemplateCache;
+
+  /**
+   * Routes the read operations to the read datasource, if one is configured.
+   */
+  @Inject
+  ReadRouting readRouting;
+
+  /**
+   * The cache of the DTOs read by id, used when `@HyperResource(cache)` is enabled.
+   */
+  @Inject
+  EntityCache entityCache;
+
+  /**
+   * The cache of the list pages, used when `@Cache(maximumPages)` is set.
+   */
+  @Inject
+  PageCache pageCache;
+
+  /**
+   * The cache of the serialized GET responses, used when `@Cache(serialized)` is set.
+   */
+  @Inject
+  ResponseCache responseCache;
+
+  /**
+   * The cache of the ids not found, used when `@Cache(maximumMissing)` is set.
+   */
+  @Inject
+  NegativeCache negativeCache;
+
+  /**
+   * Estimates the most read ids, driving `@Cache(admitAfter)` and `@Cache(pinHot)`.
+   */
+  @Inject
+  HotKeyTracker hotKeys;
+
+  /**
+   * Publishes the writes to the other nodes, when `hyperapi.cache.bus` is set.
+   */
+  @Inject
+  ClusterInvalidation clusterInvalidation;
+
+  /**
+   * The fetch plan of the list endpoints, compiled on the first list request.
+   */
+  private volatile FetchPlan listFetchPlan;
+
+  /**
+   * The fetch plan of the get by id endpoint, compiled on the first request.
+   */
+  private volatile FetchPlan getFetchPlan;
+
+  /**
+   * The table of the entity, resolved on the first estimated count.
+   */
+  private volatile String tableName;
+
+  /**
+   * The JPQL name of the entity, resolved on the first projection query.
+   */
+  private volatile String entityName;
+
   /**
    * Returns the repository for managing the entity.
    *
@@ -102,22 +287,444 @@ public abstract class BaseEntityService<
    * @return a list of DTOs
    */
   public List<DTO> findAll(int offset, int limit) {
-    return mapper.toList(
-        getRepository().findAll()
-            .page(offset / limit, limit)
-            .list()
-    );
+    return findAll(offset, limit, QuerySpec.NONE);
+  }
+
+  /**
+   * Retrieves the page following the given cursor using keyset pagination.
+   *
+   * <p>Rows are ordered by the seek column and the id, and the page starts right after the row
+   * encoded in the cursor. The database can therefore answer every page with an index range scan,
+   * regardless of how deep the client has paged.
+   *
+   * @param cursor the opaque cursor returned with the previous page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the name of the seek column
+   * @return the page of DTOs and the cursor of the next page
+   */
+  public KeysetPage<DTO> findAfter(String cursor, int limit, String seek) {
+    return findAfter(cursor, limit, seek, QuerySpec.NONE);
+  }
+
+  /**
+   * Retrieves a filtered and sorted page of DTOs.
+   *
+   * @param offset the starting index of the page
+   * @param limit  the maximum number of items in the page
+   * @param spec   the filter and sort of the request
+   * @return a list of DTOs
+   * @throws BadRequestException if the offset is negative, or the filter or sort is invalid
+   */
+  public List<DTO> findAll(int offset, int limit, QuerySpec spec) {
+    checkOffset(offset);
+    CompiledQuery compiled = compile(spec);
+    if (limit <= 0) {
+      return List.of();
+    }
+    String jpql = compiled.appendTo(selectEntity(), "");
+    FetchPlan plan = getListFetchPlan();
+    return readPage(PageKey.offset(offset, limit, null, spec), em -> {
+      TypedQuery<ENTITY> query = compiled.bind(em.createQuery(jpql, entityClass));
+      return mapper.toList(fetch(em, plan, forRead(query, plan)
+          .setFirstResult(offset)
+          .setMaxResults(limit)
+          .getResultList()));
+    });
+  }
+
+  /**
+   * Retrieves the filtered page following the given cursor using keyset pagination.
+   *
+   * <p>The filter is added to the seek predicate, so the page is still an index range scan when
+   * the filtered columns are indexed along with the seek column.
+   *
+   * @param cursor the opaque cursor returned with the previous page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the name of the seek column
+   * @param spec   the filter of the request
+   * @return the page of DTOs and the cursor of the next page
+   * @throws BadRequestException if the filter is invalid or a sort is requested
+   * @see #findAfter(String, int, String)
+   */
+  public KeysetPage<DTO> findAfter(String cursor, int limit, String seek, QuerySpec spec) {
+    CompiledQuery compiled = compileKeyset(spec);
+    if (limit <= 0) {
+      return new KeysetPage<>(List.of(), null);
+    }
+
+    FetchPlan plan = getListFetchPlan();
+    return readPage(PageKey.keyset(cursor, limit, seek, null, spec), em -> {
+      TypedQuery<ENTITY> query = keysetQuery(em, selectEntity(), cursor, limit, seek, compiled, entityClass);
+      List<ENTITY> entities = forRead(query, plan).getResultList();
+      String nextCursor = null;
+      if (entities.size() > limit) {
+        entities = entities.subList(0, limit);
+        ENTITY last = entities.get(limit - 1);
+        nextCursor = Cursor.after(last, seek, last.id).encode();
+      }
+      return new KeysetPage<>(mapper.toList(fetch(em, plan, entities)), nextCursor);
+    });
+  }
+
+  /**
+   * Streams all entities, ordered by id, to the given sink.
+   *
+   * <p>Rows are read through a scrolled query with the configured JDBC fetch size and mapped one
+   * at a time. The persistence context is cleared every `hyperapi.stream.clear-interval` rows, so
+   * memory stays constant no matter how many rows are exported.
+   *
+   * @param sink the consumer receiving each DTO as soon as it is mapped
+   */
+  @Transactional
+  public void streamAll(Consumer<DTO> sink) {
+    EntityManager em = getRepository().getEntityManager();
+    try (Stream<ENTITY> entities = getRepository().findAll(Sort.by(ID))
+        .withHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+        .withHint(HibernateHints.HINT_READ_ONLY, true)
+        .stream()) {
+      Iterator<ENTITY> iterator = entities.iterator();
+      int count = 0;
+      while (iterator.hasNext()) {
+        sink.accept(mapper.toDto(iterator.next()));
+        if (++count % streamClearInterval == 0) {
+          em.clear();
+        }
+      }
+    }
   }
 
   /**
    * Finds a DTO by its ID.
    *
+   * <p>When `@HyperResource(cache)` is enabled the DTO is served from the {@link EntityCache}.
+   * Misses are loaded from the primary datasource, since a lagging replica could cache the row
+   * from before the last write. The cached DTO is shared and must not be modified.
+   *
+   * <p>The read is recorded by the {@link HotKeyTracker}, and with `@Cache(admitAfter)` the DTO is
+   * cached only once its id has been read often enough.
+   *
    * @param id the ID of the entity
    * @return the corresponding DTO, or null if not found
    */
   public DTO findById(Long id) {
-    ENTITY entity = getRepository().findById(id);
-    return entity != null ? mapper.toDto(entity) : null;
+    Cache cache = getCacheConfig();
+    return findById(id, cache, admits(cache, id));
+  }
+
+  /**
+   * Finds a DTO by its ID, through the {@link EntityCache} if caching is enabled.
+   *
+   * @param id    the ID of the entity
+   * @param cache the cache configuration of the entity, or null if caching is disabled
+   * @param admit whether a loaded DTO may be cached
+   * @return the corresponding DTO, or null if not found
+   */
+  private DTO findById(Long id, Cache cache, boolean admit) {
+    if (cache != null) {
+      return ifExists(cache, id, () -> entityCache.get(entityClass, cache, id, admit,
+          () -> load(getRepository().getEntityManager(), id)));
+    }
+    return read(em -> load(em, id));
+  }
+
+  /**
+   * Finds the DTO of an entity for its GET event, without recording another read.
+   *
+   * <p>Generated services call this when `@Events(onGet)` is enabled and the read itself did not
+   * produce a DTO, i.e. for serialized and sparse reads. The DTO is served from the
+   * {@link EntityCache} when caching is enabled.
+   *
+   * @param id the ID of the entity
+   * @return the corresponding DTO, or null if not found
+   */
+  protected DTO findForEvent(Long id) {
+    return findById(id, getCacheConfig(), true);
+  }
+
+  /**
+   * Records a read of an entity, and checks whether it may be cached.
+   *
+   * @param cache the cache configuration of the entity, or null if caching is disabled
+   * @param id    the ID of the entity
+   * @return true if the id has been read at least `@Cache(admitAfter)` times
+   */
+  private boolean admits(Cache cache, Long id) {
+    long reads = hotKeys.record(entityClass, id);
+    return cache == null || reads >= cache.admitAfter();
+  }
+
+  /**
+   * Checks whether the GET responses of the entity are cached as serialized JSON.
+   *
+   * @return true if `@Cache(serialized)` is enabled
+   */
+  public boolean isCachingResponses() {
+    Cache cache = getCacheConfig();
+    return cache != null && cache.serialized();
+  }
+
+  /**
+   * Finds the serialized DTO of an entity by its ID, through the {@link ResponseCache}.
+   *
+   * <p>Misses are loaded from the primary datasource, like the misses of {@link #findById(Long)}.
+   *
+   * @param id the ID of the entity
+   * @return the serialized DTO, or null if not found
+   */
+  public EncodedResponse findEncodedById(Long id) {
+    Cache cache = getCacheConfig();
+    return findEncodedById(id, cache, admits(cache, id));
+  }
+
+  /**
+   * Finds the serialized DTO of an entity by its ID.
+   *
+   * @param id    the ID of the entity
+   * @param cache the cache configuration of the entity, or null if caching is disabled
+   * @param admit whether a loaded response may be cached
+   * @return the serialized DTO, or null if not found
+   */
+  private EncodedResponse findEncodedById(Long id, Cache cache, boolean admit) {
+    if (!isCachingResponses()) {
+      DTO dto = findById(id, cache, admit);
+      return dto == null ? null : ResponseCache.encode(null, jsonCodecs, dto, null);
+    }
+    return ifExists(cache, id, () -> responseCache.get(entityClass, cache, id, admit, () -> {
+      DTO dto = load(getRepository().getEntityManager(), id);
+      return dto == null ? null : ResponseCache.encode(cache, jsonCodecs, dto, null);
+    }));
+  }
+
+  /**
+   * Runs a lookup by id, unless the {@link NegativeCache} knows the id is missing.
+   *
+   * @param cache  the cache configuration of the entity
+   * @param id     the ID of the entity
+   * @param lookup the lookup, returning null if the entity does not exist
+   * @param <T>    the result type
+   * @return the result of the lookup, or null if the entity does not exist
+   */
+  private <T> T ifExists(Cache cache, Long id, Supplier<T> lookup) {
+    return cache.maximumMissing() > 0 ? negativeCache.get(entityClass, cache, id, lookup) : lookup.get();
+  }
+
+  /**
+   * Returns a serialized list page, through the {@link ResponseCache} when pages are cached.
+   *
+   * @param page    the key of the page
+   * @param encoder reads and serializes the page, given the cache configuration of the entity
+   * @return the serialized page
+   */
+  public EncodedResponse findEncodedPage(PageKey page, Function<Cache, EncodedResponse> encoder) {
+    Cache cache = getCacheConfig();
+    if (!isCachingResponses() || cache.maximumPages() == 0) {
+      return encoder.apply(null);
+    }
+    return responseCache.get(entityClass, cache, page, () -> {
+      if (cache.offHeapBytes() == 0) {
+        return encoder.apply(cache);
+      }
+      ENCODING_OFF_HEAP.set(Boolean.TRUE);
+      try {
+        return encoder.apply(cache);
+      } finally {
+        ENCODING_OFF_HEAP.remove();
+      }
+    });
+  }
+
+  /**
+   * Loads entities into the caches of the resource, as their get by id requests would.
+   *
+   * <p>The loads are neither recorded as reads nor subject to `@Cache(admitAfter)`.
+   *
+   * @param ids the IDs of the entities
+   */
+  public void warmUp(Collection<Long> ids) {
+    Cache cache = getCacheConfig();
+    boolean serialized = isCachingResponses();
+    for (Long id : ids) {
+      if (serialized) {
+        findEncodedById(id, cache, true);
+      } else {
+        findById(id, cache, true);
+      }
+    }
+  }
+
+  /**
+   * Loads the first list pages into the caches of the resource, as the unfiltered `getAll`
+   * requests with the default limit would.
+   *
+   * <p>Does nothing unless `@Cache(maximumPages)` is set. In keyset mode the pages are followed
+   * by cursor, stopping at the last one.
+   *
+   * @param pages the number of pages to load
+   */
+  public void warmUpPages(int pages) {
+    Cache cache = getCacheConfig();
+    if (cache == null || cache.maximumPages() == 0) {
+      return;
+    }
+    Pageable pageable = getResourceConfig().pageable();
+    int limit = Math.min(pageable.limit(), pageable.maxLimit());
+    String seek = pageable.seek();
+    boolean keyset = pageable.mode() == PageMode.KEYSET;
+    String cursor = null;
+    for (int page = 0; page < pages; page++) {
+      int offset = page * limit;
+      String from = cursor;
+      if (!keyset) {
+        if (cache.serialized()) {
+          findEncodedPage(PageKey.offset(offset, limit, null, QuerySpec.NONE),
+              config -> ResponseCache.encode(config, jsonCodecs, findAll(offset, limit), null));
+        } else {
+          findAll(offset, limit);
+        }
+        continue;
+      }
+      if (cache.serialized()) {
+        cursor = findEncodedPage(PageKey.keyset(from, limit, seek, null, QuerySpec.NONE), config -> {
+          KeysetPage<DTO> keysetPage = findAfter(from, limit, seek);
+          return ResponseCache.encode(config, jsonCodecs, keysetPage.items(), keysetPage.nextCursor());
+        }).nextCursor();
+      } else {
+        cursor = findAfter(from, limit, seek).nextCursor();
+      }
+      if (cursor == null) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Loads an entity read-only with the get by id fetch plan and maps it.
+   *
+   * @param em the entity manager running the query
+   * @param id the ID of the entity
+   * @return the corresponding DTO, or null if not found
+   */
+  private DTO load(EntityManager em, Long id) {
+    FetchPlan plan = getGetFetchPlan();
+    Map<String, Object> hints = plan.graph() != null
+        ? Map.of(HibernateHints.HINT_READ_ONLY, true, FetchPlan.LOAD_GRAPH, plan.graph())
+        : Map.of(HibernateHints.HINT_READ_ONLY, true);
+    ENTITY entity = em.find(entityClass, id, hints);
+    if (entity == null) {
+      return null;
+    }
+    return mapper.toDto(plan.isEmpty() ? entity : fetch(em, plan, List.of(entity)).get(0));
+  }
+
+  /**
+   * Retrieves a paginated list of sparse fieldsets.
+   *
+   * <p>Only the requested columns are selected, and each row is returned as a map of the
+   * requested fields, without hydrating entities or mapping DTOs.
+   *
+   * @param offset the starting index of the page
+   * @param limit  the maximum number of items in the page
+   * @param fields the comma-separated fields to return
+   * @return a list of rows holding the requested fields
+   * @throws BadRequestException if a field cannot be projected
+   */
+  public List<Map<String, Object>> findAll(int offset, int limit, String fields) {
+    return findAll(offset, limit, fields, QuerySpec.NONE);
+  }
+
+  /**
+   * Retrieves a filtered and sorted page of sparse fieldsets.
+   *
+   * @param offset the starting index of the page
+   * @param limit  the maximum number of items in the page
+   * @param fields the comma-separated fields to return
+   * @param spec   the filter and sort of the request
+   * @return a list of rows holding the requested fields
+   * @throws BadRequestException if the offset is negative, a field cannot be projected, or the
+   *                             filter or sort is invalid
+   */
+  public List<Map<String, Object>> findAll(int offset, int limit, String fields, QuerySpec spec) {
+    checkOffset(offset);
+    Projection projection = getProjection(fields, List.of());
+    CompiledQuery compiled = compile(spec);
+    if (limit <= 0) {
+      return List.of();
+    }
+    String jpql = compiled.appendTo(projection.from(getEntityName()), "");
+    return readPage(PageKey.offset(offset, limit, fields, spec),
+        em -> compiled.bind(em.createQuery(jpql, Tuple.class))
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultStream()
+            .map(projection::toMap)
+            .toList());
+  }
+
+  /**
+   * Retrieves the page of sparse fieldsets following the given cursor using keyset pagination.
+   *
+   * @param cursor the opaque cursor returned with the previous page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the name of the seek column
+   * @param fields the comma-separated fields to return
+   * @return the page of rows and the cursor of the next page
+   * @throws BadRequestException if a field cannot be projected
+   * @see #findAfter(String, int, String)
+   */
+  public KeysetPage<Map<String, Object>> findAfter(String cursor, int limit, String seek, String fields) {
+    return findAfter(cursor, limit, seek, fields, QuerySpec.NONE);
+  }
+
+  /**
+   * Retrieves the filtered page of sparse fieldsets following the given cursor.
+   *
+   * @param cursor the opaque cursor returned with the previous page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the name of the seek column
+   * @param fields the comma-separated fields to return
+   * @param spec   the filter of the request
+   * @return the page of rows and the cursor of the next page
+   * @throws BadRequestException if a field cannot be projected, the filter is invalid or a sort
+   *                             is requested
+   * @see #findAfter(String, int, String, QuerySpec)
+   */
+  public KeysetPage<Map<String, Object>> findAfter(String cursor, int limit, String seek, String fields,
+      QuerySpec spec) {
+    Projection projection = getProjection(fields, ID.equals(seek) ? List.of(ID) : List.of(seek, ID));
+    CompiledQuery compiled = compileKeyset(spec);
+    if (limit <= 0) {
+      return new KeysetPage<>(List.of(), null);
+    }
+
+    String from = projection.from(getEntityName());
+    return readPage(PageKey.keyset(cursor, limit, seek, fields, spec), em -> {
+      List<Tuple> rows = keysetQuery(em, from, cursor, limit, seek, compiled, Tuple.class).getResultList();
+      String nextCursor = null;
+      if (rows.size() > limit) {
+        rows = rows.subList(0, limit);
+        Tuple last = rows.get(limit - 1);
+        nextCursor = new Cursor(projection.value(last, seek), (Long) projection.value(last, ID)).encode();
+      }
+      return new KeysetPage<>(rows.stream().map(projection::toMap).toList(), nextCursor);
+    });
+  }
+
+  /**
+   * Finds the sparse fieldset of an entity by its ID.
+   *
+   * @param id     the ID of the entity
+   * @param fields the comma-separated fields to return
+   * @return the requested fields of the entity, or null if not found
+   * @throws BadRequestException if a field cannot be projected
+   */
+  public Map<String, Object> findById(Long id, String fields) {
+    hotKeys.record(entityClass, id);
+    Projection projection = getProjection(fields, List.of());
+    String jpql = projection.from(getEntityName()) + " where " + Projection.ALIAS + ".id = ?1";
+    List<Tuple> rows = read(em -> em.createQuery(jpql, Tuple.class)
+        .setParameter(1, id)
+        .getResultList());
+    return rows.isEmpty() ? null : projection.toMap(rows.get(0));
   }
 
   /**
@@ -128,19 +735,47 @@ public abstract class BaseEntityService<
    */
   @Transactional
   public DTO create(DTO dto) {
+    startWrite();
     ENTITY entity = mapper.toEntity(dto);
     getRepository().persist(entity);
+    invalidateCount();
+    invalidateCached(entity.id);
     return mapper.toDto(entity);
   }
 
   /**
    * Updates an existing entity with the given DTO.
    *
+   * <p>In `CHANGED_FIELDS` mode the managed entity is loaded and only the fields that differ
+   * are copied onto it. Otherwise the DTO is merged as a detached entity.
+   *
    * @param dto the DTO representing the updated entity
    * @return the updated DTO
    */
   @Transactional
   public DTO update(DTO dto) {
+    startWrite();
+    invalidateCached(dto.getId());
+    return applyUpdate(dto);
+  }
+
+  /**
+   * Writes an updated DTO onto its entity, once the write has been recorded.
+   *
+   * @param dto the DTO representing the updated entity
+   * @return the updated DTO
+   * @throws NotFoundException if the entity is not found in `CHANGED_FIELDS` mode
+   */
+  private DTO applyUpdate(DTO dto) {
+    if (isUpdatingChangedFields() && dto.getId() != null) {
+      ENTITY managed = findWritable(dto.getId());
+      if (managed == null) {
+        throw new NotFoundException("Entity not found");
+      }
+      getPatcher().copyChanged(mapper.toEntity(dto), managed);
+      return mapper.toDto(managed);
+    }
+
     ENTITY entity = mapper.toEntity(dto);
     ENTITY merged = getRepository().getEntityManager().merge(entity);
     return mapper.toDto(merged);
@@ -153,12 +788,173 @@ public abstract class BaseEntityService<
    */
   @Transactional
   public void delete(Long id) {
+    startWrite();
     getRepository().deleteById(id);
+    invalidateCached(id);
+    invalidateCount();
+  }
+
+  /**
+   * Returns the total number of entities.
+   *
+   * @param strategy how the total is computed
+   * @return the total number of entities, or -1 for `CountStrategy.NONE`
+   */
+  public long count(CountStrategy strategy) {
+    return switch (strategy) {
+      case NONE -> -1;
+      case EXACT -> countExactly();
+      case CACHED -> countCache.get(entityClass, this::countExactly);
+      case ESTIMATED -> estimateCount();
+    };
+  }
+
+  /**
+   * Returns the total number of entities matching the filter of a request.
+   *
+   * <p>With `EXACT` the filtered total is counted on every request. With `CACHED` and
+   * `ESTIMATED`, whose table-wide figures do not apply to a subset, it is counted exactly once and
+   * kept in the {@link CountCache} until the next write of the entity.
+   *
+   * @param strategy how the total is computed
+   * @param spec     the filter of the request
+   * @return the number of matching entities, or -1 for `CountStrategy.NONE`
+   * @throws BadRequestException if the filter is invalid
+   */
+  public long count(CountStrategy strategy, QuerySpec spec) {
+    if (strategy == CountStrategy.NONE || !spec.hasFilter()) {
+      return count(strategy);
+    }
+    CompiledQuery compiled = compile(new QuerySpec(spec.filter(), null));
+    String jpql = compiled.appendTo(
+        "select count(" + Projection.ALIAS + ") from " + getEntityName() + " " + Projection.ALIAS, "");
+    LongSupplier exact = () -> read(em -> compiled.bind(em.createQuery(jpql, Long.class)).getSingleResult());
+    return strategy == CountStrategy.EXACT ? exact.getAsLong() : countCache.get(entityClass, compiled, exact);
+  }
+
+  /**
+   * Creates new entities from the given DTOs using JDBC batching.
+   *
+   * <p>Inserts are grouped into JDBC batches of {@link #getBatchSize()} statements, and the
+   * persistence context is flushed and cleared after each batch.
+   *
+   * @param dtos the DTOs representing the entities to create
+   * @return the created DTOs, in the same order
+   */
+  @Transactional
+  public List<DTO> createAll(List<DTO> dtos) {
+    startWrite();
+    EntityManager em = getRepository().getEntityManager();
+    int batchSize = getBatchSize();
+    em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+    List<DTO> result = new ArrayList<>(dtos.size());
+    List<Long> ids = new ArrayList<>(dtos.size());
+    int count = 0;
+    for (DTO dto : dtos) {
+      ENTITY entity = mapper.toEntity(dto);
+      em.persist(entity);
+      ids.add(entity.id);
+      result.add(mapper.toDto(entity));
+      if (++count % batchSize == 0) {
+        em.flush();
+        em.clear();
+      }
+    }
+    em.flush();
+    invalidateCount();
+    invalidateCached(ids);
+    return result;
+  }
+
+  /**
+   * Updates existing entities with the given DTOs using JDBC batching.
+   *
+   * <p>Each batch of entities is loaded with a single query before merging, so merging does not
+   * issue one SELECT per entity.
+   *
+   * @param dtos the DTOs representing the updated entities
+   * @return the updated DTOs, in the same order
+   * @throws BadRequestException if a DTO has no id
+   * @throws NotFoundException   if no entity exists for the id of a DTO
+   */
+  @Transactional
+  public List<DTO> updateAll(List<DTO> dtos) {
+    startWrite();
+    EntityManager em = getRepository().getEntityManager();
+    int batchSize = getBatchSize();
+    em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+    List<DTO> result = new ArrayList<>(dtos.size());
+    for (int from = 0; from < dtos.size(); from += batchSize) {
+      List<DTO> chunk = dtos.subList(from, Math.min(from + batchSize, dtos.size()));
+      List<Long> ids = new ArrayList<>(chunk.size());
+      for (DTO dto : chunk) {
+        if (dto.getId() == null) {
+          throw new BadRequestException("Every entity of a batch update must have an id");
+        }
+        ids.add(dto.getId());
+      }
+      // Load the whole chunk at once, merge() then finds the entities in the persistence context
+      invalidateCached(ids);
+      List<ENTITY> loaded = getRepository().list("id in ?1", ids);
+      loaded.forEach(this::writable);
+      Map<Long, ENTITY> managed = new HashMap<>();
+      loaded.forEach(entity -> managed.put(entity.id, entity));
+      for (DTO dto : chunk) {
+        // merge() would insert a missing id as a new row
+        if (!managed.containsKey(dto.getId())) {
+          throw new NotFoundException("Entity not found: " + dto.getId());
+        }
+      }
+      if (isUpdatingChangedFields()) {
+        for (DTO dto : chunk) {
+          ENTITY target = managed.get(dto.getId());
+          getPatcher().copyChanged(mapper.toEntity(dto), target);
+          result.add(mapper.toDto(target));
+        }
+      } else {
+        for (DTO dto : chunk) {
+          result.add(mapper.toDto(em.merge(mapper.toEntity(dto))));
+        }
+      }
+      em.flush();
+      em.clear();
+    }
+    return result;
+  }
+
+  /**
+   * Deletes the entities with the given IDs using JDBC batching.
+   *
+   * <p>Entities are loaded and removed one batch at a time, so cascades and entity callbacks are
+   * honoured exactly like in {@link #delete(Long)}.
+   *
+   * @param ids the IDs of the entities to delete
+   */
+  @Transactional
+  public void deleteAll(List<Long> ids) {
+    startWrite();
+    EntityManager em = getRepository().getEntityManager();
+    int batchSize = getBatchSize();
+    em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+    for (int from = 0; from < ids.size(); from += batchSize) {
+      List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+      getRepository().list("id in ?1", chunk).forEach(em::remove);
+      invalidateCached(chunk);
+      em.flush();
+      em.clear();
+    }
+    invalidateCount();
   }
 
   /**
    * Applies a JSON Merge Patch to an entity and updates it.
    *
+   * <p>When the generated {@link EntityPatcher} supports every key of the patch, the fields are
+   * set directly on the managed entity. Otherwise the entity is patched through its DTO.
+   *
    * @param id        the ID of the entity to patch
    * @param patchJson the JSON object representing the patch
    * @return the patched DTO
@@ -166,13 +962,27 @@ public abstract class BaseEntityService<
    */
   @Transactional
   public DTO patch(Long id, JsonObject patchJson) {
-    DTO existingDto = findById(id);
-    if (existingDto == null) {
+    startWrite();
+    invalidateCached(id);
+    EntityPatcher<ENTITY> patcher = getPatcher();
+    if (patcher != null && patcher.supports(patchJson)) {
+      ENTITY entity = findWritable(id);
+      if (entity == null) {
+        throw new NotFoundException("Entity not found");
+      }
+      patcher.apply(entity, patchJson);
+      return mapper.toDto(entity);
+    }
+
+    // Load writable, so the merge below lands on an entity that is dirty checked
+    ENTITY existing = findWritable(id);
+    if (existing == null) {
       throw new NotFoundException("Entity not found");
     }
+    DTO existingDto = mapper.toDto(existing);
 
     // Serialize full DTO into JsonObject
-    JsonObject existingJson = jsonb.fromJson(jsonb.toJson(existingDto), JsonObject.class);
+    JsonObject existingJson = jsonb.fromJson(jsonCodecs.toJson(existingDto), JsonObject.class);
 
     // Merge patch
     JsonMergePatch mergePatch = Json.createMergePatch(patchJson);
@@ -186,7 +996,498 @@ public abstract class BaseEntityService<
     patchedDto.setCreatedBy(existingDto.getCreatedBy());
     patchedDto.setId(id); // Ensure ID is preserved
 
-    return update(patchedDto);
+    return applyUpdate(patchedDto);
+  }
+
+  /**
+   * Returns the fields that can be requested in a sparse fieldset.
+   *
+   * <p>Overridden by the generated service with the scalar fields of the DTO.
+   *
+   * @return the projectable field names
+   */
+  protected Set<String> getProjectableFields() {
+    return Set.of();
+  }
+
+  /**
+   * Returns the fields that can be used in the `filter` query parameter.
+   *
+   * @return the filterable field paths, from `@HyperResource(filtering)`
+   */
+  protected Set<String> getFilterableFields() {
+    HyperResource config = getResourceConfig();
+    return config != null ? Set.copyOf(Arrays.asList(config.filtering().filterable())) : Set.of();
+  }
+
+  /**
+   * Returns the fields that can be used in the `sort` query parameter.
+   *
+   * @return the sortable field paths, from `@HyperResource(filtering)`
+   */
+  protected Set<String> getSortableFields() {
+    HyperResource config = getResourceConfig();
+    return config != null ? Set.copyOf(Arrays.asList(config.filtering().sortable())) : Set.of();
+  }
+
+  /**
+   * Rejects a negative offset, which JPA would refuse with an IllegalArgumentException.
+   *
+   * @param offset the starting index of the page
+   * @throws BadRequestException if the offset is negative
+   */
+  private static void checkOffset(int offset) {
+    if (offset < 0) {
+      throw new BadRequestException("offset must not be negative, got " + offset);
+    }
+  }
+
+  /**
+   * Returns the compiled query of a filter and sort, reusing the template of its shape.
+   *
+   * @param spec the filter and sort of the request
+   * @return the compiled query
+   */
+  private CompiledQuery compile(QuerySpec spec) {
+    return queryTemplateCache.get(getRepository().getEntityManager().getMetamodel(), entityClass, spec,
+        getFilterableFields(), getSortableFields());
+  }
+
+  /**
+   * Returns the compiled filter of a keyset request, which is always ordered by the seek column.
+   *
+   * @param spec the filter of the request
+   * @return the compiled query
+   * @throws BadRequestException if a sort is requested
+   */
+  private CompiledQuery compileKeyset(QuerySpec spec) {
+    if (spec.hasSort()) {
+      throw new BadRequestException("Keyset pages are ordered by their seek column and cannot be sorted");
+    }
+    return compile(spec);
+  }
+
+  /**
+   * Builds a keyset page query, adding the seek predicate after the filter.
+   *
+   * <p>One extra row is requested to know whether a next page exists.
+   *
+   * @param em         the entity manager running the query
+   * @param from       the query up to the entity alias
+   * @param cursor     the opaque cursor of the previous page, or null for the first page
+   * @param limit      the maximum number of items in the page
+   * @param seek       the name of the seek column
+   * @param compiled   the compiled filter
+   * @param resultType the result type of the query
+   * @param <T>        the result type of the query
+   * @return the query, with every parameter bound
+   */
+  private <T> TypedQuery<T> keysetQuery(EntityManager em, String from, String cursor, int limit,
+      String seek, CompiledQuery compiled, Class<T> resultType) {
+    boolean byId = ID.equals(seek);
+    String column = Projection.ALIAS + "." + seek;
+    String id = Projection.ALIAS + "." + ID;
+    Cursor position = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+    int next = compiled.parameterCount() + 1;
+
+    List<String> conditions = new ArrayList<>();
+    if (!compiled.where().isEmpty()) {
+      conditions.add(compiled.where());
+    }
+    if (position != null) {
+      conditions.add(byId
+          ? id + " > ?" + next
+          : "(" + column + " > ?" + next + " or (" + column + " = ?" + next
+              + " and " + id + " > ?" + (next + 1) + "))");
+    }
+    StringBuilder jpql = new StringBuilder(from);
+    if (!conditions.isEmpty()) {
+      jpql.append(" where ").append(String.join(" and ", conditions));
+    }
+    jpql.append(byId ? " order by " + id : " order by " + column + ", " + id);
+
+    TypedQuery<T> query = compiled.bind(em.createQuery(jpql.toString(), resultType))
+        .setMaxResults(limit + 1);
+    if (position != null && byId) {
+      query.setParameter(next, position.id());
+    } else if (position != null) {
+      query.setParameter(next, position.value()).setParameter(next + 1, position.id());
+    }
+    return query;
+  }
+
+  /**
+   * Returns the cached projection of a sparse fieldset.
+   *
+   * @param fields   the comma-separated fields to return
+   * @param required the fields needed for paging
+   * @return the projection
+   */
+  private Projection getProjection(String fields, List<String> required) {
+    return projectionCache.get(entityClass, fields, getProjectableFields(), required);
+  }
+
+  /**
+   * Returns the fetch plan applied to the list endpoints.
+   *
+   * @return the plan compiled from `@HyperResource(fetchOnList)`, or `fetch` if not set
+   */
+  protected FetchPlan getListFetchPlan() {
+    FetchPlan plan = listFetchPlan;
+    if (plan == null) {
+      HyperResource config = getResourceConfig();
+      plan = compileFetchPlan(config == null ? null
+          : config.fetchOnList().length > 0 ? config.fetchOnList() : config.fetch());
+      listFetchPlan = plan;
+    }
+    return plan;
+  }
+
+  /**
+   * Returns the fetch plan applied to the get by id endpoint.
+   *
+   * @return the plan compiled from `@HyperResource(fetchOnGet)`, or `fetch` if not set
+   */
+  protected FetchPlan getGetFetchPlan() {
+    FetchPlan plan = getFetchPlan;
+    if (plan == null) {
+      HyperResource config = getResourceConfig();
+      plan = compileFetchPlan(config == null ? null
+          : config.fetchOnGet().length > 0 ? config.fetchOnGet() : config.fetch());
+      getFetchPlan = plan;
+    }
+    return plan;
+  }
+
+  private FetchPlan compileFetchPlan(String[] paths) {
+    return FetchPlan.compile(getRepository().getEntityManager(), entityClass, getEntityName(), paths);
+  }
+
+  /**
+   * Prepares a page query for a read endpoint.
+   *
+   * <p>Entities are loaded read-only, so Hibernate keeps no snapshot for dirty checking and
+   * skips them at flush time. The load graph of the fetch plan is passed along, and the query is
+   * cached by Hibernate when `@Cache(queryCache)` is set.
+   *
+   * @param query the page query
+   * @param plan  the fetch plan
+   * @return the query
+   */
+  private <T> TypedQuery<T> forRead(TypedQuery<T> query, FetchPlan plan) {
+    query.setHint(HibernateHints.HINT_READ_ONLY, true);
+    HyperResource config = getResourceConfig();
+    if (config != null && config.cache().queryCache()) {
+      query.setHint(HibernateHints.HINT_CACHEABLE, true);
+    }
+    return plan.graph() != null ? query.setHint(FetchPlan.LOAD_GRAPH, plan.graph()) : query;
+  }
+
+  /**
+   * Loads an entity that is about to be modified.
+   *
+   * <p>The entity may already sit read-only in the persistence context, e.g. when it was read
+   * earlier in the same request; it is then switched back to writable, so its changes are
+   * flushed.
+   *
+   * @param id the ID of the entity
+   * @return the writable managed entity, or null if not found
+   */
+  private ENTITY findWritable(Long id) {
+    ENTITY entity = getRepository().findById(id);
+    if (entity != null) {
+      writable(entity);
+    }
+    return entity;
+  }
+
+  private void writable(ENTITY entity) {
+    Session session = getRepository().getEntityManager().unwrap(Session.class);
+    if (session.isReadOnly(entity)) {
+      session.setReadOnly(entity, false);
+    }
+  }
+
+  /**
+   * Loads the associations of a page before it is mapped.
+   *
+   * <p>The collections of the plan are fetched for the whole page, and the session fetch batch
+   * size is raised to the page size, so the lazy associations left outside the plan are loaded
+   * with one query per association instead of one per row.
+   *
+   * @param em       the entity manager that loaded the page
+   * @param plan     the fetch plan
+   * @param entities the loaded page
+   * @return the page
+   */
+  private List<ENTITY> fetch(EntityManager em, FetchPlan plan, List<ENTITY> entities) {
+    Session session = em.unwrap(Session.class);
+    if (entities.size() > session.getFetchBatchSize()) {
+      session.setFetchBatchSize(entities.size());
+    }
+    plan.fetchCollections(em, entities);
+    return entities;
+  }
+
+  /**
+   * Builds the query selecting whole entities, up to the entity alias.
+   *
+   * @return the JPQL select and from clauses
+   */
+  private String selectEntity() {
+    return "select " + Projection.ALIAS + " from " + getEntityName() + " " + Projection.ALIAS;
+  }
+
+  /**
+   * Resolves the JPQL name of the entity from the JPA metamodel.
+   *
+   * @return the entity name
+   */
+  private String getEntityName() {
+    String name = entityName;
+    if (name == null) {
+      name = getRepository().getEntityManager().getMetamodel().entity(entityClass).getName();
+      entityName = name;
+    }
+    return name;
+  }
+
+  /**
+   * Reads the row estimate of the entity table from the Postgres statistics.
+   *
+   * <p>Falls back to the cached exact count while the table has never been analyzed.
+   *
+   * @return the estimated number of entities
+   */
+  private long estimateCount() {
+    EntityManager em = getRepository().getEntityManager();
+    List<?> rows = em.createNativeQuery("select reltuples from pg_class where oid = to_regclass(?1)")
+        .setParameter(1, getTableName(em))
+        .getResultList();
+    if (!rows.isEmpty() && rows.get(0) instanceof Number estimate && estimate.longValue() >= 0) {
+      return estimate.longValue();
+    }
+    return countCache.get(entityClass, this::countExactly);
+  }
+
+  /**
+   * Counts every entity with `select count`.
+   *
+   * @return the exact number of entities
+   */
+  private long countExactly() {
+    String jpql = "select count(" + Projection.ALIAS + ") from " + getEntityName() + " " + Projection.ALIAS;
+    return read(em -> em.createQuery(jpql, Long.class).getSingleResult());
+  }
+
+  /**
+   * Runs a read operation on the entity manager chosen by {@link ReadRouting}.
+   *
+   * @param work the read operation, which must map its results before returning
+   * @param <T>  the result type
+   * @return the result of the operation
+   */
+  private <T> T read(Function<EntityManager, T> work) {
+    return readRouting.read(getRepository().getEntityManager(), work);
+  }
+
+  /**
+   * Runs the read operation of a list page, through the {@link PageCache} if it is enabled.
+   *
+   * <p>Cached pages are loaded from the primary datasource, since a lagging replica could cache
+   * the page from before the last write.
+   *
+   * @param page the key of the page
+   * @param work the read operation, which must map its results before returning
+   * @param <T>  the page type
+   * @return the page
+   */
+  private <T> T readPage(PageKey page, Function<EntityManager, T> work) {
+    Cache cache = getCacheConfig();
+    if (cache == null || cache.maximumPages() == 0) {
+      return read(work);
+    }
+    if (ENCODING_OFF_HEAP.get() != null) {
+      // The serialized page is cached off heap, keeping the DTOs as well would grow the heap
+      return work.apply(getRepository().getEntityManager());
+    }
+    return pageCache.get(entityClass, cache, page, () -> work.apply(getRepository().getEntityManager()));
+  }
+
+  /**
+   * Records a write of the entity before it starts.
+   *
+   * <p>The client gets the commit time for its read-your-writes window, and the cached pages and
+   * filtered counts of the entity are no longer served, on this node and, after the commit, on
+   * the others.
+   */
+  private void startWrite() {
+    readRouting.markWrite();
+    clusterInvalidation.publish(entityClass, List.of());
+    if (countCache != null) {
+      countCache.invalidateFiltered(entityClass);
+    }
+    Cache cache = getCacheConfig();
+    if (cache != null && cache.maximumPages() > 0) {
+      pageCache.invalidate(entityClass);
+    }
+  }
+
+  /**
+   * Resolves the table of the entity from the Hibernate metamodel.
+   *
+   * @param em the entity manager
+   * @return the, possibly schema-qualified, table name
+   */
+  private String getTableName(EntityManager em) {
+    String table = tableName;
+    if (table == null) {
+      EntityPersister persister = em.getEntityManagerFactory()
+          .unwrap(SessionFactoryImplementor.class)
+          .getMappingMetamodel()
+          .getEntityDescriptor(entityClass);
+      table = persister instanceof AbstractEntityPersister entityPersister
+          ? entityPersister.getTableName()
+          : entityClass.getSimpleName();
+      tableName = table;
+    }
+    return table;
+  }
+
+  /**
+   * Drops the cached count after entities are created or deleted.
+   */
+  private void invalidateCount() {
+    if (countCache != null && entityClass != null) {
+      countCache.invalidate(entityClass);
+    }
+  }
+
+  /**
+   * Drops the cached DTO and response of a written entity.
+   *
+   * @param id the ID of the entity, may be null for an entity without id
+   */
+  private void invalidateCached(Long id) {
+    if (id != null) {
+      invalidateCached(List.of(id));
+    }
+  }
+
+  /**
+   * Drops the cached DTOs and responses of written entities.
+   *
+   * @param ids the IDs of the entities
+   */
+  private void invalidateCached(List<Long> ids) {
+    clusterInvalidation.publish(entityClass, ids);
+    Cache cache = getCacheConfig();
+    if (cache == null) {
+      return;
+    }
+    entityCache.invalidate(entityClass, cache, ids);
+    if (cache.serialized()) {
+      responseCache.invalidate(entityClass, cache, ids);
+    }
+    if (cache.maximumMissing() > 0) {
+      negativeCache.invalidate(entityClass, cache, ids);
+    }
+  }
+
+  /**
+   * Returns the cache configuration of the entity.
+   *
+   * @return the configuration from `@HyperResource(cache)`, or null if caching is disabled
+   */
+  protected Cache getCacheConfig() {
+    HyperResource config = getResourceConfig();
+    return config != null && config.cache().enabled() ? config.cache() : null;
+  }
+
+  /**
+   * Returns the patcher applying JSON Merge Patches directly to managed entities.
+   *
+   * <p>Overridden by the generated service. Returning null patches every entity through its DTO.
+   *
+   * @return the patcher, or null if none is available
+   */
+  protected EntityPatcher<ENTITY> getPatcher() {
+    return null;
+  }
+
+  /**
+   * Returns how updates are written to the database.
+   *
+   * <p>Overridden by the generated service when `@HyperResource(updateMode)` is set.
+   *
+   * @return the update mode
+   */
+  protected UpdateMode getUpdateMode() {
+    return UpdateMode.MERGE;
+  }
+
+  /**
+   * Checks whether updates copy only the changed fields onto the managed entity.
+   *
+   * @return true if the update mode is `CHANGED_FIELDS` and a patcher is available
+   */
+  private boolean isUpdatingChangedFields() {
+    return getUpdateMode() == UpdateMode.CHANGED_FIELDS && getPatcher() != null;
+  }
+
+  /**
+   * Returns the class type of the entity managed by this service.
+   *
+   * @return the entity class
+   */
+  public Class<ENTITY> getEntityClass() {
+    return entityClass;
+  }
+
+  /**
+   * Returns the class type of the DTO of this service.
+   *
+   * @return the DTO class
+   */
+  public Class<DTO> getDtoClass() {
+    return dtoClass;
+  }
+
+  /**
+   * Returns the `@HyperResource` configuration of the entity.
+   *
+   * @return the configuration, or null if the entity is not annotated
+   */
+  protected HyperResource getResourceConfig() {
+    return entityClass != null ? entityClass.getAnnotation(HyperResource.class) : null;
+  }
+
+  /**
+   * Returns the number of entities written per JDBC batch by the batch operations.
+   *
+   * @return the batch size
+   */
+  protected int getBatchSize() {
+    HyperResource config = getResourceConfig();
+    return config != null && config.batchSize() > 0 ? config.batchSize() : DEFAULT_BATCH_SIZE;
+  }
+
+  /**
+   * Resolves the entity class from the generic signature of the concrete service class.
+   *
+   * @return the entity class, or null if it cannot be resolved
+   */
+  @SuppressWarnings("unchecked")
+  private Class<ENTITY> resolveEntityClass() {
+    for (Class<?> type = getClass(); type != null; type = type.getSuperclass()) {
+      Type superType = type.getGenericSuperclass();
+      if (superType instanceof ParameterizedType parameterized
+          && parameterized.getRawType() == BaseEntityService.class
+          && parameterized.getActualTypeArguments()[0] instanceof Class<?> entity) {
+        return (Class<ENTITY>) entity;
+      }
+    }
+    return null;
   }
 
   /**
@@ -196,7 +1497,7 @@ public abstract class BaseEntityService<
    * @return the corresponding DTO
    */
   private DTO jsonToDto(JsonObject json) {
-    return jsonb.fromJson(json.toString(), dtoClass);
+    return jsonCodecs.fromJson(json, dtoClass);
   }
 
   /**
@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.service;
+
+import com.eorghe.hyperapi.dto.HyperDto;
+import com.eorghe.hyperapi.events.EntityEvent;
+import com.eorghe.hyperapi.mapper.AbstractMapper;
+import com.eorghe.hyperapi.mapper.EntityPatcher;
+import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.paging.Cursor;
+import com.eorghe.hyperapi.paging.KeysetPage;
+import com.eorghe.hyperapi.processor.enums.UpdateMode;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.PanacheQuery;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.bind.Jsonb;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * ReactiveBaseEntityService is the non-blocking counterpart of {@link BaseEntityService}.
+ *
+ * <p>It is backed by Hibernate Reactive Panache, so every operation returns a `Uni` and runs on
+ * the Vert.x event loop instead of holding a worker thread while waiting on the database.
+ * Services of resources annotated with `@HyperResource(reactive = true)` extend this class.
+ *
+ * <p>Using it requires `quarkus-hibernate-reactive-panache` and a reactive database client,
+ * such as `quarkus-reactive-pg-client`, on the application classpath.
+ *
+ * @param <ENTITY> the type of the JPA entity
+ * @param <DTO>    the type of the DTO
+ * @param <MAPPER> the type of the mapper used for entity-DTO conversion
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+public abstract class ReactiveBaseEntityService<
+    ENTITY extends HyperEntity, DTO extends HyperDto, MAPPER extends AbstractMapper<DTO, ENTITY>> {
+
+  /**
+   * The name of the id column, used as keyset tie-breaker.
+   */
+  private static final String ID = "id";
+
+  /**
+   * The class type of the DTO, used for JSON deserialization.
+   */
+  private final Class<DTO> dtoClass;
+
+  /**
+   * Constructs a ReactiveBaseEntityService with the specified DTO class type.
+   *
+   * @param dtoClass the class type of the DTO
+   */
+  protected ReactiveBaseEntityService(Class<DTO> dtoClass) {
+    this.dtoClass = dtoClass;
+  }
+
+  /**
+   * The mapper used for converting between entities and DTOs.
+   */
+  @Inject
+  protected MAPPER mapper;
+
+  /**
+   * The JSON-B instance used for JSON serialization and deserialization.
+   */
+  @Inject
+  Jsonb jsonb;
+
+  /**
+   * The number of rows read per query when streaming entities.
+   */
+  @ConfigProperty(name = "hyperapi.stream.fetch-size", defaultValue = "500")
+  int streamFetchSize;
+
+  /**
+   * The CDI event used for firing entity-related events.
+   */
+  @Inject
+  jakarta.enterprise.event.Event<EntityEvent<ENTITY>> event;
+
+  /**
+   * Returns the reactive repository for managing the entity.
+   *
+   * @return the repository instance
+   */
+  protected abstract PanacheRepositoryBase<ENTITY, Long> getRepository();
+
+  /**
+   * Retrieves a paginated list of DTOs.
+   *
+   * @param offset the starting index of the page
+   * @param limit  the maximum number of items in the page
+   * @return a Uni emitting the list of DTOs
+   * @throws BadRequestException if the offset is negative
+   */
+  @WithSession
+  public Uni<List<DTO>> findAll(int offset, int limit) {
+    if (offset < 0) {
+      throw new BadRequestException("offset must not be negative, got " + offset);
+    }
+    if (limit <= 0) {
+      return Uni.createFrom().item(List.of());
+    }
+    return getRepository().findAll()
+        .withHint(HibernateHints.HINT_READ_ONLY, true)
+        .range(offset, offset + limit - 1)
+        .list()
+        .map(mapper::toList);
+  }
+
+  /**
+   * Retrieves the page following the given cursor using keyset pagination.
+   *
+   * @param cursor the opaque cursor returned with the previous page, or null for the first page
+   * @param limit  the maximum number of items in the page
+   * @param seek   the name of the seek column
+   * @return a Uni emitting the page of DTOs and the cursor of the next page
+   * @see BaseEntityService#findAfter(String, int, String)
+   */
+  @WithSession
+  public Uni<KeysetPage<DTO>> findAfter(String cursor, int limit, String seek) {
+    if (limit <= 0) {
+      return Uni.createFrom().item(new KeysetPage<>(List.of(), null));
+    }
+    boolean byId = ID.equals(seek);
+    Sort sort = byId ? Sort.by(ID) : Sort.by(seek).and(ID);
+
+    PanacheQuery<ENTITY> query;
+    if (cursor == null || cursor.isBlank()) {
+      query = getRepository().findAll(sort);
+    } else if (byId) {
+      query = getRepository().find("id > ?1", sort, Cursor.decode(cursor).id());
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      query = getRepository().find(
+          seek + " > ?1 or (" + seek + " = ?1 and id > ?2)", sort, position.value(), position.id());
+    }
+
+    // Fetch one extra row to know whether a next page exists
+    return query.withHint(HibernateHints.HINT_READ_ONLY, true).range(0, limit).list().map(entities -> {
+      String nextCursor = null;
+      if (entities.size() > limit) {
+        entities = entities.subList(0, limit);
+        ENTITY last = entities.get(limit - 1);
+        nextCursor = Cursor.after(last, seek, last.id).encode();
+      }
+      return new KeysetPage<>(mapper.toList(entities), nextCursor);
+    });
+  }
+
+  /**
+   * Streams all entities, ordered by id.
+   *
+   * <p>Hibernate Reactive cannot scroll a result set, so rows are read in keyset pages of
+   * `hyperapi.stream.fetch-size` and emitted one by one as each page arrives.
+   *
+   * @return a Multi emitting every DTO
+   */
+  public Multi<DTO> streamAll() {
+    AtomicReference<String> cursor = new AtomicReference<>();
+    AtomicBoolean exhausted = new AtomicBoolean();
+    return Multi.createBy().repeating()
+        .uni(() -> exhausted.get()
+            ? Uni.createFrom().item(new KeysetPage<DTO>(List.of(), null))
+            : Panache.withSession(() -> findAfter(cursor.get(), streamFetchSize, ID))
+                .invoke(page -> {
+                  cursor.set(page.nextCursor());
+                  exhausted.set(page.nextCursor() == null);
+                }))
+        .until(page -> page.items().isEmpty())
+        .onItem().transformToIterable(KeysetPage::items);
+  }
+
+  /**
+   * Finds a DTO by its ID.
+   *
+   * <p>The entity is loaded read-only, like the list reads, so the session keeps no snapshot of
+   * it for dirty checking.
+   *
+   * @param id the ID of the entity
+   * @return a Uni emitting the corresponding DTO, or null if not found
+   */
+  @WithSession
+  public Uni<DTO> findById(Long id) {
+    return getRepository().getSession()
+        .chain(session -> {
+          // The session may be shared with the caller, restore its default afterwards
+          boolean readOnly = session.isDefaultReadOnly();
+          session.setDefaultReadOnly(true);
+          return getRepository().findById(id).eventually(() -> session.setDefaultReadOnly(readOnly));
+        })
+        .map(entity -> entity != null ? mapper.toDto(entity) : null);
+  }
+
+  /**
+   * Creates a new entity from the given DTO.
+   *
+   * @param dto the DTO representing the entity to create
+   * @return a Uni emitting the created DTO
+   */
+  @WithTransaction
+  public Uni<DTO> create(DTO dto) {
+    ENTITY entity = mapper.toEntity(dto);
+    return getRepository().persist(entity).map(mapper::toDto);
+  }
+
+  /**
+   * Updates an existing entity with the given DTO.
+   *
+   * @param dto the DTO representing the updated entity
+   * @return a Uni emitting the updated DTO
+   */
+  @WithTransaction
+  public Uni<DTO> update(DTO dto) {
+    EntityPatcher<ENTITY> patcher = getPatcher();
+    if (getUpdateMode() == UpdateMode.CHANGED_FIELDS && patcher != null && dto.getId() != null) {
+      ENTITY source = mapper.toEntity(dto);
+      return getRepository().findById(dto.getId())
+          .onItem().ifNull().failWith(() -> new NotFoundException("Entity not found"))
+          .invoke(managed -> patcher.copyChanged(source, managed))
+          .map(mapper::toDto);
+    }
+
+    ENTITY entity = mapper.toEntity(dto);
+    return getRepository().getSession()
+        .chain(session -> session.merge(entity))
+        .map(mapper::toDto);
+  }
+
+  /**
+   * Deletes an entity by its ID.
+   *
+   * @param id the ID of the entity to delete
+   * @return a Uni completing once the entity is deleted
+   */
+  @WithTransaction
+  public Uni<Void> delete(Long id) {
+    return getRepository().deleteById(id).replaceWithVoid();
+  }
+
+  /**
+   * Applies a JSON Merge Patch to an entity and updates it.
+   *
+   * <p>When the generated {@link EntityPatcher} supports every key of the patch, the fields are
+   * set directly on the managed entity. Otherwise the entity is patched through its DTO.
+   *
+   * @param id        the ID of the entity to patch
+   * @param patchJson the JSON object representing the patch
+   * @return a Uni emitting the patched DTO, or failing with NotFoundException
+   */
+  @WithTransaction
+  public Uni<DTO> patch(Long id, JsonObject patchJson) {
+    EntityPatcher<ENTITY> patcher = getPatcher();
+    if (patcher != null && patcher.supports(patchJson)) {
+      return getRepository().findById(id)
+          .onItem().ifNull().failWith(() -> new NotFoundException("Entity not found"))
+          .invoke(entity -> patcher.apply(entity, patchJson))
+          .map(mapper::toDto);
+    }
+
+    return getRepository().findById(id)
+        .onItem().ifNull().failWith(() -> new NotFoundException("Entity not found"))
+        .chain(entity -> {
+          DTO existingDto = mapper.toDto(entity);
+          JsonObject existingJson = jsonb.fromJson(jsonb.toJson(existingDto), JsonObject.class);
+          JsonObject mergedJson =
+              Json.createMergePatch(patchJson).apply(existingJson).asJsonObject();
+
+          DTO patchedDto = jsonb.fromJson(mergedJson.toString(), dtoClass);
+          // Strip immutable fields after patch
+          patchedDto.setCreatedOn(existingDto.getCreatedOn());
+          patchedDto.setCreatedBy(existingDto.getCreatedBy());
+          patchedDto.setId(id); // Ensure ID is preserved
+
+          ENTITY patched = mapper.toEntity(patchedDto);
+          return getRepository().getSession().chain(session -> session.merge(patched));
+        })
+        .map(mapper::toDto);
+  }
+
+  /**
+   * Returns the patcher applying JSON Merge Patches directly to managed entities.
+   *
+   * <p>Overridden by the generated service. Returning null patches every entity through its DTO.
+   *
+   * @return the patcher, or null if none is available
+   */
+  protected EntityPatcher<ENTITY> getPatcher() {
+    return null;
+  }
+
+  /**
+   * Returns how updates are written to the database.
+   *
+   * <p>Overridden by the generated service when `@HyperResource(updateMode)` is set.
+   *
+   * @return the update mode
+   */
+  protected UpdateMode getUpdateMode() {
+    return UpdateMode.MERGE;
+  }
+
+  /**
+   * Fires an entity-related event.
+   *
+   * @param type   the type of the event
+   * @param entity the entity associated with the event
+   */
+  protected void fireEvent(EntityEvent.Type type, ENTITY entity) {
+    if (event != null && entity != null) {
+      event.fire(new EntityEvent<>(type, entity));
+    }
+  }
+}
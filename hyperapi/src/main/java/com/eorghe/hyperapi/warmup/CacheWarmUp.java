@@ -0,0 +1,364 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.warmup;
+
+import com.eorghe.hyperapi.cache.EntityCache;
+import com.eorghe.hyperapi.cache.HotKeyTracker;
+import com.eorghe.hyperapi.cache.ResponseCache;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import com.eorghe.hyperapi.registry.EntityRegistry;
+import com.eorghe.hyperapi.service.BaseEntityService;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CacheWarmUp fills the caches of the resources at startup, so a new node does not serve its first
+ * minutes from the database.
+ *
+ * <p>With `hyperapi.cache.warm-up.enabled`, every resource annotated with `@Cache(enabled = true)`
+ * is loaded with:
+ * <ul>
+ *   <li>the hot ids saved by the previous run in `hyperapi.cache.warm-up.snapshot`, if any;</li>
+ *   <li>its first `hyperapi.cache.warm-up.pages` list pages, if `@Cache(maximumPages)` is set.</li>
+ * </ul>
+ *
+ * <p>The loads run in the background on `hyperapi.cache.warm-up.concurrency` threads, each in its
+ * own request context, and {@link WarmUpReadiness} keeps the node out of rotation until they are
+ * done. At shutdown the hottest ids ranked by the {@link HotKeyTracker}, followed by those of the
+ * entity and response caches, are saved to the snapshot for the next run.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@ApplicationScoped
+public class CacheWarmUp {
+
+  /**
+   * Logger instance for logging the warm-up progress.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CacheWarmUp.class);
+
+  /**
+   * The number of ids loaded by a single task.
+   */
+  static final int IDS_PER_TASK = 50;
+
+  /**
+   * Whether the caches are filled at startup.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.enabled", defaultValue = "false")
+  boolean enabled;
+
+  /**
+   * The file holding the hot ids, read at startup and written at shutdown.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.snapshot")
+  Optional<String> snapshot;
+
+  /**
+   * The maximum number of hot ids saved and loaded per entity class.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.hot-keys", defaultValue = "1000")
+  int hotKeys;
+
+  /**
+   * The number of list pages loaded per entity class.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.pages", defaultValue = "1")
+  int pages;
+
+  /**
+   * The number of loads running in parallel.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.concurrency", defaultValue = "4")
+  int concurrency;
+
+  /**
+   * The maximum time the warm-up may take before the node is reported ready anyway.
+   */
+  @ConfigProperty(name = "hyperapi.cache.warm-up.timeout", defaultValue = "5m")
+  Duration timeout;
+
+  /**
+   * The generated services, loading the entities.
+   */
+  @Inject
+  @Any
+  Instance<BaseEntityService<?, ?, ?>> services;
+
+  /**
+   * The registry of the exposed entities.
+   */
+  @Inject
+  EntityRegistry entityRegistry;
+
+  /**
+   * The cache of the DTOs read by id, ranking the hot ids.
+   */
+  @Inject
+  EntityCache entityCache;
+
+  /**
+   * The cache of the serialized responses, ranking the hot ids.
+   */
+  @Inject
+  ResponseCache responseCache;
+
+  /**
+   * The read estimates, ranking the hottest ids ahead of the caches.
+   */
+  @Inject
+  HotKeyTracker hotKeyTracker;
+
+  /**
+   * The number of tasks scheduled.
+   */
+  private final AtomicInteger total = new AtomicInteger();
+
+  /**
+   * The number of tasks completed, successfully or not.
+   */
+  private final AtomicInteger completed = new AtomicInteger();
+
+  /**
+   * The number of tasks failed.
+   */
+  private final AtomicInteger failed = new AtomicInteger();
+
+  /**
+   * Whether the warm-up is over, or was never started.
+   */
+  private volatile boolean finished;
+
+  /**
+   * Starts filling the caches of the given entities in the background, if enabled.
+   *
+   * @param entities the exposed entity classes
+   */
+  public void start(Set<Class<?>> entities) {
+    if (!enabled) {
+      finished = true;
+      return;
+    }
+    Thread.ofPlatform().daemon().name("hyperapi-cache-warm-up").start(() -> run(entities));
+  }
+
+  /**
+   * Checks whether the warm-up is enabled.
+   *
+   * @return true if `hyperapi.cache.warm-up.enabled` is set
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Checks whether the warm-up is over.
+   *
+   * @return true once every task completed or the timeout elapsed
+   */
+  public boolean isFinished() {
+    return finished;
+  }
+
+  /**
+   * Returns the number of tasks scheduled.
+   *
+   * @return the number of tasks
+   */
+  public int total() {
+    return total.get();
+  }
+
+  /**
+   * Returns the number of tasks completed, successfully or not.
+   *
+   * @return the number of completed tasks
+   */
+  public int completed() {
+    return completed.get();
+  }
+
+  /**
+   * Returns the number of tasks failed.
+   *
+   * @return the number of failed tasks
+   */
+  public int failed() {
+    return failed.get();
+  }
+
+  /**
+   * Saves the hottest ids of every cached entity class to the snapshot at shutdown.
+   *
+   * @param ev the shutdown event
+   */
+  void onStop(@Observes ShutdownEvent ev) {
+    if (snapshot.isEmpty()) {
+      return;
+    }
+    Map<String, List<Long>> hot = new LinkedHashMap<>();
+    for (Class<?> entityClass : entityRegistry.all()) {
+      Set<Long> ids = new LinkedHashSet<>();
+      hotKeyTracker.hottest(entityClass).forEach(key -> ids.add(key.id()));
+      ids.addAll(entityCache.hottest(entityClass, hotKeys));
+      ids.addAll(responseCache.hottest(entityClass, hotKeys));
+      if (!ids.isEmpty()) {
+        hot.put(entityClass.getName(), ids.stream().limit(hotKeys).toList());
+      }
+    }
+    try {
+      HotKeySnapshot.write(Path.of(snapshot.get()), hot);
+      LOG.info("Saved the hot ids of {} entities to {}", hot.size(), snapshot.get());
+    } catch (IOException e) {
+      LOG.warn("Could not save the hot ids to {}: {}", snapshot.get(), e.getMessage());
+    }
+  }
+
+  /**
+   * Schedules the loads of every cached entity class and waits for them.
+   *
+   * @param entities the exposed entity classes
+   */
+  private void run(Set<Class<?>> entities) {
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(concurrency,
+        Thread.ofPlatform().daemon().name("hyperapi-cache-warm-up-", 0).factory());
+    try {
+      List<Runnable> tasks = plan(entities);
+      total.set(tasks.size());
+      tasks.forEach(task -> pool.execute(() -> runTask(task)));
+      pool.shutdown();
+      if (!pool.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOG.warn("Cache warm-up timed out after {}, {} of {} tasks completed", timeout, completed(), total());
+        pool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pool.shutdownNow();
+    } catch (RuntimeException e) {
+      LOG.warn("Cache warm-up failed: {}", e.getMessage());
+      pool.shutdownNow();
+    } finally {
+      finished = true;
+    }
+    LOG.info("Cache warm-up completed {} tasks, {} failed, in {} ms", completed(), failed(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Splits the loads of every cached entity class into tasks.
+   *
+   * @param entities the exposed entity classes
+   * @return the tasks
+   */
+  private List<Runnable> plan(Set<Class<?>> entities) {
+    Map<String, List<Long>> hot = snapshot.map(file -> HotKeySnapshot.read(Path.of(file))).orElse(Map.of());
+    Map<Class<?>, BaseEntityService<?, ?, ?>> byEntity = servicesByEntity();
+    List<Runnable> tasks = new ArrayList<>();
+    for (Class<?> entityClass : entities) {
+      HyperResource config = entityClass.getAnnotation(HyperResource.class);
+      BaseEntityService<?, ?, ?> service = byEntity.get(entityClass);
+      if (service == null || config == null || !config.cache().enabled()) {
+        continue;
+      }
+      List<Long> ids = hot.getOrDefault(entityClass.getName(), List.of());
+      ids = ids.subList(0, Math.min(ids.size(), hotKeys));
+      for (int from = 0; from < ids.size(); from += IDS_PER_TASK) {
+        Collection<Long> chunk = List.copyOf(ids.subList(from, Math.min(from + IDS_PER_TASK, ids.size())));
+        tasks.add(() -> service.warmUp(chunk));
+      }
+      if (pages > 0 && config.cache().maximumPages() > 0) {
+        tasks.add(() -> service.warmUpPages(pages));
+      }
+    }
+    return tasks;
+  }
+
+  /**
+   * Resolves the generated service of each entity class.
+   *
+   * <p>Runs in a request context, since the services may be request scoped.
+   *
+   * @return the services keyed by entity class
+   */
+  private Map<Class<?>, BaseEntityService<?, ?, ?>> servicesByEntity() {
+    ManagedContext requestContext = Arc.container().requestContext();
+    requestContext.activate();
+    try {
+      Map<Class<?>, BaseEntityService<?, ?, ?>> byEntity = new HashMap<>();
+      for (BaseEntityService<?, ?, ?> service : services) {
+        byEntity.put(service.getEntityClass(), service);
+      }
+      return byEntity;
+    } finally {
+      requestContext.terminate();
+    }
+  }
+
+  /**
+   * Runs a task in its own request context, counting its completion.
+   *
+   * @param task the task
+   */
+  private void runTask(Runnable task) {
+    ManagedContext requestContext = Arc.container().requestContext();
+    requestContext.activate();
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      failed.incrementAndGet();
+      LOG.warn("Cache warm-up task failed: {}", e.getMessage());
+    } finally {
+      requestContext.terminate();
+      completed.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * HotKeySnapshot reads and writes the hot ids of each entity class, one line per class.
+ *
+ * <p>Each line holds the class name and its ids, hottest first, e.g.
+ * `com.example.Product=17,4,99`. Blank lines and lines starting with `#` are skipped.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class HotKeySnapshot {
+
+  private HotKeySnapshot() {
+  }
+
+  /**
+   * Reads a snapshot.
+   *
+   * @param file the snapshot file
+   * @return the ids keyed by entity class name, empty if the file does not exist
+   * @throws UncheckedIOException if the file cannot be read
+   * @throws NumberFormatException if an id is not a number
+   */
+  static Map<String, List<Long>> read(Path file) {
+    if (!Files.exists(file)) {
+      return Map.of();
+    }
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Map<String, List<Long>> hot = new LinkedHashMap<>();
+    for (String line : lines) {
+      line = line.strip();
+      int separator = line.indexOf('=');
+      if (line.isEmpty() || line.startsWith("#") || separator <= 0) {
+        continue;
+      }
+      List<Long> ids = new ArrayList<>();
+      for (String id : line.substring(separator + 1).split(",")) {
+        if (!id.isBlank()) {
+          ids.add(Long.valueOf(id.strip()));
+        }
+      }
+      hot.put(line.substring(0, separator), ids);
+    }
+    return hot;
+  }
+
+  /**
+   * Writes a snapshot, replacing the previous one atomically.
+   *
+   * @param file the snapshot file
+   * @param hot  the ids keyed by entity class name, hottest first
+   * @throws IOException if the file cannot be written
+   */
+  static void write(Path file, Map<String, List<Long>> hot) throws IOException {
+    Path dir = file.toAbsolutePath().getParent();
+    Files.createDirectories(dir);
+    Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+    List<String> lines = hot.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue().stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(",")))
+        .toList();
+    Files.write(temp, lines, StandardCharsets.UTF_8);
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
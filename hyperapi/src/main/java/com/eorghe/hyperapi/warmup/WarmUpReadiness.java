@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.warmup;
+
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * WarmUpReadiness reports the node not ready while {@link CacheWarmUp} is filling the caches.
+ *
+ * <p>The response data holds the progress of the warm-up, e.g.
+ * `{"completed": 12, "total": 40, "failed": 0}`, at `/q/health/ready`.
+ *
+ * <p>SmallRye Health is an optional dependency, so this check is not a bean of its own: the
+ * extension registers it, application scoped, only when `quarkus-smallrye-health` is present.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Readiness
+public class WarmUpReadiness implements HealthCheck {
+
+  /**
+   * The warm-up whose progress is reported.
+   */
+  @Inject
+  CacheWarmUp cacheWarmUp;
+
+  /**
+   * Reports the progress of the warm-up.
+   *
+   * @return up once the warm-up is over or if it is disabled, down otherwise
+   */
+  @Override
+  public HealthCheckResponse call() {
+    boolean ready = !cacheWarmUp.isEnabled() || cacheWarmUp.isFinished();
+    return HealthCheckResponse.named("HyperAPI cache warm-up")
+        .status(ready)
+        .withData("completed", cacheWarmUp.completed())
+        .withData("total", cacheWarmUp.total())
+        .withData("failed", cacheWarmUp.failed())
+        .build();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheFixtures builds the collaborators of the caches outside of CDI.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+final class CacheFixtures {
+
+  /**
+   * The time a test waits for another thread.
+   */
+  static final long TIMEOUT_SECONDS = 5;
+
+  private CacheFixtures() {
+  }
+
+  /**
+   * Returns a `@Cache` configuration, with the defaults of the annotation for every attribute
+   * not overridden.
+   *
+   * @param overrides the attribute values, by attribute name
+   * @return the configuration
+   */
+  static Cache cache(Map<String, Object> overrides) {
+    return (Cache) Proxy.newProxyInstance(Cache.class.getClassLoader(), new Class<?>[]{Cache.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "annotationType" -> Cache.class;
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          case "toString" -> "@Cache" + overrides;
+          default -> overrides.getOrDefault(method.getName(), method.getDefaultValue());
+        });
+  }
+
+  /**
+   * Returns a transaction registry reporting that no transaction is active.
+   *
+   * @return the registry
+   */
+  static TransactionSynchronizationRegistry noTransaction() {
+    return (TransactionSynchronizationRegistry) Proxy.newProxyInstance(
+        TransactionSynchronizationRegistry.class.getClassLoader(),
+        new Class<?>[]{TransactionSynchronizationRegistry.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getTransactionStatus")) {
+            return Status.STATUS_NO_TRANSACTION;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  /**
+   * Waits for a latch, failing the calling load if it is not released in time.
+   *
+   * @param latch the latch
+   */
+  static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("The latch was not released");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Concurrent runs the same call on several threads.
+   *
+   * @param <T> the result type
+   */
+  static final class Concurrent<T> {
+
+    /**
+     * The threads running the call.
+     */
+    private final List<Thread> threads = new ArrayList<>();
+
+    /**
+     * The results of the threads.
+     */
+    private final List<FutureTask<T>> tasks = new ArrayList<>();
+
+    /**
+     * Starts the threads.
+     *
+     * @param count the number of threads
+     * @param call  the call run by every thread
+     */
+    Concurrent(int count, Callable<T> call) {
+      for (int i = 0; i < count; i++) {
+        FutureTask<T> task = new FutureTask<>(call);
+        Thread thread = new Thread(task, "concurrent-" + i);
+        tasks.add(task);
+        threads.add(thread);
+        thread.start();
+      }
+    }
+
+    /**
+     * Waits until every thread is parked, either in a load or waiting for one.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    void awaitParked() throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+      while (!threads.stream().allMatch(Concurrent::isParked)) {
+        if (System.nanoTime() > deadline) {
+          throw new IllegalStateException("The threads did not park");
+        }
+        Thread.sleep(1);
+      }
+    }
+
+    /**
+     * Returns the results of the threads, in start order.
+     *
+     * @return the results
+     * @throws Exception if a call failed or did not complete in time
+     */
+    List<T> results() throws Exception {
+      List<T> results = new ArrayList<>(tasks.size());
+      for (FutureTask<T> task : tasks) {
+        results.add(task.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      }
+      return results;
+    }
+
+    private static boolean isParked(Thread thread) {
+      Thread.State state = thread.getState();
+      return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link NegativeCache}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class NegativeCacheTest {
+
+  private static final Long ID = 42L;
+
+  private static final Cache CONFIG = CacheFixtures.cache(Map.of("maximumMissing", 100L));
+
+  private NegativeCache negativeCache;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    negativeCache = new NegativeCache();
+    negativeCache.transactionRegistry = CacheFixtures.noTransaction();
+  }
+
+  @Test
+  void missingIdIsLoadedOnce() {
+    assertNull(negativeCache.get(Object.class, CONFIG, ID, this::missing));
+    assertNull(negativeCache.get(Object.class, CONFIG, ID, this::missing));
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void writeDuringLoadIsNotRememberedAsMissing() {
+    assertNull(negativeCache.get(Object.class, CONFIG, ID, () -> {
+      // The id is created while the lookup that missed it is still running
+      negativeCache.invalidate(Object.class, CONFIG, List.of(ID));
+      return missing();
+    }));
+
+    assertEquals("created", negativeCache.get(Object.class, CONFIG, ID, () -> "created"));
+  }
+
+  @Test
+  void writeDropsMissingId() {
+    assertNull(negativeCache.get(Object.class, CONFIG, ID, this::missing));
+
+    negativeCache.invalidate(Object.class, CONFIG, List.of(ID));
+
+    assertEquals("created", negativeCache.get(Object.class, CONFIG, ID, () -> "created"));
+  }
+
+  private String missing() {
+    loads.incrementAndGet();
+    return null;
+  }
+}
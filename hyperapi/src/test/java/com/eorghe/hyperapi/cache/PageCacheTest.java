@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import static com.eorghe.hyperapi.cache.CacheFixtures.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eorghe.hyperapi.cache.CacheFixtures.Concurrent;
+import com.eorghe.hyperapi.processor.annotations.Cache;
+import com.eorghe.hyperapi.query.QuerySpec;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PageCache}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class PageCacheTest {
+
+  private static final PageKey PAGE = PageKey.offset(0, 20, null, QuerySpec.NONE);
+
+  private static final Cache CONFIG = CacheFixtures.cache(Map.of("maximumPages", 100L));
+
+  private SingleFlight singleFlight;
+
+  private PageCache pageCache;
+
+  @BeforeEach
+  void setUp() {
+    singleFlight = new SingleFlight();
+    singleFlight.loadTimeout = Duration.ofSeconds(CacheFixtures.TIMEOUT_SECONDS);
+    pageCache = new PageCache();
+    pageCache.singleFlight = singleFlight;
+    pageCache.transactionRegistry = CacheFixtures.noTransaction();
+  }
+
+  @Test
+  void concurrentMissesLoadOnce() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    Concurrent<List<String>> misses = new Concurrent<>(8,
+        () -> pageCache.get(Object.class, CONFIG, PAGE, () -> {
+          loads.incrementAndGet();
+          await(release);
+          return List.of("a", "b");
+        }));
+
+    misses.awaitParked();
+    release.countDown();
+
+    assertEquals(Collections.nCopies(8, List.of("a", "b")), misses.results());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void writeDuringLoadIsNotServedAfterIt() {
+    assertEquals(List.of("old"), pageCache.get(Object.class, CONFIG, PAGE, () -> {
+      // A write commits while the page is being read
+      pageCache.invalidate(Object.class);
+      return List.of("old");
+    }));
+
+    assertEquals(List.of("new"), pageCache.get(Object.class, CONFIG, PAGE, () -> List.of("new")));
+  }
+
+  @Test
+  void timedOutWaiterLoadsWithoutCaching() throws Exception {
+    singleFlight.loadTimeout = Duration.ofMillis(50);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Concurrent<List<String>> slow = new Concurrent<>(1,
+        () -> pageCache.get(Object.class, CONFIG, PAGE, () -> {
+          loading.countDown();
+          await(release);
+          return List.of("slow");
+        }));
+    assertTrue(loading.await(CacheFixtures.TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    assertEquals(List.of("own"), pageCache.get(Object.class, CONFIG, PAGE, () -> List.of("own")));
+
+    release.countDown();
+    assertEquals(List.of(List.of("slow")), slow.results());
+    assertEquals(List.of("slow"), pageCache.get(Object.class, CONFIG, PAGE, () -> List.of("reloaded")));
+  }
+}
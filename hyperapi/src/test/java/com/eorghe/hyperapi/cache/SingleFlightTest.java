@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.cache;
+
+import static com.eorghe.hyperapi.cache.CacheFixtures.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.eorghe.hyperapi.cache.CacheFixtures.Concurrent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SingleFlight}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class SingleFlightTest {
+
+  private static final String KEY = "key";
+
+  private SingleFlight singleFlight;
+
+  private AsyncCache<String, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    singleFlight = new SingleFlight();
+    singleFlight.loadTimeout = Duration.ofSeconds(CacheFixtures.TIMEOUT_SECONDS);
+    cache = Caffeine.newBuilder().buildAsync();
+  }
+
+  @Test
+  void concurrentMissesLoadOnce() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    Concurrent<String> misses = new Concurrent<>(8, () -> singleFlight.get(cache, KEY, () -> {
+      loads.incrementAndGet();
+      await(release);
+      return "value";
+    }));
+
+    misses.awaitParked();
+    release.countDown();
+
+    assertEquals(Collections.nCopies(8, "value"), misses.results());
+    assertEquals(1, loads.get());
+    assertEquals("value", singleFlight.get(cache, KEY, () -> "reloaded"));
+  }
+
+  @Test
+  void invalidationDuringLoadIsNotCached() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Concurrent<String> load = new Concurrent<>(1, () -> singleFlight.get(cache, KEY, () -> {
+      loading.countDown();
+      await(release);
+      return "old";
+    }));
+    assertTrue(loading.await(CacheFixtures.TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    cache.synchronous().invalidate(KEY);
+    release.countDown();
+
+    assertEquals(List.of("old"), load.results());
+    assertEquals("new", singleFlight.get(cache, KEY, () -> "new"));
+  }
+
+  @Test
+  void timedOutWaiterLoadsWithoutCaching() throws Exception {
+    singleFlight.loadTimeout = Duration.ofMillis(50);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Concurrent<String> slow = new Concurrent<>(1, () -> singleFlight.get(cache, KEY, () -> {
+      loading.countDown();
+      await(release);
+      return "slow";
+    }));
+    assertTrue(loading.await(CacheFixtures.TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    assertEquals("own", singleFlight.get(cache, KEY, () -> "own"));
+
+    release.countDown();
+    assertEquals(List.of("slow"), slow.results());
+    assertEquals("slow", cache.synchronous().getIfPresent(KEY));
+  }
+
+  @Test
+  void notAdmittedMissIsNotCached() {
+    assertEquals("value", singleFlight.get(cache, KEY, () -> "value", false));
+    assertEquals(0, cache.synchronous().estimatedSize());
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.eorghe.hyperapi.codec.sample.dto.SampleDTO;
+import com.eorghe.hyperapi.codec.sample.dto.SampleDTOJsonCodec;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the generated {@link JsonCodec} of a sample DTO against JSON-B, which it must match byte
+ * for byte.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class JsonCodecsTest {
+
+  private Jsonb jsonb;
+
+  private JsonCodecs codecs;
+
+  private JsonCodecProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    jsonb = JsonbBuilder.create();
+    codecs = JsonCodecs.of(jsonb, new SampleDTOJsonCodec());
+    provider = new JsonCodecProvider();
+    provider.codecs = codecs;
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    jsonb.close();
+  }
+
+  @Test
+  void writesLikeJsonb() throws IOException {
+    SampleDTO dto = sample("Desk");
+
+    assertEquals(jsonb.toJson(dto), codecs.toJson(dto));
+    assertArrayEquals(jsonbBytes(dto), write(dto));
+  }
+
+  @Test
+  void writesListsLikeJsonb() throws IOException {
+    SampleDTO empty = new SampleDTO();
+    List<SampleDTO> page = List.of(sample("Desk"), empty, sample("Chair"));
+
+    assertArrayEquals(jsonbBytes(page), write(page));
+  }
+
+  @Test
+  void escapesLikeJsonb() throws IOException {
+    SampleDTO dto = sample("quote \" backslash \\ slash / \b\f\n\r\t \u0000\u001f\u007f é € 😀  ");
+
+    assertEquals(jsonb.toJson(dto), codecs.toJson(dto));
+    assertArrayEquals(jsonbBytes(dto), write(dto));
+  }
+
+  @Test
+  void encodesLoneSurrogatesLikeJsonb() throws IOException {
+    // A lone surrogate cannot be encoded in UTF-8; both sides replace it with '?'
+    for (String name : List.of("a\uD800b", "\uDC00", "end \uD83D", "\uDE00\uD83D")) {
+      SampleDTO dto = sample(name);
+
+      assertArrayEquals(jsonbBytes(dto), write(dto), name);
+    }
+  }
+
+  @Test
+  void readsWhatJsonbWrites() throws IOException {
+    SampleDTO dto = sample("Desk 😀 \"new\"");
+    byte[] json = jsonbBytes(dto);
+
+    SampleDTO read = (SampleDTO) read(json, SampleDTO.class);
+
+    assertEquals(jsonb.toJson(jsonb.fromJson(new String(json, StandardCharsets.UTF_8), SampleDTO.class)),
+        jsonb.toJson(read));
+    assertEquals(jsonb.toJson(dto), jsonb.toJson(read));
+  }
+
+  @Test
+  void readsDatesLikeJsonb() throws IOException {
+    String json = """
+        {"createdOn":"2023-11-14T22:13:20.123Z[UTC]","releasedOn":"2024-02-29",
+         "updatedAt":"2024-03-01T08:15:30.5","shippedAt":"2024-03-01T10:15:30+02:00",
+         "seenAt":"2024-03-01T08:15:30.000000001Z"}""";
+
+    SampleDTO read = (SampleDTO) read(json.getBytes(StandardCharsets.UTF_8), SampleDTO.class);
+
+    assertEquals(jsonb.toJson(jsonb.fromJson(json, SampleDTO.class)), jsonb.toJson(read));
+  }
+
+  @Test
+  void rejectsNumbersOutOfRangeLikeJsonb() {
+    for (String json : List.of("{\"rank\":32768}", "{\"rank\":-32769}")) {
+      assertRejectedAsOutOfRange(json);
+      assertThrows(JsonbException.class, () -> jsonb.fromJson(json, SampleDTO.class), json);
+    }
+  }
+
+  @Test
+  void rejectsNumbersJsonbWouldWrap() {
+    // JSON-B wraps int and long overflows and truncates fractions; the codec refuses them
+    assertEquals(Integer.MIN_VALUE, jsonb.fromJson("{\"stock\":2147483648}", SampleDTO.class).getStock());
+    assertEquals(1, jsonb.fromJson("{\"stock\":1.5}", SampleDTO.class).getStock());
+
+    for (String json : List.of("{\"stock\":2147483648}", "{\"stock\":-2147483649}",
+        "{\"id\":9223372036854775808}", "{\"stock\":1.5}", "{\"rank\":1e9}")) {
+      assertRejectedAsOutOfRange(json);
+    }
+  }
+
+  @Test
+  void acceptsNumbersAtTheBounds() throws IOException {
+    String json = "{\"rank\":-32768,\"stock\":2147483647,\"id\":-9223372036854775808,\"weight\":1e308}";
+
+    SampleDTO read = (SampleDTO) read(json.getBytes(StandardCharsets.UTF_8), SampleDTO.class);
+
+    assertEquals(jsonb.toJson(jsonb.fromJson(json, SampleDTO.class)), jsonb.toJson(read));
+  }
+
+  @Test
+  void rejectsMistypedValues() {
+    for (String json : List.of("{\"stock\":\"1\"}", "{\"name\":1}", "{\"active\":\"true\"}",
+        "{\"sku\":\"not-a-uuid\"}", "{\"releasedOn\":\"2024-02-30\"}", "[1]")) {
+      assertThrows(BadRequestException.class,
+          () -> read(json.getBytes(StandardCharsets.UTF_8), SampleDTO.class), json);
+    }
+  }
+
+  private void assertRejectedAsOutOfRange(String json) {
+    BadRequestException error = assertThrows(BadRequestException.class,
+        () -> read(json.getBytes(StandardCharsets.UTF_8), SampleDTO.class), json);
+    assertInstanceOf(ArithmeticException.class, error.getCause(), json);
+  }
+
+  private static SampleDTO sample(String name) {
+    SampleDTO dto = new SampleDTO();
+    dto.setId(Long.MIN_VALUE);
+    dto.setCreatedBy("tester");
+    dto.setCreatedOn(new Date(1_700_000_000_123L));
+    dto.setName(name);
+    dto.setPrice(new BigDecimal("-12345678901234567890.000123"));
+    dto.setStock(Integer.MAX_VALUE);
+    dto.setRank(Short.MIN_VALUE);
+    dto.setActive(true);
+    dto.setWeight(1.0E-7);
+    dto.setSku(new UUID(-1L, 42L));
+    dto.setReleasedOn(LocalDate.of(2024, 2, 29));
+    dto.setUpdatedAt(LocalDateTime.of(2024, 3, 1, 8, 15, 30, 500_000_000));
+    dto.setShippedAt(OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.ofHours(2)));
+    dto.setSeenAt(Instant.ofEpochSecond(1_709_280_930L, 1));
+    dto.setTags(List.of("a", "b \"c\""));
+    return dto;
+  }
+
+  private byte[] jsonbBytes(Object value) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    jsonb.toJson(value, stream);
+    return stream.toByteArray();
+  }
+
+  private byte[] write(Object value) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    provider.writeTo(value, value.getClass(), listType(value), null, MediaType.APPLICATION_JSON_TYPE,
+        null, stream);
+    return stream.toByteArray();
+  }
+
+  private Object read(byte[] json, Class<?> type) throws IOException {
+    @SuppressWarnings("unchecked")
+    Class<Object> raw = (Class<Object>) type;
+    return provider.readFrom(raw, type, null, MediaType.APPLICATION_JSON_TYPE, null,
+        new ByteArrayInputStream(json));
+  }
+
+  private static Type listType(Object value) {
+    return value instanceof List<?>
+        ? new ArrayList<SampleDTO>() { }.getClass().getGenericSuperclass()
+        : value.getClass();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.codec.sample;
+
+import com.eorghe.hyperapi.model.HyperEntity;
+import com.eorghe.hyperapi.processor.annotations.HyperResource;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The sample entity of the codec tests; the annotation processor generates its DTO and codecs.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+@Getter
+@Setter
+@Entity
+@HyperResource(path = "/api/samples", repositoryPackage = "repositories")
+public class Sample extends HyperEntity {
+
+  /**
+   * A free text, for escaping.
+   */
+  private String name;
+
+  /**
+   * An arbitrary-precision number.
+   */
+  private BigDecimal price;
+
+  /**
+   * A primitive int.
+   */
+  private int stock;
+
+  /**
+   * A boxed short, for range checks.
+   */
+  private Short rank;
+
+  /**
+   * A primitive boolean.
+   */
+  private boolean active;
+
+  /**
+   * A boxed double.
+   */
+  private Double weight;
+
+  /**
+   * A UUID, written as a string.
+   */
+  private UUID sku;
+
+  /**
+   * A date without time.
+   */
+  private LocalDate releasedOn;
+
+  /**
+   * A date-time without offset.
+   */
+  private LocalDateTime updatedAt;
+
+  /**
+   * A date-time with offset.
+   */
+  private OffsetDateTime shippedAt;
+
+  /**
+   * An instant.
+   */
+  private Instant seenAt;
+
+  /**
+   * A collection, written and read through JSON-B.
+   */
+  @ElementCollection
+  private List<String> tags;
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.eorghe.hyperapi.query.CompiledQuery;
+import com.eorghe.hyperapi.query.FilterClause;
+import com.eorghe.hyperapi.query.FilterOperator;
+import com.eorghe.hyperapi.query.QueryTemplate;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the filtered counts of {@link CountCache}.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class CountCacheTest {
+
+  private static final QueryTemplate STATUS = new QueryTemplate("e.status = ?1", "", List.of(String.class));
+
+  private CountCache countCache;
+
+  @BeforeEach
+  void setUp() {
+    countCache = new CountCache();
+    countCache.ttl = Duration.ofMinutes(1);
+    countCache.maximumFiltered = 100;
+    countCache.transactionRegistry = (TransactionSynchronizationRegistry) Proxy.newProxyInstance(
+        TransactionSynchronizationRegistry.class.getClassLoader(),
+        new Class<?>[]{TransactionSynchronizationRegistry.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getTransactionStatus")) {
+            return Status.STATUS_NO_TRANSACTION;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    countCache.init();
+  }
+
+  @Test
+  void filteredCountIsKeyedByValues() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertEquals(3, countCache.get(Object.class, status("OPEN"), () -> loads.incrementAndGet() * 3L));
+    assertEquals(3, countCache.get(Object.class, status("OPEN"), () -> loads.incrementAndGet() * 3L));
+    assertEquals(6, countCache.get(Object.class, status("PAID"), () -> loads.incrementAndGet() * 3L));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void updateDropsFilteredCounts() {
+    countCache.get(Object.class, status("OPEN"), () -> 3);
+    countCache.get(String.class, status("OPEN"), () -> 5);
+
+    countCache.invalidateFiltered(Object.class);
+
+    assertEquals(4, countCache.get(Object.class, status("OPEN"), () -> 4));
+    assertEquals(5, countCache.get(String.class, status("OPEN"), () -> 6));
+  }
+
+  @Test
+  void createOrDeleteDropsAllCounts() {
+    countCache.get(Object.class, () -> 10);
+    countCache.get(Object.class, status("OPEN"), () -> 3);
+
+    countCache.invalidate(Object.class);
+
+    assertEquals(11, countCache.get(Object.class, () -> 11));
+    assertEquals(4, countCache.get(Object.class, status("OPEN"), () -> 4));
+  }
+
+  private static CompiledQuery status(String value) {
+    return new CompiledQuery(STATUS, List.of(new FilterClause("status", FilterOperator.EQ, value)));
+  }
+}
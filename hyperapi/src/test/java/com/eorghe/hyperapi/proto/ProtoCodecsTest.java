@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dorin Brage
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.eorghe.hyperapi.proto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.eorghe.hyperapi.codec.sample.dto.SampleDTO;
+import com.eorghe.hyperapi.codec.sample.dto.SampleDTOProtoCodec;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.BadRequestException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the generated {@link ProtoCodec} of a sample DTO against hand-encoded Protocol Buffers
+ * wire bytes.
+ *
+ * @author Dorin Brage
+ * @version 0.5.1
+ * @since 0.5.1
+ */
+class ProtoCodecsTest {
+
+  /**
+   * The primitive fields every message carries: `stock = 0` (18) and `active = false` (20).
+   */
+  private static final String PRIMITIVES = "9001 00 a001 00";
+
+  /**
+   * The empty `tags` list a new DTO holds, written as the JSON document `[]` (27).
+   */
+  private static final String TAGS = "da01 02 5b5d";
+
+  private Jsonb jsonb;
+
+  private ProtoCodecProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    jsonb = JsonbBuilder.create();
+    provider = new ProtoCodecProvider();
+    provider.codecs = ProtoCodecs.of(jsonb, new SampleDTOProtoCodec());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    jsonb.close();
+  }
+
+  @Test
+  void writesVarints() throws IOException {
+    SampleDTO dto = new SampleDTO();
+    dto.setId(150L);
+
+    assertArrayEquals(bytes("18 9601", PRIMITIVES, TAGS), write(dto));
+
+    dto.setId(Long.MIN_VALUE);
+    dto.setStock(-1);
+    dto.setRank((short) -2);
+    dto.setActive(true);
+
+    // Negative int32 values are sign-extended to ten bytes, as protoc does
+    assertArrayEquals(bytes("18 80808080808080808001", "9001 ffffffffffffffffff01",
+        "9801 feffffffffffffffff01", "a001 01", TAGS), write(dto));
+  }
+
+  @Test
+  void writesFixedWidthNumbers() throws IOException {
+    SampleDTO dto = new SampleDTO();
+    dto.setWeight(1.0);
+
+    assertArrayEquals(bytes(PRIMITIVES, "a901 000000000000f03f", TAGS), write(dto));
+  }
+
+  @Test
+  void prefixesStringsWithTheirUtf8Length() throws IOException {
+    SampleDTO dto = new SampleDTO();
+    dto.setName("testing");
+
+    assertArrayEquals(bytes("8201 07 74657374696e67", PRIMITIVES, TAGS), write(dto));
+
+    dto.setName("é€😀");
+
+    assertArrayEquals(bytes("8201 09 c3a9 e282ac f09f9880", PRIMITIVES, TAGS), write(dto));
+
+    dto.setName("x".repeat(300));
+
+    assertArrayEquals(bytes("8201 ac02", "78".repeat(300), PRIMITIVES, TAGS), write(dto));
+  }
+
+  @Test
+  void encodesLoneSurrogatesLikeStringGetBytes() throws IOException {
+    for (String name : List.of("a\uD800b", "\uDC00", "end \uD83D", "\uDE00\uD83D")) {
+      SampleDTO dto = new SampleDTO();
+      dto.setName(name);
+      byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+      byte[] expected = concat(bytes("8201"), new byte[] {(byte) utf8.length}, utf8,
+          bytes(PRIMITIVES, TAGS));
+
+      assertArrayEquals(expected, write(dto), name);
+    }
+  }
+
+  @Test
+  void writesListsAsEmbeddedMessages() throws IOException {
+    SampleDTO small = new SampleDTO();
+    small.setId(1L);
+    SampleDTO large = sample("x".repeat(200));
+    List<SampleDTO> page = Arrays.asList(small, null, large);
+
+    byte[] smallBytes = write(small);
+    byte[] largeBytes = write(large);
+    byte[] expected = concat(bytes("0a"), varint(smallBytes.length), smallBytes,
+        bytes("0a"), varint(largeBytes.length), largeBytes);
+
+    assertEquals(2, varint(largeBytes.length).length);
+    assertArrayEquals(expected, write(page));
+  }
+
+  @Test
+  void writesMessagesLargerThanTheInitialBuffer() throws IOException {
+    List<SampleDTO> page = List.of(sample("x".repeat(3000)), sample("y".repeat(300_000)),
+        sample("z"));
+
+    assertEquals(json(page), json(read(write(page), List.class)));
+    assertEquals(json(sample("z")), json(read(write(sample("z")), SampleDTO.class)));
+  }
+
+  @Test
+  void readsWhatItWrites() throws IOException {
+    SampleDTO dto = sample("Desk 😀 \"new\"");
+
+    assertEquals(json(dto), json(read(write(dto), SampleDTO.class)));
+
+    List<SampleDTO> page = List.of(sample("Desk"), new SampleDTO(), sample("Chair"));
+
+    assertEquals(json(page), json(read(write(page), List.class)));
+  }
+
+  @Test
+  void skipsUnknownFields() throws IOException {
+    SampleDTO dto = sample("Desk");
+    // Fields 100 to 103 as varint, fixed64, length-delimited and fixed32
+    byte[] unknown = bytes("a006 ffffffffffffffffff01", "a906 0102030405060708",
+        "b206 03 616263", "bd06 01020304");
+
+    assertEquals(json(dto), json(read(concat(unknown, write(dto), unknown), SampleDTO.class)));
+
+    byte[] item = concat(unknown, write(dto));
+    byte[] page = concat(unknown, bytes("0a"), varint(item.length), item, unknown);
+
+    assertEquals(json(List.of(dto)), json(read(page, List.class)));
+  }
+
+  @Test
+  void keepsEmbeddedFieldsWithinTheirMessage() throws IOException {
+    // The second item is empty; the name after it belongs to the list, not to the item
+    byte[] page = bytes("0a 04 8201 0161", "0a 00", "8201 0162");
+
+    List<?> read = (List<?>) read(page, List.class);
+
+    assertEquals(2, read.size());
+    assertEquals("a", ((SampleDTO) read.get(0)).getName());
+    assertEquals(null, ((SampleDTO) read.get(1)).getName());
+  }
+
+  @Test
+  void rejectsMalformedMessages() throws IOException {
+    byte[] valid = write(sample("Desk"));
+
+    assertRejected(Arrays.copyOf(valid, valid.length - 1), SampleDTO.class);
+    // Varint longer than ten bytes
+    assertRejected(bytes("18 ffffffffffffffffffff01"), SampleDTO.class);
+    // Length beyond the end of the message
+    assertRejected(bytes("8201 05 6162"), SampleDTO.class);
+    // Embedded message longer than the list
+    assertRejected(bytes("0a 05 18 01"), List.class);
+    // Length beyond the end of the embedded message
+    assertRejected(bytes("0a 04 8201 0561", "6263"), List.class);
+    // Field number 0
+    assertRejected(bytes("00 01"), SampleDTO.class);
+    // Unsupported wire types 3 and 4, the deprecated groups
+    assertRejected(bytes("1b"), SampleDTO.class);
+  }
+
+  @Test
+  void rejectsMismatchedWireTypes() {
+    // Each would otherwise read as a value: id 0, name "", eight bytes of weight, an empty item
+    assertRejected(bytes("1a 00"), SampleDTO.class);
+    assertRejected(bytes("8001 00"), SampleDTO.class);
+    assertRejected(bytes("ad01 0000803f", "18 01 18 01"), SampleDTO.class);
+    assertRejected(bytes("08 00"), List.class);
+  }
+
+  private void assertRejected(byte[] message, Class<?> type) {
+    assertThrows(BadRequestException.class, () -> read(message, type),
+        HexFormat.of().formatHex(message));
+  }
+
+  private static SampleDTO sample(String name) {
+    SampleDTO dto = new SampleDTO();
+    dto.setId(Long.MIN_VALUE);
+    dto.setCreatedBy("tester");
+    dto.setCreatedOn(new Date(-1_700_000_000_123L));
+    dto.setName(name);
+    dto.setPrice(new BigDecimal("-12345678901234567890.000123"));
+    dto.setStock(Integer.MIN_VALUE);
+    dto.setRank(Short.MAX_VALUE);
+    dto.setActive(true);
+    dto.setWeight(-1.0E-7);
+    dto.setSku(new UUID(-1L, 42L));
+    dto.setReleasedOn(LocalDate.of(2024, 2, 29));
+    dto.setUpdatedAt(LocalDateTime.of(2024, 3, 1, 8, 15, 30, 500_000_000));
+    dto.setShippedAt(OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.ofHours(2)));
+    dto.setSeenAt(Instant.ofEpochSecond(1_709_280_930L, 1));
+    dto.setTags(List.of("a", "b \"c\""));
+    return dto;
+  }
+
+  private String json(Object value) {
+    return jsonb.toJson(value);
+  }
+
+  private byte[] write(Object value) throws IOException {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    provider.writeTo(value, value.getClass(), genericType(value.getClass()), null,
+        ProtoCodecProvider.APPLICATION_PROTOBUF_TYPE, null, stream);
+    return stream.toByteArray();
+  }
+
+  private Object read(byte[] message, Class<?> type) throws IOException {
+    @SuppressWarnings("unchecked")
+    Class<Object> raw = (Class<Object>) type;
+    return provider.readFrom(raw, genericType(type), null,
+        ProtoCodecProvider.APPLICATION_PROTOBUF_TYPE, null, new ByteArrayInputStream(message));
+  }
+
+  private static Type genericType(Class<?> type) {
+    return Collection.class.isAssignableFrom(type)
+        ? new ArrayList<SampleDTO>() { }.getClass().getGenericSuperclass()
+        : type;
+  }
+
+  private static byte[] bytes(String... hex) {
+    return HexFormat.of().parseHex(String.join("", hex).replace(" ", ""));
+  }
+
+  private static byte[] varint(int value) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    while ((value & ~0x7F) != 0) {
+      stream.write(value & 0x7F | 0x80);
+      value >>>= 7;
+    }
+    stream.write(value);
+    return stream.toByteArray();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      stream.writeBytes(part);
+    }
+    return stream.toByteArray();
+  }
+}